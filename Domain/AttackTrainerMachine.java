@@ -59,7 +59,7 @@ public class AttackTrainerMachine extends Machine {
 
     @Override
     public Movement chooseMove(Pokemon pokemon) {
-        if (pokemon == null || pokemon.getMoves().isEmpty()) {
+        if (pokemon == null || pokemon.moveCount() == 0) {
             return null;
         }
         
@@ -68,11 +68,11 @@ public class AttackTrainerMachine extends Machine {
     }
     
     private Movement chooseMostPowerfulMove(Pokemon myPokemon, Pokemon opponentPokemon) {
-        ArrayList<Movement> moves = myPokemon.getMoves();
         Movement bestMove = null;
         int highestValue = -1;
         
-        for (Movement move : moves) {
+        for (int i = 0; i < myPokemon.moveCount(); i++) {
+            Movement move = myPokemon.moveAt(i);
             int attackValue = evaluateOffensiveMoveValue(move, myPokemon, opponentPokemon);
             if (attackValue > highestValue) {
                 highestValue = attackValue;
@@ -80,7 +80,7 @@ public class AttackTrainerMachine extends Machine {
             }
         }
         
-        return bestMove != null ? bestMove : moves.get(0);
+        return bestMove != null ? bestMove : myPokemon.moveAt(0);
     }
     
     private int evaluateOffensiveMoveValue(Movement move, Pokemon myPokemon, Pokemon opponentPokemon) {
@@ -129,11 +129,11 @@ public class AttackTrainerMachine extends Machine {
     }
     
     private Pokemon findBetterAttacker(Pokemon currentPokemon, Pokemon opponentPokemon) {
-        ArrayList<Pokemon> available = getAvailablePokemon();
         Pokemon bestAttacker = currentPokemon;
         int highestAttackValue = evaluateOffensiveValue(currentPokemon, opponentPokemon);
         
-        for (Pokemon pokemon : available) {
+        for (int alive = getAliveMask(); alive != 0; alive &= alive - 1) {
+            Pokemon pokemon = team.get(Integer.numberOfTrailingZeros(alive));
             if (pokemon != currentPokemon) {
                 int attackValue = evaluateOffensiveValue(pokemon, opponentPokemon);
                 if (attackValue > highestAttackValue) {
@@ -156,17 +156,15 @@ public class AttackTrainerMachine extends Machine {
         
         // Bonificación si tiene ventaja de tipo contra el oponente
         Type myType = pokemon.getPrimaryType();
-        double effectiveness = myType.calculateMultiplier(opponent.getPrimaryType());
-        if (opponent.getSecondaryType() != null) {
-            effectiveness *= myType.calculateMultiplier(opponent.getSecondaryType());
-        }
+        double effectiveness = myType.calculateMultiplier(opponent.getPrimaryType(), opponent.getSecondaryType());
         
         if (effectiveness > 1.0) {
             value += (int)((effectiveness - 1.0) * 100); // Bonificación por efectividad
         }
         
         // Evaluar potencial de los movimientos
-        for (Movement move : pokemon.getMoves()) {
+        for (int i = 0; i < pokemon.moveCount(); i++) {
+            Movement move = pokemon.moveAt(i);
             if (move.getPower() > 80) {
                 value += 20; // Bonificación por movimientos poderosos
             }
@@ -176,11 +174,11 @@ public class AttackTrainerMachine extends Machine {
     }
     
     private Pokemon chooseMostOffensivePokemon(Pokemon opponentPokemon) {
-        ArrayList<Pokemon> available = getAvailablePokemon();
         Pokemon bestAttacker = null;
         int highestOffenseValue = -1;
         
-        for (Pokemon pokemon : available) {
+        for (int alive = getAliveMask(); alive != 0; alive &= alive - 1) {
+            Pokemon pokemon = team.get(Integer.numberOfTrailingZeros(alive));
             int offenseValue = evaluateOffensiveValue(pokemon, opponentPokemon);
             if (offenseValue > highestOffenseValue) {
                 highestOffenseValue = offenseValue;
@@ -199,7 +197,8 @@ public class AttackTrainerMachine extends Machine {
     
     private Item chooseOffensiveItem() {
         // Priorizar objetos curativos para mantener la ofensiva
-        for (Item item : getAvailableItems()) {
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
             if (item instanceof Potion) {
                 return item;
             }
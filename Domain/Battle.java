@@ -1,6 +1,10 @@
 package Domain;
 
+import java.util.ArrayList;
+
 public abstract class Battle {
+    private static final ArrayList<Item> NO_ITEMS = new ArrayList<>(); // Bolsa vacía compartida (no se modifica)
+    
     protected Pokemon pokemonPlayer1;
     protected Pokemon pokemonPlayer2;
     protected Character player1;
@@ -8,14 +12,30 @@ public abstract class Battle {
     protected Character winner;
     protected boolean battleEnded;
     protected int currentTurn; // 1 para player1, 2 para player2
+    protected RandomSource random; // Toda la aleatoriedad de la batalla sale de aquí
+    protected BattleEventLog events; // Eventos de la batalla; la interfaz y los registros se suscriben aquí
     
     public Battle(Pokemon pokemonPlayer1, Pokemon pokemonPlayer2, Character player1, Character player2) {
+        this(pokemonPlayer1, pokemonPlayer2, player1, player2, new RandomSource());
+    }
+    
+    /**
+     * Constructor con fuente de aleatoriedad propia (para batallas reproducibles)
+     * @param random Fuente de aleatoriedad de la batalla
+     */
+    public Battle(Pokemon pokemonPlayer1, Pokemon pokemonPlayer2, Character player1, Character player2, RandomSource random) {
         this.pokemonPlayer1 = pokemonPlayer1;
         this.pokemonPlayer2 = pokemonPlayer2;
         this.player1 = player1;
         this.player2 = player2;
         this.battleEnded = false;
         this.currentTurn = 1; // Comienza player1
+        this.random = random;
+        this.events = new BattleEventLog();
+        player1.setEvents(events);
+        player2.setEvents(events);
+        join(pokemonPlayer1);
+        join(pokemonPlayer2);
     }
     
     // Métodos abstractos que cada tipo de batalla debe implementar
@@ -24,6 +44,29 @@ public abstract class Battle {
     public abstract void executeAttack(Movement move);
     public abstract void useItem(Item item);
     public abstract void switchPokemon(Pokemon newPokemon);
+    protected abstract ArrayList<Pokemon> getTeamOf(int playerNumber);
+    
+    /**
+     * Objetos que un jugador puede usar en esta batalla
+     * @param playerNumber 1 o 2
+     * @return Bolsa del jugador (vacía si la batalla no permite objetos)
+     */
+    protected ArrayList<Item> getBagOf(int playerNumber) {
+        return NO_ITEMS;
+    }
+    
+    /**
+     * Enteros de estado propios del tipo de batalla que guardan las instantáneas
+     */
+    protected int getExtraStateSize() {
+        return 0;
+    }
+    
+    protected void writeExtraState(int[] data, int offset) {
+    }
+    
+    protected void readExtraState(int[] data, int offset) {
+    }
     
     // Métodos comunes para todas las batallas
     public void switchTurn() {
@@ -42,8 +85,220 @@ public abstract class Battle {
         return currentTurn == 1 ? pokemonPlayer2 : pokemonPlayer1;
     }
     
+    public Character getOpponentPlayer() {
+        return currentTurn == 1 ? player2 : player1;
+    }
+    
+    // ============ MÉTODOS AUXILIARES DE COMBATE ============
+    
+    protected boolean isPokemonAvailable(Pokemon pokemon) {
+        return pokemon != null && pokemon.isAvailable();
+    }
+    
+    protected boolean canUseMove(Pokemon attacker, Movement move) {
+        return move != null && attacker.canUseMove(move) && move.canBeUsed(attacker, random);
+    }
+    
+    /**
+     * Resuelve un ataque: consume PP, tira precisión y daño y aplica el efecto del movimiento
+     * @param attacker Pokémon atacante
+     * @param defender Pokémon defensor
+     * @param move Movimiento usado
+     */
+    protected void applyDamage(Pokemon attacker, Pokemon defender, Movement move) {
+        attacker.usePP(move);
+        
+        if (!move.doesHit(attacker, defender, random)) {
+            events.emit(BattleEventType.MOVE_MISSED, attacker, move);
+            return;
+        }
+        
+        int damage = attacker.calculateDamage(move, defender, random);
+        if (damage > 0) {
+            defender.takeDamage(damage);
+        }
+        
+        if (defender.isAvailable()) {
+            move.applySpecialEffect(attacker, defender, random);
+        }
+    }
+    
+    protected void applyItemEffect(Item item, Pokemon targetPokemon) {
+        item.use(targetPokemon);
+    }
+    
+    protected void updateActivePokemon(Pokemon newPokemon, int playerNumber) {
+        join(newPokemon);
+        if (playerNumber == 1) {
+            pokemonPlayer1 = newPokemon;
+            events.emit(BattleEventType.SWITCHED, player1, newPokemon);
+        } else {
+            pokemonPlayer2 = newPokemon;
+            events.emit(BattleEventType.SWITCHED, player2, newPokemon);
+        }
+    }
+    
+    protected void endBattle(Character winner) {
+        if (!battleEnded) {
+            events.emit(BattleEventType.BATTLE_ENDED, winner);
+        }
+        this.winner = winner;
+        this.battleEnded = true;
+    }
+    
+    /**
+     * Publica el inicio de la batalla y los Pokémon que abren cada lado
+     */
+    protected void announceStart() {
+        events.emit(BattleEventType.BATTLE_STARTED, player1, player2);
+        events.emit(BattleEventType.SWITCHED, player1, pokemonPlayer1);
+        events.emit(BattleEventType.SWITCHED, player2, pokemonPlayer2);
+    }
+    
+    /**
+     * Hace que un Pokémon publique sus eventos en el flujo de esta batalla
+     * @param pokemon Pokémon que entra en la batalla
+     */
+    protected void join(Pokemon pokemon) {
+        if (pokemon != null) {
+            pokemon.setEvents(events);
+        }
+    }
+    
+    // ============ INSTANTÁNEAS ============
+    
+    /**
+     * Captura el estado mutable de la batalla
+     * @return Instantánea nueva
+     */
+    public BattleSnapshot snapshot() {
+        BattleSnapshot snapshot = new BattleSnapshot();
+        snapshot(snapshot);
+        return snapshot;
+    }
+    
+    /**
+     * Captura el estado mutable de la batalla sobre una instantánea existente.
+     * No crea objetos si la instantánea ya tiene espacio suficiente.
+     * @param snapshot Instantánea que se sobrescribe
+     */
+    public void snapshot(BattleSnapshot snapshot) {
+        ArrayList<Pokemon> team1 = getTeamOf(1);
+        ArrayList<Pokemon> team2 = getTeamOf(2);
+        ArrayList<Item> bag1 = getBagOf(1);
+        ArrayList<Item> bag2 = getBagOf(2);
+        int extraSize = getExtraStateSize();
+        snapshot.ensureCapacity(extraSize, team1.size() + team2.size(), bag1.size(), bag2.size());
+        snapshot.battle = this;
+        
+        int[] data = snapshot.data;
+        data[BattleSnapshot.TURN] = currentTurn;
+        data[BattleSnapshot.ENDED] = battleEnded ? 1 : 0;
+        data[BattleSnapshot.WINNER] = winner == null ? 0 : (winner == player1 ? 1 : 2);
+        data[BattleSnapshot.ACTIVE] = indexOf(team1, pokemonPlayer1);
+        data[BattleSnapshot.ACTIVE + 1] = indexOf(team2, pokemonPlayer2);
+        data[BattleSnapshot.TEAM_SIZE] = team1.size();
+        data[BattleSnapshot.TEAM_SIZE + 1] = team2.size();
+        data[BattleSnapshot.BAG_SIZE] = bag1.size();
+        data[BattleSnapshot.BAG_SIZE + 1] = bag2.size();
+        data[BattleSnapshot.EXTRA_SIZE] = extraSize;
+        writeExtraState(data, BattleSnapshot.HEADER);
+        
+        for (int player = 1; player <= 2; player++) {
+            ArrayList<Pokemon> team = player == 1 ? team1 : team2;
+            for (int i = 0; i < team.size(); i++) {
+                Pokemon pokemon = team.get(i);
+                int offset = snapshot.pokemonOffset(player, i);
+                data[offset + BattleSnapshot.HP] = pokemon.getPs();
+                data[offset + BattleSnapshot.STAGES] = pokemon.packStatStages();
+                data[offset + BattleSnapshot.STATUS] = pokemon.getStatusMask();
+                data[offset + BattleSnapshot.PP] = pokemon.getPPState();
+            }
+            ArrayList<Item> bag = player == 1 ? bag1 : bag2;
+            Item[] items = snapshot.bags[player - 1];
+            for (int i = 0; i < bag.size(); i++) {
+                items[i] = bag.get(i);
+            }
+        }
+    }
+    
+    /**
+     * Devuelve la batalla al estado de una instantánea, sin publicar eventos
+     * ni crear Pokémon nuevos
+     * @param snapshot Instantánea tomada de esta misma batalla
+     * @throws IllegalArgumentException Si la instantánea es de otra batalla o los equipos cambiaron
+     */
+    public void restore(BattleSnapshot snapshot) {
+        ArrayList<Pokemon> team1 = getTeamOf(1);
+        ArrayList<Pokemon> team2 = getTeamOf(2);
+        int[] data = snapshot.data;
+        if (snapshot.battle != this) {
+            throw new IllegalArgumentException("La instantánea no es de esta batalla");
+        }
+        if (data[BattleSnapshot.TEAM_SIZE] != team1.size() || data[BattleSnapshot.TEAM_SIZE + 1] != team2.size()) {
+            throw new IllegalArgumentException("Los equipos cambiaron desde la instantánea");
+        }
+        
+        currentTurn = data[BattleSnapshot.TURN];
+        battleEnded = data[BattleSnapshot.ENDED] != 0;
+        int savedWinner = data[BattleSnapshot.WINNER];
+        winner = savedWinner == 0 ? null : (savedWinner == 1 ? player1 : player2);
+        pokemonPlayer1 = team1.get(data[BattleSnapshot.ACTIVE]);
+        pokemonPlayer2 = team2.get(data[BattleSnapshot.ACTIVE + 1]);
+        readExtraState(data, BattleSnapshot.HEADER);
+        
+        for (int player = 1; player <= 2; player++) {
+            ArrayList<Pokemon> team = player == 1 ? team1 : team2;
+            for (int i = 0; i < team.size(); i++) {
+                Pokemon pokemon = team.get(i);
+                int offset = snapshot.pokemonOffset(player, i);
+                pokemon.setPs(data[offset + BattleSnapshot.HP]);
+                pokemon.unpackStatStages(data[offset + BattleSnapshot.STAGES]);
+                pokemon.setStatusMask(data[offset + BattleSnapshot.STATUS]);
+                pokemon.setPPState(data[offset + BattleSnapshot.PP]);
+            }
+            ArrayList<Item> bag = getBagOf(player);
+            if (bag != NO_ITEMS) {
+                Item[] items = snapshot.bags[player - 1];
+                bag.clear();
+                for (int i = 0; i < data[BattleSnapshot.BAG_SIZE + player - 1]; i++) {
+                    bag.add(items[i]);
+                }
+            }
+        }
+    }
+    
+    private static int indexOf(ArrayList<Pokemon> team, Pokemon pokemon) {
+        for (int i = 0; i < team.size(); i++) {
+            if (team.get(i) == pokemon) {
+                return i;
+            }
+        }
+        throw new IllegalStateException(pokemon + " no está en su equipo");
+    }
+    
+    // ============ MÉTODOS DE INFORMACIÓN ============
+    
+    public void displayBattleStatus() {
+        System.out.println("=== ESTADO DE LA BATALLA ===");
+        System.out.println(player1.getName() + ": " + pokemonPlayer1);
+        System.out.println(player2.getName() + ": " + pokemonPlayer2);
+        System.out.println("Turno de: " + getCurrentPlayer().getName());
+        System.out.println("============================");
+    }
+    
+    public void displayAvailableActions() {
+        System.out.println("=== ACCIONES DISPONIBLES ===");
+        System.out.println("1. Atacar");
+        System.out.println("2. Usar objeto");
+        System.out.println("3. Cambiar Pokémon");
+        System.out.println("============================");
+    }
+    
     // Getters y Setters
     public Character getWinner() { return winner; }
     public boolean isBattleEnded() { return battleEnded; }
     public int getCurrentTurn() { return currentTurn; }
+    public RandomSource getRandomSource() { return random; }
+    public BattleEventLog getEvents() { return events; }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package Domain;
+
+/**
+ * Evento tipado de una batalla.
+ * Guarda referencias a los participantes y un valor numérico; el texto para
+ * mostrarlo solo se construye al llamar a describe().
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class BattleEvent {
+    private final long sequence;
+    private final BattleEventType type;
+    private final Object subject;
+    private final Object detail;
+    private final int value;
+
+    public BattleEvent(long sequence, BattleEventType type, Object subject, Object detail, int value) {
+        this.sequence = sequence;
+        this.type = type;
+        this.subject = subject;
+        this.detail = detail;
+        this.value = value;
+    }
+
+    /**
+     * Construye el texto del evento tal como se narraba en consola
+     * @return Descripción del evento
+     */
+    public String describe() {
+        String who = nameOf(subject);
+        String what = nameOf(detail);
+        switch (type) {
+            case BATTLE_STARTED:
+                return "=== INICIANDO BATALLA: " + who + " vs " + what + " ===";
+            case BATTLE_ENDED:
+                return subject != null ? "¡" + who + " ha ganado la batalla!" : "La batalla ha terminado sin ganador.";
+            case MOVE_USED:
+                return who + " usa " + what + "!";
+            case MOVE_FAILED:
+                return who + " no puede usar " + what;
+            case MOVE_MISSED:
+                return "¡El ataque de " + who + " ha fallado!";
+            case MOVE_LEARNED:
+                return who + " ha aprendido " + what + "!";
+            case DAMAGE_DEALT:
+                return who + " recibe " + value + " puntos de daño!";
+            case HEALED:
+                return value > 0 ? who + " recupera " + value + " puntos de HP!" : who + " ya tiene el HP al máximo!";
+            case REVIVED:
+                return who + " ha sido revivido con " + value + " HP!";
+            case FAINTED:
+                return who + " se ha debilitado!";
+            case STAT_STAGE_CHANGED:
+                return "¡El " + statName(detail) + " de " + who + " " + (value > 0 ? "aumenta" : "disminuye")
+                        + (Math.abs(value) > 1 ? " mucho" : "") + "!";
+            case STAT_STAGES_RESET:
+                return "¡Los cambios de estadísticas de " + who + " vuelven a la normalidad!";
+            case STATUS_APPLIED:
+                return who + " está " + statusName(detail) + "!";
+            case STATUS_CURED:
+                return detail != null ? who + " se ha curado de " + statusName(detail) + "!"
+                                      : "¡Los efectos de estado de " + who + " han desaparecido!";
+            case ITEM_USED:
+                return "Usando " + what + " en " + who + "...";
+            case SWITCHED:
+                return who + " envía a " + what + "!";
+            case AI_THINKING:
+            case MESSAGE:
+            default:
+                return subject != null ? who + " " + what : what;
+        }
+    }
+
+    private static String statName(Object stat) {
+        if (stat instanceof Stat) {
+            return ((Stat) stat).getDisplayName();
+        }
+        Stat known = Stat.fromKey(String.valueOf(stat));
+        return known != null ? known.getDisplayName() : String.valueOf(stat);
+    }
+    
+    private static String statusName(Object status) {
+        if (status instanceof StatusCondition) {
+            return ((StatusCondition) status).getDisplayName();
+        }
+        StatusCondition known = StatusCondition.fromKey(String.valueOf(status));
+        return known != null ? known.getDisplayName() : String.valueOf(status);
+    }
+    
+    private static String nameOf(Object participant) {
+        if (participant instanceof Pokemon) {
+            return ((Pokemon) participant).getName();
+        } else if (participant instanceof Character) {
+            return ((Character) participant).getName();
+        } else if (participant instanceof Movement) {
+            return ((Movement) participant).getName();
+        } else if (participant instanceof Item) {
+            return ((Item) participant).getName();
+        }
+        return String.valueOf(participant);
+    }
+
+    // ============ GETTERS ============
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public BattleEventType getType() {
+        return type;
+    }
+
+    public Object getSubject() {
+        return subject;
+    }
+
+    public Object getDetail() {
+        return detail;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+}
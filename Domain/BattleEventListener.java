@@ -0,0 +1,26 @@
+package Domain;
+
+/**
+ * Suscriptor de los eventos de una batalla (interfaz gráfica, registros, etc.)
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public interface BattleEventListener {
+
+    /**
+     * Recibe un evento recién publicado
+     * @param event Evento de la batalla
+     */
+    void onEvent(BattleEvent event);
+
+    /**
+     * Suscriptor que escribe la descripción de cada evento en un registro de texto
+     * @param log Destino del texto (por ejemplo BattleLog.CONSOLE)
+     * @return Suscriptor que narra la batalla
+     */
+    static BattleEventListener printingTo(BattleLog log) {
+        return event -> log.message(event.describe());
+    }
+}
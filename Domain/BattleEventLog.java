@@ -0,0 +1,150 @@
+package Domain;
+
+/**
+ * Flujo de eventos de una batalla.
+ * Los eventos se guardan en un buffer circular de tamaño fijo como arreglos
+ * paralelos, así que publicar sin suscriptores no reserva memoria ni construye
+ * texto. Solo cuando hay suscriptores se crea el BattleEvent que reciben.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class BattleEventLog {
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /** Flujo que descarta todo; lo usan los participantes que no están en batalla */
+    public static final BattleEventLog NONE = new BattleEventLog(0);
+
+    private static final BattleEventListener[] NO_LISTENERS = new BattleEventListener[0];
+
+    private final BattleEventType[] types;
+    private final Object[] subjects;
+    private final Object[] details;
+    private final int[] values;
+    private final int mask;
+    private long sequence;
+    private BattleEventListener[] listeners;
+
+    public BattleEventLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity Eventos que se conservan (se redondea a potencia de 2; 0 descarta todo)
+     */
+    public BattleEventLog(int capacity) {
+        int size = capacity <= 0 ? 0 : Integer.highestOneBit(Math.max(1, capacity - 1) << 1);
+        this.types = new BattleEventType[size];
+        this.subjects = new Object[size];
+        this.details = new Object[size];
+        this.values = new int[size];
+        this.mask = size - 1;
+        this.listeners = NO_LISTENERS;
+    }
+
+    // ============ PUBLICACIÓN ============
+
+    /**
+     * Publica un evento
+     * @param type Tipo de evento
+     * @param subject Participante principal
+     * @param detail Dato asociado (movimiento, objeto, estadística, texto...)
+     * @param value Valor numérico asociado (daño, HP, cambio de etapa...)
+     */
+    public void emit(BattleEventType type, Object subject, Object detail, int value) {
+        if (mask < 0) {
+            return;
+        }
+        int slot = (int) (sequence & mask);
+        types[slot] = type;
+        subjects[slot] = subject;
+        details[slot] = detail;
+        values[slot] = value;
+        long eventSequence = sequence++;
+
+        BattleEventListener[] current = listeners;
+        if (current.length != 0) {
+            BattleEvent event = new BattleEvent(eventSequence, type, subject, detail, value);
+            for (BattleEventListener listener : current) {
+                listener.onEvent(event);
+            }
+        }
+    }
+
+    public void emit(BattleEventType type, Object subject, Object detail) {
+        emit(type, subject, detail, 0);
+    }
+
+    public void emit(BattleEventType type, Object subject) {
+        emit(type, subject, null, 0);
+    }
+
+    // ============ SUSCRIPTORES ============
+
+    public synchronized void subscribe(BattleEventListener listener) {
+        if (mask < 0 || listener == null) {
+            return;
+        }
+        BattleEventListener[] updated = new BattleEventListener[listeners.length + 1];
+        System.arraycopy(listeners, 0, updated, 0, listeners.length);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    public synchronized void unsubscribe(BattleEventListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                BattleEventListener[] updated = new BattleEventListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, listeners.length - i - 1);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    public boolean hasListeners() {
+        return listeners.length != 0;
+    }
+
+    // ============ CONSULTA ============
+
+    /**
+     * @return Eventos conservados en el buffer
+     */
+    public int size() {
+        return (int) Math.min(sequence, mask + 1L);
+    }
+
+    /**
+     * @return Total de eventos publicados desde el inicio
+     */
+    public long getEventCount() {
+        return sequence;
+    }
+
+    /**
+     * Obtiene uno de los eventos conservados
+     * @param index 0 para el más antiguo conservado, size() - 1 para el más reciente
+     * @return El evento
+     */
+    public BattleEvent get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Evento " + index + " fuera del buffer");
+        }
+        long eventSequence = sequence - size() + index;
+        int slot = (int) (eventSequence & mask);
+        return new BattleEvent(eventSequence, types[slot], subjects[slot], details[slot], values[slot]);
+    }
+
+    /**
+     * Reenvía los eventos conservados a un suscriptor (por ejemplo, al abrir la vista de la batalla)
+     * @param listener Suscriptor que recibe los eventos
+     */
+    public void replay(BattleEventListener listener) {
+        for (int i = 0; i < size(); i++) {
+            listener.onEvent(get(i));
+        }
+    }
+}
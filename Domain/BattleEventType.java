@@ -0,0 +1,29 @@
+package Domain;
+
+/**
+ * Tipos de evento que publica una batalla
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public enum BattleEventType {
+    BATTLE_STARTED,     // sujeto: jugador 1, detalle: jugador 2
+    BATTLE_ENDED,       // sujeto: ganador (null si empate)
+    MOVE_USED,          // sujeto: Pokémon, detalle: movimiento
+    MOVE_FAILED,        // sujeto: Pokémon, detalle: movimiento
+    MOVE_MISSED,        // sujeto: Pokémon, detalle: movimiento
+    MOVE_LEARNED,       // sujeto: Pokémon, detalle: movimiento
+    DAMAGE_DEALT,       // sujeto: Pokémon que recibe, valor: daño
+    HEALED,             // sujeto: Pokémon, valor: HP recuperados (0 si ya estaba al máximo)
+    REVIVED,            // sujeto: Pokémon, valor: HP con los que revive
+    FAINTED,            // sujeto: Pokémon
+    STAT_STAGE_CHANGED, // sujeto: Pokémon, detalle: estadística, valor: cambio
+    STAT_STAGES_RESET,  // sujeto: Pokémon
+    STATUS_APPLIED,     // sujeto: Pokémon, detalle: estado
+    STATUS_CURED,       // sujeto: Pokémon, detalle: estado (null si se curan todos)
+    ITEM_USED,          // sujeto: Pokémon, detalle: objeto
+    SWITCHED,           // sujeto: jugador, detalle: Pokémon que entra
+    AI_THINKING,        // sujeto: máquina, detalle: texto
+    MESSAGE             // sujeto: participante (o null), detalle: texto
+}
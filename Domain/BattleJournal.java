@@ -0,0 +1,255 @@
+package Domain;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Diario de turnos de una partida: un archivo al que solo se añaden registros
+ * de tamaño fijo, uno por acción resuelta, con el estado de la aleatoriedad de
+ * la batalla justo antes de la acción. Junto con la última instantánea
+ * completa (.pkmn) permite reconstruir la partida tras un cierre inesperado
+ * repitiendo las acciones posteriores a ella.
+ *
+ * Cada registro lleva su CRC32; al abrir el diario se descarta lo que haya
+ * después del último registro válido (una escritura a medias). Los registros
+ * se sincronizan con el disco por lotes, así que un fallo pierde como mucho
+ * las últimas SYNC_BATCH acciones.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class BattleJournal implements Closeable {
+    public static final String EXTENSION = ".journal";
+    public static final int SYNC_BATCH = 8; // Registros entre sincronizaciones con el disco
+
+    // Tipos de acción
+    public static final byte ATTACK = 1;
+    public static final byte ITEM = 2;
+    public static final byte SWITCH = 3;
+
+    private static final int MAGIC = 0x504B4A4E; // "PKJN"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 8; // MAGIC, versión, tamaño de registro
+    // Secuencia (int), tipo (byte), jugador (byte), argumento (short), aleatoriedad (long), CRC32 (int)
+    static final int RECORD_SIZE = 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+    private long nextSequence;
+    private int unsynced;
+
+    private BattleJournal(FileChannel channel, long nextSequence) {
+        this.channel = channel;
+        this.nextSequence = nextSequence;
+    }
+
+    // ============ APERTURA ============
+
+    /**
+     * Abre (o crea) un diario para seguir añadiendo acciones
+     * @param file Archivo del diario
+     * @param firstSequence Secuencia de la primera acción si el diario está vacío
+     * @return Diario listo para añadir
+     * @throws IOException Si no se puede abrir o no es un diario
+     */
+    public static BattleJournal open(Path file, long firstSequence) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            List<Entry> entries = new ArrayList<>();
+            long end = readEntries(channel, entries, file, true);
+            long next = entries.isEmpty() ? firstSequence : entries.get(entries.size() - 1).sequence + 1;
+            channel.truncate(end); // Descartar un registro escrito a medias
+            channel.position(end);
+            return new BattleJournal(channel, Math.max(next, firstSequence));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Lee los registros válidos de un diario, sin modificarlo
+     * @param file Archivo del diario
+     * @return Registros en orden (vacío si el archivo no existe)
+     * @throws IOException Si no se puede leer o no es un diario
+     */
+    public static List<Entry> read(Path file) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        if (!file.toFile().exists()) {
+            return entries;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            readEntries(channel, entries, file, false);
+        }
+        return entries;
+    }
+
+    /**
+     * Valida la cabecera y lee los registros hasta el primero dañado
+     * @param writable Si la cabecera falta o quedó a medias, escribirla
+     * @return Posición justo después del último registro válido
+     */
+    private static long readEntries(FileChannel channel, List<Entry> entries, Path file, boolean writable)
+            throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (channel.size() < HEADER_SIZE) {
+            // Diario nuevo, o creado justo antes de un fallo
+            if (writable) {
+                header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE).flip();
+                channel.truncate(0);
+                writeFully(channel, header, 0);
+                channel.force(false);
+            }
+            return HEADER_SIZE;
+        }
+        channel.read(header, 0);
+        header.flip();
+        if (header.getInt() != MAGIC || header.getShort() > VERSION || header.getShort() != RECORD_SIZE) {
+            throw new IOException("No es un diario de partida: " + file);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(channel.size() - HEADER_SIZE, Integer.MAX_VALUE));
+        while (buffer.hasRemaining() && channel.read(buffer, HEADER_SIZE + buffer.position()) > 0) {
+            // Leer hasta el final
+        }
+        buffer.flip();
+        CRC32 crc = new CRC32();
+        long end = HEADER_SIZE;
+        while (buffer.remaining() >= RECORD_SIZE) {
+            int start = buffer.position();
+            crc.reset();
+            crc.update(buffer.array(), start, RECORD_SIZE - Integer.BYTES);
+            Entry entry = new Entry(buffer.getInt() & 0xFFFFFFFFL, buffer.get(), buffer.get(), buffer.getShort(),
+                    buffer.getLong());
+            boolean valid = buffer.getInt() == (int) crc.getValue();
+            if (!valid || (!entries.isEmpty() && entry.sequence != entries.get(entries.size() - 1).sequence + 1)) {
+                break; // Registro a medias o de otra sesión: lo demás no se puede repetir
+            }
+            entries.add(entry);
+            end += RECORD_SIZE;
+        }
+        return end;
+    }
+
+    // ============ ESCRITURA ============
+
+    /**
+     * Añade una acción resuelta
+     * @param kind ATTACK, ITEM o SWITCH
+     * @param player Jugador que actuó (1 o 2)
+     * @param argument Ranura del movimiento, posición del objeto en la bolsa o del Pokémon en el equipo
+     * @param randomState Estado de la aleatoriedad de la batalla antes de la acción
+     * @return Secuencia de la acción
+     * @throws IOException Si no se puede escribir
+     */
+    public long append(byte kind, int player, int argument, long randomState) throws IOException {
+        long sequence = nextSequence++;
+        record.clear();
+        record.putInt((int) sequence).put(kind).put((byte) player).putShort((short) argument).putLong(randomState);
+        crc.reset();
+        crc.update(record.array(), 0, RECORD_SIZE - Integer.BYTES);
+        record.putInt((int) crc.getValue());
+        record.flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        if (++unsynced >= SYNC_BATCH) {
+            sync();
+        }
+        return sequence;
+    }
+
+    /**
+     * Fuerza al disco los registros pendientes
+     */
+    public void sync() throws IOException {
+        if (unsynced > 0) {
+            channel.force(false);
+            unsynced = 0;
+        }
+    }
+
+    /**
+     * Vacía el diario tras guardar una instantánea completa; las acciones
+     * siguientes continúan la numeración
+     */
+    public void reset() throws IOException {
+        channel.truncate(HEADER_SIZE);
+        channel.position(HEADER_SIZE);
+        channel.force(false);
+        unsynced = 0;
+    }
+
+    /**
+     * @return Secuencia que tendrá la próxima acción
+     */
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    // ============ REGISTROS ============
+
+    /**
+     * Una acción del diario
+     */
+    public static final class Entry {
+        private final long sequence;
+        private final byte kind;
+        private final byte player;
+        private final short argument;
+        private final long randomState;
+
+        private Entry(long sequence, byte kind, byte player, short argument, long randomState) {
+            this.sequence = sequence;
+            this.kind = kind;
+            this.player = player;
+            this.argument = argument;
+            this.randomState = randomState;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public byte getKind() {
+            return kind;
+        }
+
+        public int getPlayer() {
+            return player;
+        }
+
+        public int getArgument() {
+            return argument;
+        }
+
+        public long getRandomState() {
+            return randomState;
+        }
+    }
+}
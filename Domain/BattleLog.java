@@ -0,0 +1,21 @@
+package Domain;
+
+/**
+ * Destino de texto para la narración de una batalla.
+ * Se conecta al flujo de eventos con BattleEventListener.printingTo; las
+ * simulaciones no suscriben nada y no generan texto.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public interface BattleLog {
+    BattleLog CONSOLE = System.out::println;
+    BattleLog SILENT = message -> { };
+
+    /**
+     * Registra un mensaje de la batalla
+     * @param message Mensaje a registrar
+     */
+    void message(String message);
+}
@@ -0,0 +1,61 @@
+package Domain;
+
+/**
+ * Resultado de una batalla simulada
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class BattleResult {
+    private final Character winner;
+    private final int winnerNumber;
+    private final int turns;
+    private final long seed;
+    private final boolean finished;
+
+    /**
+     * @param winner Ganador (null si hubo empate o se alcanzó el límite de turnos)
+     * @param winnerNumber 1 o 2 según el jugador que ganó, 0 si no hubo ganador
+     * @param turns Turnos jugados
+     * @param seed Semilla de la batalla
+     * @param finished false si la batalla se cortó por el límite de turnos
+     */
+    public BattleResult(Character winner, int winnerNumber, int turns, long seed, boolean finished) {
+        this.winner = winner;
+        this.winnerNumber = winnerNumber;
+        this.turns = turns;
+        this.seed = seed;
+        this.finished = finished;
+    }
+
+    public Character getWinner() {
+        return winner;
+    }
+
+    public int getWinnerNumber() {
+        return winnerNumber;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public boolean isDraw() {
+        return winnerNumber == 0;
+    }
+
+    @Override
+    public String toString() {
+        String result = winner != null ? "Gana " + winner.getName() : (finished ? "Empate" : "Sin terminar");
+        return result + " en " + turns + " turnos (semilla " + seed + ")";
+    }
+}
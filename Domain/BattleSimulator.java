@@ -0,0 +1,115 @@
+package Domain;
+
+import java.util.List;
+
+/**
+ * Simulador de batallas sin interfaz.
+ * Juega una batalla completa entre dos máquinas llamando a makeDecision de cada
+ * lado hasta que haya ganador, sin salida por consola ni clases de AWT.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public class BattleSimulator {
+    public static final int DEFAULT_MAX_TURNS = 1000;
+
+    private final int maxTurns;
+
+    public BattleSimulator() {
+        this(DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * @param maxTurns Límite de turnos antes de dar la batalla por no terminada
+     */
+    public BattleSimulator(int maxTurns) {
+        this.maxTurns = Math.max(1, maxTurns);
+    }
+
+    /**
+     * Simula una batalla normal con los equipos y objetos de cada máquina
+     * @param player1 Máquina del jugador 1
+     * @param player2 Máquina del jugador 2
+     * @param seed Semilla de la batalla
+     * @return Resultado de la batalla
+     */
+    public BattleResult simulateNormalBattle(Machine player1, Machine player2, long seed) {
+        List<Pokemon> team1 = requireTeam(player1);
+        List<Pokemon> team2 = requireTeam(player2);
+
+        NormalBattle battle = new NormalBattle(team1.get(0), team2.get(0), player1, player2, new RandomSource(seed));
+        for (int i = 1; i < team1.size(); i++) {
+            battle.addPokemonToTeam(team1.get(i), 1);
+        }
+        for (int i = 1; i < team2.size(); i++) {
+            battle.addPokemonToTeam(team2.get(i), 2);
+        }
+
+        for (Item item : player1.getItems()) {
+            battle.addItemToBag(item, 1);
+        }
+        for (Item item : player2.getItems()) {
+            battle.addItemToBag(item, 2);
+        }
+
+        return run(battle);
+    }
+
+    /**
+     * Simula una batalla de supervivencia (equipos de exactamente 6 Pokémon, sin objetos)
+     * @param player1 Máquina del jugador 1
+     * @param player2 Máquina del jugador 2
+     * @param seed Semilla de la batalla
+     * @return Resultado de la batalla
+     */
+    public BattleResult simulateSurvivalBattle(Machine player1, Machine player2, long seed) {
+        List<Pokemon> team1 = requireTeam(player1);
+        List<Pokemon> team2 = requireTeam(player2);
+        if (team1.size() != 6 || team2.size() != 6) {
+            throw new IllegalArgumentException("La batalla de supervivencia necesita equipos de 6 Pokémon");
+        }
+
+        SurvivalBattle battle = new SurvivalBattle(team1.get(0), team2.get(0), player1, player2, new RandomSource(seed));
+        battle.setTeams(team1, team2);
+
+        return run(battle);
+    }
+
+    /**
+     * Juega una batalla ya preparada hasta que termine o se alcance el límite de turnos.
+     * Sin suscriptores en battle.getEvents() la batalla no produce texto.
+     * @param battle Batalla a jugar
+     * @return Resultado de la batalla
+     */
+    public BattleResult run(Battle battle) {
+        battle.startBattle();
+
+        int turns = 0;
+        while (!battle.checkWinCondition() && turns < maxTurns) {
+            int turnBefore = battle.getCurrentTurn();
+            battle.getCurrentPlayer().makeDecision(battle);
+            turns++;
+
+            // Si la acción elegida no era válida el jugador pierde el turno
+            if (!battle.isBattleEnded() && battle.getCurrentTurn() == turnBefore) {
+                battle.switchTurn();
+            }
+        }
+
+        Character winner = battle.getWinner();
+        int winnerNumber = 0;
+        if (winner != null) {
+            winnerNumber = winner == battle.player1 ? 1 : 2;
+        }
+        return new BattleResult(winner, winnerNumber, turns, battle.getRandomSource().getSeed(), battle.isBattleEnded());
+    }
+
+    private List<Pokemon> requireTeam(Machine player) {
+        List<Pokemon> team = player.getTeam();
+        if (team.isEmpty()) {
+            throw new IllegalArgumentException(player.getName() + " no tiene Pokémon para batallar");
+        }
+        return team;
+    }
+}
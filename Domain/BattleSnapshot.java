@@ -0,0 +1,92 @@
+package Domain;
+
+/**
+ * Instantánea del estado mutable de una batalla: turno, fin y ganador, Pokémon
+ * activos, y por cada Pokémon de los equipos su HP, etapas, estados y PP.
+ * Todo se guarda en un solo arreglo de enteros; las bolsas guardan referencias
+ * a los objetos, que no cambian durante la batalla.
+ *
+ * Se obtiene con Battle.snapshot() y se aplica con Battle.restore(). Una misma
+ * instantánea puede reutilizarse con Battle.snapshot(BattleSnapshot): tras la
+ * primera captura no vuelve a reservar memoria.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class BattleSnapshot {
+    // Cabecera
+    static final int TURN = 0;
+    static final int ENDED = 1;
+    static final int WINNER = 2; // 0 ninguno, 1 o 2
+    static final int ACTIVE = 3; // Posición en el equipo del activo de cada jugador (3 y 4)
+    static final int TEAM_SIZE = 5; // Tamaño de cada equipo (5 y 6)
+    static final int BAG_SIZE = 7; // Objetos en cada bolsa (7 y 8)
+    static final int EXTRA_SIZE = 9; // Enteros propios del tipo de batalla
+    static final int HEADER = 10;
+
+    // Bloque de cada Pokémon
+    static final int HP = 0;
+    static final int STAGES = 1;
+    static final int STATUS = 2;
+    static final int PP = 3; // PP de las cuatro ranuras empaquetados
+    static final int POKEMON_STRIDE = 4;
+
+    Battle battle;
+    int[] data = new int[HEADER];
+    Item[][] bags = {new Item[0], new Item[0]};
+
+    BattleSnapshot() {
+    }
+
+    /**
+     * Reserva espacio para una batalla (solo crece, nunca encoge)
+     */
+    void ensureCapacity(int extraSize, int pokemonCount, int bag1Size, int bag2Size) {
+        int required = HEADER + extraSize + pokemonCount * POKEMON_STRIDE;
+        if (data.length < required) {
+            data = new int[required];
+        }
+        if (bags[0].length < bag1Size) {
+            bags[0] = new Item[bag1Size];
+        }
+        if (bags[1].length < bag2Size) {
+            bags[1] = new Item[bag2Size];
+        }
+    }
+
+    int pokemonOffset(int player, int index) {
+        int first = player == 1 ? 0 : data[TEAM_SIZE];
+        return HEADER + data[EXTRA_SIZE] + (first + index) * POKEMON_STRIDE;
+    }
+
+    // ============ CONSULTAS ============
+
+    /**
+     * @return Batalla de la que se tomó la instantánea (null si aún no se ha usado)
+     */
+    public Battle getBattle() {
+        return battle;
+    }
+
+    public int getTurn() {
+        return data[TURN];
+    }
+
+    /**
+     * @param player 1 o 2
+     * @param index Posición en el equipo
+     * @return HP guardado de ese Pokémon
+     */
+    public int getPs(int player, int index) {
+        return data[pokemonOffset(player, index) + HP];
+    }
+
+    /**
+     * @param player 1 o 2
+     * @return Posición en el equipo del Pokémon activo guardado
+     */
+    public int getActiveIndex(int player) {
+        return data[ACTIVE + player - 1];
+    }
+}
@@ -34,7 +34,7 @@ public class ChangeTrainerMachine extends Machine {
     @Override
     protected void executeAIDecision(int decision, Battle battle) {
         displayAIThinking();
-        System.out.println(name + " está analizando la efectividad de tipos...");
+        events.emit(BattleEventType.AI_THINKING, this, "está analizando la efectividad de tipos...");
         
         switch (decision) {
             case 1: // Atacar con movimiento más efectivo
@@ -54,7 +54,7 @@ public class ChangeTrainerMachine extends Machine {
             case 3: // Cambiar al mejor counter
                 Pokemon counterPokemon = findBestCounterPokemon(battle.getOpponentPokemon());
                 if (counterPokemon != null) {
-                    System.out.println(name + " cambia para obtener ventaja de tipo!");
+                    events.emit(BattleEventType.AI_THINKING, this, "cambia para obtener ventaja de tipo!");
                     battle.switchPokemon(counterPokemon);
                 }
                 break;
@@ -69,7 +69,7 @@ public class ChangeTrainerMachine extends Machine {
 
     @Override
     public Movement chooseMove(Pokemon pokemon) {
-        if (pokemon == null || pokemon.getMoves().isEmpty()) {
+        if (pokemon == null || pokemon.moveCount() == 0) {
             return null;
         }
         
@@ -78,11 +78,11 @@ public class ChangeTrainerMachine extends Machine {
     }
     
     private Pokemon findBestCounterPokemon(Pokemon opponentPokemon) {
-        ArrayList<Pokemon> available = getAvailablePokemon();
         Pokemon bestCounter = null;
         double bestEffectiveness = -1.0;
         
-        for (Pokemon pokemon : available) {
+        for (int alive = getAliveMask(); alive != 0; alive &= alive - 1) {
+            Pokemon pokemon = team.get(Integer.numberOfTrailingZeros(alive));
             double effectiveness = calculateMatchupValue(pokemon, opponentPokemon);
             if (effectiveness > bestEffectiveness) {
                 bestEffectiveness = effectiveness;
@@ -102,18 +102,12 @@ public class ChangeTrainerMachine extends Machine {
         Type opponentPrimaryType = opponentPokemon.getPrimaryType();
         Type opponentSecondaryType = opponentPokemon.getSecondaryType();
         
-        double offensiveEffectiveness = myPrimaryType.calculateMultiplier(opponentPrimaryType);
-        if (opponentSecondaryType != null) {
-            offensiveEffectiveness *= myPrimaryType.calculateMultiplier(opponentSecondaryType);
-        }
+        double offensiveEffectiveness = myPrimaryType.calculateMultiplier(opponentPrimaryType, opponentSecondaryType);
         
         // Calcular efectividad defensiva (qué tan bien resistimos al oponente)
         Type mySecondaryType = myPokemon.getSecondaryType();
         
-        double defensiveEffectiveness = opponentPrimaryType.calculateMultiplier(myPrimaryType);
-        if (mySecondaryType != null) {
-            defensiveEffectiveness *= opponentPrimaryType.calculateMultiplier(mySecondaryType);
-        }
+        double defensiveEffectiveness = opponentPrimaryType.calculateMultiplier(myPrimaryType, mySecondaryType);
         
         // Combinar ambas efectividades
         // Mayor peso a la efectividad ofensiva, pero también considerar defensa
@@ -134,14 +128,15 @@ public class ChangeTrainerMachine extends Machine {
     }
     
     private Movement chooseMostEffectiveMove(Pokemon myPokemon, Pokemon opponentPokemon) {
-        if (myPokemon.getMoves().isEmpty()) {
+        if (myPokemon.moveCount() == 0) {
             return null;
         }
         
         if (opponentPokemon == null) {
             // Si no conocemos al oponente, elegir el movimiento más poderoso
-            Movement strongestMove = myPokemon.getMoves().get(0);
-            for (Movement move : myPokemon.getMoves()) {
+            Movement strongestMove = myPokemon.moveAt(0);
+            for (int i = 0; i < myPokemon.moveCount(); i++) {
+                Movement move = myPokemon.moveAt(i);
                 if (move.getPower() > strongestMove.getPower()) {
                     strongestMove = move;
                 }
@@ -152,7 +147,8 @@ public class ChangeTrainerMachine extends Machine {
         Movement bestMove = null;
         double bestEffectiveness = -1.0;
         
-        for (Movement move : myPokemon.getMoves()) {
+        for (int i = 0; i < myPokemon.moveCount(); i++) {
+            Movement move = myPokemon.moveAt(i);
             double effectiveness = evaluateMoveEffectiveness(move, myPokemon, opponentPokemon);
             if (effectiveness > bestEffectiveness) {
                 bestEffectiveness = effectiveness;
@@ -160,7 +156,7 @@ public class ChangeTrainerMachine extends Machine {
             }
         }
         
-        return bestMove != null ? bestMove : myPokemon.getMoves().get(0);
+        return bestMove != null ? bestMove : myPokemon.moveAt(0);
     }
     
     private double evaluateMoveEffectiveness(Movement move, Pokemon myPokemon, Pokemon opponentPokemon) {
@@ -209,7 +205,8 @@ public class ChangeTrainerMachine extends Machine {
     
     private Item chooseStrategicItem(Pokemon myPokemon, Pokemon opponentPokemon) {
         // Elegir objeto basado en la situación estratégica
-        for (Item item : getAvailableItems()) {
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
             if (item instanceof Potion) {
                 return item;
             } else if (item instanceof Revive && needsRevive()) {
@@ -220,7 +217,8 @@ public class ChangeTrainerMachine extends Machine {
     }
     
     private boolean hasHealingItems() {
-        for (Item item : getAvailableItems()) {
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
             if (item instanceof Potion) {
                 return true;
             }
@@ -230,7 +228,8 @@ public class ChangeTrainerMachine extends Machine {
     
     private boolean needsRevive() {
         // Verificar si tenemos Pokémon debilitados que podrían ser útiles
-        for (Pokemon pokemon : getTeam()) {
+        for (int i = 0; i < team.size(); i++) {
+            Pokemon pokemon = team.get(i);
             if (pokemon.getPs() <= 0) {
                 return true;
             }
@@ -241,6 +240,6 @@ public class ChangeTrainerMachine extends Machine {
     @Override
     public void displayAIThinking() {
         super.displayAIThinking();
-        System.out.println("Analizando ventajas de tipo y buscando el mejor matchup...");
+        events.emit(BattleEventType.AI_THINKING, null, "Analizando ventajas de tipo y buscando el mejor matchup...");
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package Domain;
 import java.awt.*;
 import java.util.*;
+import java.util.List;
 
 public abstract class Character {
     protected String name;
@@ -10,6 +11,9 @@ public abstract class Character {
     protected ArrayList<Pokemon> team;
     protected int maxTeamSize;
     protected int maxItemCount;
+    protected BattleEventLog events; // Flujo de eventos de la batalla en la que participa
+    private final List<Pokemon> teamView; // Vistas de solo lectura para la IA y la interfaz
+    private final List<Item> itemView;
 
     public Character(String name, Image image, String description) {
         this.name = name;
@@ -17,8 +21,11 @@ public abstract class Character {
         this.description = description;
         this.items = new ArrayList<Item>();
         this.team = new ArrayList<Pokemon>();
+        this.teamView = Collections.unmodifiableList(team);
+        this.itemView = Collections.unmodifiableList(items);
         this.maxTeamSize = 6; // Máximo estándar de Pokémon
         this.maxItemCount = 10; // Máximo de objetos por defecto
+        this.events = BattleEventLog.NONE;
     }
 
     // ============ MÉTODOS ABSTRACTOS ============
@@ -34,10 +41,10 @@ public abstract class Character {
     public boolean addPokemon(Pokemon pokemon) {
         if (team.size() < maxTeamSize && pokemon != null) {
             team.add(pokemon);
-            System.out.println(name + " ha agregado a " + pokemon.getName() + " a su equipo.");
+            events.emit(BattleEventType.MESSAGE, this, "ha agregado a " + pokemon.getName() + " a su equipo.");
             return true;
         } else if (team.size() >= maxTeamSize) {
-            System.out.println("El equipo de " + name + " está lleno.");
+            events.emit(BattleEventType.MESSAGE, null, "El equipo de " + name + " está lleno.");
             return false;
         }
         return false;
@@ -46,10 +53,10 @@ public abstract class Character {
     public boolean removePokemon(Pokemon pokemon) {
         if (team.contains(pokemon)) {
             team.remove(pokemon);
-            System.out.println(name + " ha removido a " + pokemon.getName() + " de su equipo.");
+            events.emit(BattleEventType.MESSAGE, this, "ha removido a " + pokemon.getName() + " de su equipo.");
             return true;
         }
-        System.out.println(pokemon.getName() + " no está en el equipo de " + name + ".");
+        events.emit(BattleEventType.MESSAGE, pokemon, "no está en el equipo de " + name + ".");
         return false;
     }
     
@@ -73,7 +80,21 @@ public abstract class Character {
     }
     
     public boolean hasAvailablePokemon() {
-        return !getAvailablePokemon().isEmpty();
+        return getAliveMask() != 0;
+    }
+    
+    /**
+     * Pokémon en pie sin crear listas
+     * @return Bit i encendido si team.get(i) tiene HP (el equipo nunca pasa de 32)
+     */
+    public int getAliveMask() {
+        int mask = 0;
+        for (int i = 0; i < team.size(); i++) {
+            if (team.get(i).getPs() > 0) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
     }
     
     // ============ MÉTODOS DE GESTIÓN DE OBJETOS ============
@@ -81,10 +102,10 @@ public abstract class Character {
     public boolean addItem(Item item) {
         if (items.size() < maxItemCount && item != null) {
             items.add(item);
-            System.out.println(name + " ha obtenido " + item.getClass().getSimpleName() + ".");
+            events.emit(BattleEventType.MESSAGE, this, "ha obtenido " + item.getClass().getSimpleName() + ".");
             return true;
         } else if (items.size() >= maxItemCount) {
-            System.out.println("La bolsa de " + name + " está llena.");
+            events.emit(BattleEventType.MESSAGE, null, "La bolsa de " + name + " está llena.");
             return false;
         }
         return false;
@@ -103,15 +124,15 @@ public abstract class Character {
             // TODO: Implementar cuando tengamos el método en Item
             // item.applyEffect(targetPokemon);
             items.remove(item);
-            System.out.println(name + " usa " + item.getClass().getSimpleName() + " en " + targetPokemon.getName());
+            events.emit(BattleEventType.ITEM_USED, targetPokemon, item);
             return true;
         }
-        System.out.println(name + " no tiene ese objeto.");
+        events.emit(BattleEventType.MESSAGE, this, "no tiene ese objeto.");
         return false;
     }
     
-    public ArrayList<Item> getAvailableItems() {
-        return new ArrayList<>(items);
+    public List<Item> getAvailableItems() {
+        return itemView;
     }
     
     // ============ MÉTODOS DE INFORMACIÓN ============
@@ -157,12 +178,34 @@ public abstract class Character {
         return description;
     }
     
-    public ArrayList<Pokemon> getTeam() {
-        return new ArrayList<>(team);
+    public BattleEventLog getEvents() {
+        return events;
+    }
+    
+    public void setEvents(BattleEventLog events) {
+        this.events = events != null ? events : BattleEventLog.NONE;
+    }
+    
+    /**
+     * @return Vista de solo lectura del equipo (refleja los cambios posteriores)
+     */
+    public List<Pokemon> getTeam() {
+        return teamView;
+    }
+    
+    /**
+     * @return Vista de solo lectura de la bolsa (refleja los cambios posteriores)
+     */
+    public List<Item> getItems() {
+        return itemView;
+    }
+    
+    public Pokemon getPokemonAt(int index) {
+        return team.get(index);
     }
     
-    public ArrayList<Item> getItems() {
-        return new ArrayList<>(items);
+    public Item getItemAt(int index) {
+        return items.get(index);
     }
     
     public int getTeamSize() {
@@ -66,7 +66,7 @@ public class DefensiveTrainerMachine extends Machine {
 
     @Override
     public Movement chooseMove(Pokemon pokemon) {
-        if (pokemon == null || pokemon.getMoves().isEmpty()) {
+        if (pokemon == null || pokemon.moveCount() == 0) {
             return null;
         }
         
@@ -75,11 +75,14 @@ public class DefensiveTrainerMachine extends Machine {
     }
     
     private Movement chooseDefensiveMove(Pokemon myPokemon, Pokemon opponentPokemon) {
-        ArrayList<Movement> moves = myPokemon.getMoves();
         Movement bestMove = null;
         int highestPriority = -1;
         
-        for (Movement move : moves) {
+        for (int i = 0; i < myPokemon.moveCount(); i++) {
+            Movement move = myPokemon.moveAt(i);
+            if (!myPokemon.hasPP(move)) {
+                continue; // Sin PP el movimiento fallaría
+            }
             int priority = evaluateDefensiveMoveValue(move, myPokemon, opponentPokemon);
             if (priority > highestPriority) {
                 highestPriority = priority;
@@ -87,7 +90,7 @@ public class DefensiveTrainerMachine extends Machine {
             }
         }
         
-        return bestMove != null ? bestMove : moves.get(0);
+        return bestMove != null ? bestMove : myPokemon.moveAt(0);
     }
     
     private int evaluateDefensiveMoveValue(Movement move, Pokemon myPokemon, Pokemon opponentPokemon) {
@@ -114,21 +117,14 @@ public class DefensiveTrainerMachine extends Machine {
             value += 15;
         }
         
-        // Bonificación si es un movimiento de tipo defensivo común
-        String moveType = move.getClass().getSimpleName().toLowerCase();
-        if (moveType.contains("protect") || moveType.contains("defend") || 
-            moveType.contains("recover") || moveType.contains("heal")) {
-            value += 40;
-        }
-        
         return value;
     }
     
     private Movement chooseSafestMove(Pokemon pokemon) {
-        ArrayList<Movement> moves = pokemon.getMoves();
-        Movement safestMove = moves.get(0);
+        Movement safestMove = pokemon.moveAt(0);
         
-        for (Movement move : moves) {
+        for (int i = 1; i < pokemon.moveCount(); i++) {
+            Movement move = pokemon.moveAt(i);
             // Elegir el movimiento más preciso con poder moderado
             if (move.getAcurracy() > safestMove.getAcurracy() || 
                (move.getAcurracy() == safestMove.getAcurracy() && 
@@ -152,7 +148,7 @@ public class DefensiveTrainerMachine extends Machine {
         
         // Cambiar si el Pokémon actual es muy vulnerable al oponente
         if (isVulnerableToOpponent(current, opponent)) {
-            return getAvailablePokemon().size() > 1;
+            return Integer.bitCount(getAliveMask()) > 1;
         }
         
         return false;
@@ -165,20 +161,17 @@ public class DefensiveTrainerMachine extends Machine {
         Type opponentPrimaryType = opponentPokemon.getPrimaryType();
         
         // Si el oponente tiene ventaja de tipo, somos vulnerables
-        double effectiveness = opponentPrimaryType.calculateMultiplier(myPrimaryType);
-        if (mySecondaryType != null) {
-            effectiveness *= opponentPrimaryType.calculateMultiplier(mySecondaryType);
-        }
+        double effectiveness = opponentPrimaryType.calculateMultiplier(myPrimaryType, mySecondaryType);
         
         return effectiveness > 1.5; // Si recibimos más del 150% de daño
     }
     
     private Pokemon chooseMostDefensivePokemon(Pokemon opponentPokemon) {
-        ArrayList<Pokemon> available = getAvailablePokemon();
         Pokemon bestDefender = null;
         int highestDefenseValue = -1;
         
-        for (Pokemon pokemon : available) {
+        for (int alive = getAliveMask(); alive != 0; alive &= alive - 1) {
+            Pokemon pokemon = team.get(Integer.numberOfTrailingZeros(alive));
             int defenseValue = evaluateDefensiveValue(pokemon, opponentPokemon);
             if (defenseValue > highestDefenseValue) {
                 highestDefenseValue = defenseValue;
@@ -199,10 +192,7 @@ public class DefensiveTrainerMachine extends Machine {
         
         // Bonificación si resiste los ataques del oponente
         Type opponentType = opponent.getPrimaryType();
-        double resistance = opponentType.calculateMultiplier(pokemon.getPrimaryType());
-        if (pokemon.getSecondaryType() != null) {
-            resistance *= opponentType.calculateMultiplier(pokemon.getSecondaryType());
-        }
+        double resistance = opponentType.calculateMultiplier(pokemon.getPrimaryType(), pokemon.getSecondaryType());
         
         if (resistance < 1.0) {
             value += (int)((1.0 - resistance) * 100); // Bonificación por resistencia
@@ -212,7 +202,8 @@ public class DefensiveTrainerMachine extends Machine {
     }
     
     private Item chooseHealingItem() {
-        for (Item item : getAvailableItems()) {
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
             if (item instanceof Potion) {
                 return item;
             }
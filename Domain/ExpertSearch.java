@@ -0,0 +1,777 @@
+package Domain;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Búsqueda expectiminimax de ExpertTrainerMachine.
+ * Alterna nodos de la máquina (max) y del rival (min) con nodos de azar para la
+ * precisión y para tres tiradas de daño (85%, 92.5% y 100%). Los nodos de azar se
+ * podan con Star1 sobre hojas acotadas a [-1, 1] y las posiciones repetidas se
+ * resuelven con una tabla de transposición con claves Zobrist. La clave se calcula
+ * entera solo en la raíz; cada acción le aplica y le deshace su diferencia.
+ *
+ * Volver a una posición ya vista (en el camino o en la batalla real) cuenta como
+ * tablas: con turnos estrictamente alternos, cambiar de Pokémon sin fin es a veces
+ * lo único que evita perder, y así la máquina solo lo hace cuando no tiene nada mejor.
+ *
+ * Durante la búsqueda se modifican los HP reales de los Pokémon (el modelo de daño
+ * y las hojas los leen de ellos); al terminar la batalla vuelve a su instantánea.
+ * Las hojas no llaman a las heurísticas de la máquina, que crean listas y recorren
+ * equipos: usan el daño esperado de cada emparejamiento, calculado una vez por
+ * decisión.
+ * Solo se modelan las pociones de ambas bolsas; las etapas de estadísticas,
+ * los estados y los PP se toman como fijos.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+final class ExpertSearch {
+    static final int ACTION_MOVE = 0;
+    static final int ACTION_SWITCH = 1;
+    static final int ACTION_ITEM = 2;
+    static final int NO_ACTION = -1;
+
+    private static final double WIN = 1.0;
+    private static final double LOSS = -1.0;
+    private static final double LEAF_LIMIT = 0.99; // Las hojas nunca valen tanto como ganar o perder
+    private static final double[] ROLLS = {0.85, 0.925, 1.0};
+    private static final int MAX_ACTIONS = 16;
+    private static final int MAX_ITEMS = 31;
+    private static final int TIME_CHECK_MASK = 255;
+    private static final long NODE_BUDGET = 1L << 17; // Corte determinista por decisión
+    private static final double MATERIAL_WEIGHT = 0.9;
+    private static final double REPETITION = -0.05; // Repetir posición es tablas, algo peor para la máquina
+    private static final double MATCHUP_SCALE = 2.0; // Acciones de ventaja que valen tanh(1) en el emparejamiento
+    private static final double NO_PROGRESS = 20; // Acciones para debilitar a alguien a quien no se le hace daño
+
+    private static final AtomicLong SALT_SEQUENCE = new AtomicLong();
+    private static final ThreadLocal<TranspositionTable> TABLE = ThreadLocal.withInitial(TranspositionTable::new);
+
+    // Estado de la búsqueda; el lado 0 es la máquina y el lado 1 su rival
+    private Pokemon[][] teams;
+    private int[][] maxHp;
+    private Movement[][][] moves; // Movimientos utilizables por lado y posición
+    private double[][][] expectedHit; // Daño esperado del mejor ataque de cada Pokémon contra cada rival
+    private int[] active;
+    private Item[][] bagItems;
+    private int[][] itemHeal; // Curación de cada objeto de la bolsa de cada lado
+    private int[] itemMask; // Objetos que siguen en cada bolsa
+    private long[][] zobristHp;
+    private long[] zobristActive;
+    private long[][] zobristItem;
+    private long zobristSide;
+    private long salt; // Distingue en la tabla compartida las posiciones de cada máquina y batalla
+    private long hash; // Clave de la posición actual sin el lado al que le toca
+
+    private TranspositionTable table;
+    private long deadline;
+    private long nodes;
+    private boolean aborted;
+    private long[] path; // Claves de las posiciones del camino actual, por ply
+    private int rootDepth;
+    private Battle historyBattle;
+    private long[] history; // Conjunto (direccionamiento abierto) de posiciones de la batalla real
+    private int historySize;
+    private int[][] actionBuffers;
+    private double[][] probabilityBuffers; // Resultados de los nodos de azar, por profundidad
+    private int[][] hpBuffers;
+    private final BattleSnapshot saved = new BattleSnapshot(); // Estado real, restaurado al terminar
+
+    /**
+     * Busca la mejor acción para el jugador actual de la batalla
+     * @param battle Batalla en curso (le toca a la máquina)
+     * @param maxDepth Profundidad máxima en acciones (turnos de cualquiera de los lados)
+     * @param timeBudgetMillis Tiempo máximo; 0 o menos para buscar siempre hasta maxDepth
+     * @return Acción codificada (tipo << 8 | índice) o NO_ACTION si no hay ninguna
+     */
+    int findBestAction(Battle battle, int maxDepth, long timeBudgetMillis) {
+        int me = battle.getCurrentTurn();
+        int rival = me == 1 ? 2 : 1;
+        setUp(battle.getTeamOf(me), battle.getTeamOf(rival), battle.getBagOf(me), battle.getBagOf(rival),
+              battle.getCurrentPokemon(), battle.getOpponentPokemon());
+
+        if (battle != historyBattle) {
+            historyBattle = battle;
+            salt = new SplittableRandom(SALT_SEQUENCE.incrementAndGet()).nextLong();
+            history = new long[64];
+            historySize = 0;
+        }
+        hash = fullHash();
+        long rootKey = positionKey(0);
+        remember(rootKey);
+        path[0] = rootKey;
+
+        battle.snapshot(saved);
+        int[] rootActions = new int[MAX_ACTIONS];
+        int rootCount = generateActions(0, rootActions);
+        if (rootCount == 0) {
+            return NO_ACTION;
+        }
+
+        table = TABLE.get();
+        table.newSearch();
+        deadline = timeBudgetMillis > 0 ? System.nanoTime() + timeBudgetMillis * 1_000_000L : Long.MAX_VALUE;
+        nodes = 0;
+        aborted = false;
+
+        int bestAction = rootActions[0];
+        try {
+            for (int depth = 1; depth <= maxDepth && rootCount > 1; depth++) {
+                rootDepth = depth;
+                moveToFront(rootActions, rootCount, bestAction);
+                double alpha = LOSS;
+                int iterationBest = rootActions[0];
+                for (int i = 0; i < rootCount; i++) {
+                    double value = applyAction(0, rootActions[i], depth, alpha, WIN);
+                    if (aborted) {
+                        break;
+                    }
+                    if (value > alpha || i == 0) {
+                        alpha = Math.max(alpha, value);
+                        iterationBest = rootActions[i];
+                    }
+                }
+                if (aborted) {
+                    break;
+                }
+                bestAction = iterationBest;
+                if (alpha >= WIN) {
+                    break; // Victoria asegurada, no hace falta buscar más
+                }
+            }
+        } finally {
+            battle.restore(saved);
+        }
+        return bestAction;
+    }
+
+    // ============ PREPARACIÓN ============
+
+    private void setUp(ArrayList<Pokemon> myTeam, ArrayList<Pokemon> rivalTeam, ArrayList<Item> myBag, ArrayList<Item> rivalBag,
+                       Pokemon myActive, Pokemon rivalActive) {
+        teams = new Pokemon[][] {myTeam.toArray(new Pokemon[0]), rivalTeam.toArray(new Pokemon[0])};
+        maxHp = new int[2][];
+        moves = new Movement[2][][];
+        active = new int[2];
+        int largestHp = 0;
+        for (int side = 0; side < 2; side++) {
+            Pokemon[] team = teams[side];
+            maxHp[side] = new int[team.length];
+            moves[side] = new Movement[team.length][];
+            for (int i = 0; i < team.length; i++) {
+                maxHp[side][i] = team[i].getMaxPs();
+                largestHp = Math.max(largestHp, maxHp[side][i]);
+                moves[side][i] = usableMoves(team[i]);
+            }
+        }
+        active[0] = indexOf(teams[0], myActive);
+        active[1] = indexOf(teams[1], rivalActive);
+
+        // Las etapas de estadísticas no cambian en el modelo: el daño de cada emparejamiento tampoco
+        expectedHit = new double[2][][];
+        for (int side = 0; side < 2; side++) {
+            Pokemon[] rivals = teams[1 - side];
+            expectedHit[side] = new double[teams[side].length][rivals.length];
+            for (int i = 0; i < teams[side].length; i++) {
+                for (int j = 0; j < rivals.length; j++) {
+                    expectedHit[side][i][j] = bestExpectedHit(teams[side][i], moves[side][i], rivals[j]);
+                }
+            }
+        }
+
+        // Solo se modelan las pociones: en batalla los objetos se usan sobre el Pokémon activo
+        bagItems = new Item[][] {myBag.toArray(new Item[0]), rivalBag.toArray(new Item[0])};
+        itemHeal = new int[2][];
+        itemMask = new int[2];
+        for (int side = 0; side < 2; side++) {
+            itemHeal[side] = new int[Math.min(bagItems[side].length, MAX_ITEMS)];
+            for (int i = 0; i < itemHeal[side].length; i++) {
+                Item item = bagItems[side][i];
+                if ("heal".equals(item.getEffectType()) && item.getEffectValue() > 0) {
+                    itemHeal[side][i] = item.getEffectValue();
+                    itemMask[side] |= 1 << i;
+                }
+            }
+        }
+
+        buildZobrist(teams[0].length + teams[1].length, largestHp);
+        if (actionBuffers == null) {
+            actionBuffers = new int[64][MAX_ACTIONS];
+            probabilityBuffers = new double[64][ROLLS.length + 1];
+            hpBuffers = new int[64][ROLLS.length + 1];
+            path = new long[Byte.MAX_VALUE + 1];
+        }
+    }
+
+    private Movement[] usableMoves(Pokemon pokemon) {
+        ArrayList<Movement> usable = new ArrayList<>();
+        boolean hasStatusMove = false;
+        for (int i = 0; i < pokemon.moveCount(); i++) {
+            Movement move = pokemon.moveAt(i);
+            if (pokemon.getCurrentPP(i) == 0) {
+                continue;
+            }
+            // En el modelo los movimientos sin daño no cambian la posición: basta con uno
+            if (!Pokemon.dealsDamage(move)) {
+                if (hasStatusMove) {
+                    continue;
+                }
+                hasStatusMove = true;
+            }
+            usable.add(move);
+        }
+        return usable.toArray(new Movement[0]);
+    }
+
+    private static int indexOf(Pokemon[] team, Pokemon pokemon) {
+        for (int i = 0; i < team.length; i++) {
+            if (team[i] == pokemon) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private void buildZobrist(int slots, int largestHp) {
+        if (zobristHp == null || zobristHp.length < slots || zobristHp[0].length <= largestHp) {
+            // Claves fijas: la misma posición tiene siempre la misma clave
+            SplittableRandom keys = new SplittableRandom(0x5EED_2024L);
+            zobristHp = new long[Math.max(slots, 12)][largestHp + 1];
+            for (long[] row : zobristHp) {
+                for (int hp = 0; hp < row.length; hp++) {
+                    row[hp] = keys.nextLong();
+                }
+            }
+            zobristActive = new long[2 * 6 * 2];
+            for (int i = 0; i < zobristActive.length; i++) {
+                zobristActive[i] = keys.nextLong();
+            }
+            zobristItem = new long[2][MAX_ITEMS];
+            for (long[] row : zobristItem) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = keys.nextLong();
+                }
+            }
+
+            zobristSide = keys.nextLong();
+        }
+    }
+
+    private long positionKey(int side) {
+        return side == 0 ? hash : hash ^ zobristSide;
+    }
+
+    /**
+     * Clave completa de la posición (sin el lado); solo se calcula en la raíz
+     */
+    private long fullHash() {
+        long key = salt;
+        for (int s = 0; s < 2; s++) {
+            for (int i = 0; i < teams[s].length; i++) {
+                key ^= hpKey(s, i, teams[s][i].getPs());
+            }
+            key ^= activeKey(s, active[s]);
+            for (int i = 0; i < itemHeal[s].length; i++) {
+                if ((itemMask[s] & (1 << i)) != 0) {
+                    key ^= zobristItem[s][i];
+                }
+            }
+        }
+        return key;
+    }
+
+    private long hpKey(int side, int index, int hp) {
+        return zobristHp[side == 0 ? index : teams[0].length + index][hp];
+    }
+
+    private long activeKey(int side, int index) {
+        return zobristActive[(side * 12 + index) % zobristActive.length];
+    }
+
+    // ============ REPETICIONES ============
+
+    /**
+     * Una posición ya vista en el camino o, si le toca a la máquina, en la batalla real
+     */
+    private boolean isRepetition(long key, int side, int ply) {
+        for (int i = ply - 2; i >= 0; i -= 2) {
+            if (path[i] == key) {
+                return true;
+            }
+        }
+        return side == 0 && ply > 0 && seen(key);
+    }
+
+    private void remember(long key) {
+        if (seen(key)) {
+            return;
+        }
+        if (2 * (historySize + 1) > history.length) {
+            long[] old = history;
+            history = new long[old.length * 2];
+            historySize = 0;
+            for (long stored : old) {
+                if (stored != 0) {
+                    remember(stored);
+                }
+            }
+        }
+        int mask = history.length - 1;
+        int index = (int) (key ^ (key >>> 32)) & mask;
+        while (history[index] != 0) {
+            index = (index + 1) & mask;
+        }
+        history[index] = key == 0 ? 1 : key;
+        historySize++;
+    }
+
+    private boolean seen(long key) {
+        long stored = key == 0 ? 1 : key;
+        int mask = history.length - 1;
+        for (int index = (int) (key ^ (key >>> 32)) & mask; history[index] != 0; index = (index + 1) & mask) {
+            if (history[index] == stored) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ============ BÚSQUEDA ============
+
+    /**
+     * Valor de la posición desde el punto de vista de la máquina
+     * @param side Lado al que le toca (0 máquina, 1 rival)
+     * @param depth Acciones que quedan por explorar
+     */
+    private double search(int side, int depth, double alpha, double beta) {
+        if (!hasAlive(0)) {
+            return LOSS;
+        }
+        if (!hasAlive(1)) {
+            return WIN;
+        }
+        long key = positionKey(side);
+        int ply = rootDepth - depth;
+        if (isRepetition(key, side, ply)) {
+            return REPETITION;
+        }
+        if (depth == 0) {
+            return evaluate();
+        }
+        if (++nodes > NODE_BUDGET || ((nodes & TIME_CHECK_MASK) == 0 && System.nanoTime() > deadline)) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+
+        path[ply] = key;
+        int entry = table.probe(key);
+        int hashAction = NO_ACTION;
+        if (entry >= 0) {
+            hashAction = table.action(entry);
+            if (table.depth(entry) >= depth) {
+                double stored = table.value(entry);
+                int flag = table.flag(entry);
+                if (flag == TranspositionTable.EXACT
+                        || (flag == TranspositionTable.LOWER && stored >= beta)
+                        || (flag == TranspositionTable.UPPER && stored <= alpha)) {
+                    return stored;
+                }
+            }
+        }
+
+        int[] actions = depth < actionBuffers.length ? actionBuffers[depth] : new int[MAX_ACTIONS];
+        int count = generateActions(side, actions);
+        if (count == 0) {
+            // Sin acciones posibles el turno pasa al otro lado
+            return search(1 - side, depth - 1, alpha, beta);
+        }
+        moveToFront(actions, count, hashAction);
+
+        boolean maximizing = side == 0;
+        double originalAlpha = alpha;
+        double originalBeta = beta;
+        double best = maximizing ? LOSS - 1 : WIN + 1;
+        int bestAction = actions[0];
+        for (int i = 0; i < count; i++) {
+            double value = applyAction(side, actions[i], depth, alpha, beta);
+            if (aborted) {
+                return 0;
+            }
+            if (maximizing ? value > best : value < best) {
+                best = value;
+                bestAction = actions[i];
+            }
+            if (maximizing) {
+                alpha = Math.max(alpha, best);
+            } else {
+                beta = Math.min(beta, best);
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        int flag;
+        if (best <= originalAlpha) {
+            flag = TranspositionTable.UPPER;
+        } else if (best >= originalBeta) {
+            flag = TranspositionTable.LOWER;
+        } else {
+            flag = TranspositionTable.EXACT;
+        }
+        table.store(key, best, depth, flag, bestAction);
+        return best;
+    }
+
+    /**
+     * Aplica una acción, explora lo que sigue y deshace la acción
+     */
+    private double applyAction(int side, int action, int depth, double alpha, double beta) {
+        int kind = action >>> 8;
+        int index = action & 0xFF;
+        double value;
+        if (kind == ACTION_SWITCH) {
+            int previous = active[side];
+            long delta = activeKey(side, previous) ^ activeKey(side, index);
+            active[side] = index;
+            hash ^= delta;
+            value = search(1 - side, depth - 1, alpha, beta);
+            hash ^= delta;
+            active[side] = previous;
+        } else if (kind == ACTION_ITEM) {
+            Pokemon target = teams[side][active[side]];
+            int previousHp = target.getPs();
+            target.setPs(previousHp + itemHeal[side][index]);
+            itemMask[side] &= ~(1 << index);
+            long delta = hpKey(side, active[side], previousHp) ^ hpKey(side, active[side], target.getPs())
+                    ^ zobristItem[side][index];
+            hash ^= delta;
+            value = search(1 - side, depth - 1, alpha, beta);
+            hash ^= delta;
+            itemMask[side] |= 1 << index;
+            target.setPs(previousHp);
+        } else {
+            value = attackChanceNode(side, moves[side][active[side]][index], depth, alpha, beta);
+        }
+        return value;
+    }
+
+    /**
+     * Nodo de azar de un ataque: falla o acierta con una de las tres tiradas de daño.
+     * Las tiradas que dejan al defensor con el mismo HP se agrupan.
+     * Poda Star1: con hojas en [-1, 1] se acota el valor esperado tras cada resultado.
+     */
+    private double attackChanceNode(int side, Movement move, int depth, double alpha, double beta) {
+        Pokemon attacker = teams[side][active[side]];
+        int defenderSide = 1 - side;
+        Pokemon defender = teams[defenderSide][active[defenderSide]];
+        int hpBefore = defender.getPs();
+
+        double hitChance = Math.max(0, Math.min(100, move.getAccuracy())) / 100.0;
+        // Los hijos se buscan a menos profundidad, así que no pisan estos arreglos
+        double[] probability = depth < probabilityBuffers.length ? probabilityBuffers[depth] : new double[ROLLS.length + 1];
+        int[] hpAfter = depth < hpBuffers.length ? hpBuffers[depth] : new int[ROLLS.length + 1];
+        int outcomes = 0;
+
+        if (Pokemon.dealsDamage(move) && hitChance > 0) {
+            // Primero el golpe más fuerte: suele producir los cortes más pronto
+            for (int r = ROLLS.length - 1; r >= 0; r--) {
+                int hp = Math.max(0, hpBefore - attacker.estimateDamage(move, defender, ROLLS[r]));
+                double p = hitChance / ROLLS.length;
+                int existing = find(hpAfter, outcomes, hp);
+                if (existing >= 0) {
+                    probability[existing] += p;
+                } else {
+                    hpAfter[outcomes] = hp;
+                    probability[outcomes++] = p;
+                }
+            }
+            if (hitChance < 1.0) {
+                int existing = find(hpAfter, outcomes, hpBefore);
+                if (existing >= 0) {
+                    probability[existing] += 1.0 - hitChance;
+                } else {
+                    hpAfter[outcomes] = hpBefore;
+                    probability[outcomes++] = 1.0 - hitChance;
+                }
+            }
+        } else {
+            hpAfter[outcomes] = hpBefore;
+            probability[outcomes++] = 1.0;
+        }
+
+        int activeBefore = active[defenderSide];
+        double sum = 0;
+        double remaining = 1.0;
+        for (int i = 0; i < outcomes; i++) {
+            double p = probability[i];
+            remaining -= p;
+            if (remaining < 1e-12) {
+                remaining = 0;
+            }
+            double childAlpha = (alpha - sum - remaining * WIN) / p;
+            double childBeta = (beta - sum - remaining * LOSS) / p;
+            if (childAlpha >= WIN) {
+                return sum + (p + remaining) * WIN; // Ni el mejor caso supera alpha
+            }
+            if (childBeta <= LOSS) {
+                return sum + (p + remaining) * LOSS; // Ni el peor caso baja de beta
+            }
+
+            defender.setPs(hpAfter[i]);
+            long delta = hpKey(defenderSide, activeBefore, hpBefore) ^ hpKey(defenderSide, activeBefore, hpAfter[i]);
+            if (hpAfter[i] == 0) {
+                // Igual que en la batalla: entra el siguiente Pokémon disponible del equipo
+                int next = firstAlive(defenderSide);
+                if (next >= 0) {
+                    active[defenderSide] = next;
+                    delta ^= activeKey(defenderSide, activeBefore) ^ activeKey(defenderSide, next);
+                }
+            }
+            hash ^= delta;
+            double value = search(defenderSide, depth - 1, Math.max(LOSS, childAlpha), Math.min(WIN, childBeta));
+            hash ^= delta;
+            active[defenderSide] = activeBefore;
+            defender.setPs(hpBefore);
+            if (aborted) {
+                return 0;
+            }
+
+            sum += p * value;
+            if (sum + remaining * LOSS >= beta) {
+                return sum + remaining * LOSS;
+            }
+            if (sum + remaining * WIN <= alpha) {
+                return sum + remaining * WIN;
+            }
+        }
+        return sum;
+    }
+
+    private static int find(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int generateActions(int side, int[] actions) {
+        int count = 0;
+        Pokemon current = teams[side][active[side]];
+        if (current.isAlive()) {
+            Movement[] available = moves[side][active[side]];
+            for (int i = 0; i < available.length && count < MAX_ACTIONS; i++) {
+                actions[count++] = (ACTION_MOVE << 8) | i;
+            }
+        }
+        Pokemon[] team = teams[side];
+        for (int i = 0; i < team.length && count < MAX_ACTIONS; i++) {
+            if (i != active[side] && team[i].isAlive()) {
+                actions[count++] = (ACTION_SWITCH << 8) | i;
+            }
+        }
+        if (current.isAlive() && current.getPs() < maxHp[side][active[side]]) {
+            // Una acción por cada cantidad de curación distinta
+            int seen = 0;
+            int[] heal = itemHeal[side];
+            for (int i = 0; i < heal.length && count < MAX_ACTIONS; i++) {
+                if ((itemMask[side] & (1 << i)) != 0 && !healSeen(heal, heal[i], seen)) {
+                    seen |= 1 << i;
+                    actions[count++] = (ACTION_ITEM << 8) | i;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean healSeen(int[] heal, int value, int seen) {
+        for (int i = 0; i < heal.length; i++) {
+            if ((seen & (1 << i)) != 0 && heal[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void moveToFront(int[] actions, int count, int action) {
+        for (int i = 1; i < count; i++) {
+            if (actions[i] == action) {
+                System.arraycopy(actions, 0, actions, 1, i);
+                actions[0] = action;
+                return;
+            }
+        }
+    }
+
+    private boolean hasAlive(int side) {
+        return firstAlive(side) >= 0;
+    }
+
+    private int firstAlive(int side) {
+        Pokemon[] team = teams[side];
+        for (int i = 0; i < team.length; i++) {
+            if (team[i].isAlive()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Hoja: diferencia de HP restante de los equipos combinada con el emparejamiento
+     * de los Pokémon activos. No crea objetos: solo lee HP y expectedHit.
+     */
+    private double evaluate() {
+        double material = hpFraction(0) - hpFraction(1);
+        double value = MATERIAL_WEIGHT * material + (1 - MATERIAL_WEIGHT) * matchup();
+        return Math.max(-LEAF_LIMIT, Math.min(LEAF_LIMIT, value));
+    }
+
+    /**
+     * @return Valor en (-1, 1) según cuántas acciones le faltan a cada activo para
+     *         debilitar al otro; positivo si la máquina lo consigue antes
+     */
+    private double matchup() {
+        int mine = active[0];
+        int theirs = active[1];
+        double toWin = actionsToFaint(teams[1][theirs].getPs(), expectedHit[0][mine][theirs]);
+        double toLose = actionsToFaint(teams[0][mine].getPs(), expectedHit[1][theirs][mine]);
+        return Math.tanh((toLose - toWin) / MATCHUP_SCALE);
+    }
+
+    private static double actionsToFaint(int hp, double hit) {
+        if (hit <= 0) {
+            return hp > 0 ? NO_PROGRESS : 0;
+        }
+        return Math.min(NO_PROGRESS, hp / hit);
+    }
+
+    /**
+     * @return Daño medio por acción (con la precisión y la tirada media) del mejor
+     *         movimiento utilizable del atacante contra el defensor
+     */
+    private static double bestExpectedHit(Pokemon attacker, Movement[] usable, Pokemon defender) {
+        double best = 0;
+        for (Movement move : usable) {
+            double hitChance = Math.max(0, Math.min(100, move.getAccuracy())) / 100.0;
+            double damage = 0;
+            for (double roll : ROLLS) {
+                damage += attacker.estimateDamage(move, defender, roll);
+            }
+            best = Math.max(best, hitChance * damage / ROLLS.length);
+        }
+        return best;
+    }
+
+    private double hpFraction(int side) {
+        double total = 0;
+        Pokemon[] team = teams[side];
+        for (int i = 0; i < team.length; i++) {
+            if (maxHp[side][i] > 0) {
+                total += team[i].getPs() / (double) maxHp[side][i];
+            }
+        }
+        return team.length == 0 ? 0 : total / team.length;
+    }
+
+    // ============ RESULTADO ============
+
+    static int kindOf(int action) {
+        return action >>> 8;
+    }
+
+    /**
+     * @return Movimiento de una acción de ataque de la última búsqueda
+     */
+    Movement moveOf(int action) {
+        return moves[0][active[0]][action & 0xFF];
+    }
+
+    /**
+     * @return Pokémon que entra con una acción de cambio de la última búsqueda
+     */
+    Pokemon switchTargetOf(int action) {
+        return teams[0][action & 0xFF];
+    }
+
+    /**
+     * @return Objeto de una acción de objeto de la última búsqueda
+     */
+    Item itemOf(int action) {
+        return bagItems[0][action & 0xFF];
+    }
+
+    long getNodeCount() {
+        return nodes;
+    }
+
+    // ============ TABLA DE TRANSPOSICIÓN ============
+
+    /**
+     * Tabla de tamaño fijo (potencia de 2) en arreglos paralelos, una por hilo.
+     * Las claves describen la posición completa, así que las entradas sirven entre
+     * decisiones; cada búsqueda usa una generación nueva y las entradas de
+     * generaciones anteriores se reemplazan siempre. Dentro de la misma generación
+     * se conserva la entrada más profunda.
+     */
+    static final class TranspositionTable {
+        static final int EXACT = 0;
+        static final int LOWER = 1;
+        static final int UPPER = 2;
+        private static final int SIZE = 1 << 15;
+        private static final int MASK = SIZE - 1;
+
+        private final long[] keys = new long[SIZE];
+        private final double[] values = new double[SIZE];
+        private final byte[] depths = new byte[SIZE];
+        private final byte[] flags = new byte[SIZE];
+        private final short[] actions = new short[SIZE];
+        private final int[] generations = new int[SIZE];
+        private int generation;
+
+        void newSearch() {
+            generation++;
+        }
+
+        int probe(long key) {
+            int index = (int) (key ^ (key >>> 32)) & MASK;
+            return keys[index] == key && depths[index] > 0 ? index : -1;
+        }
+
+        void store(long key, double value, int depth, int flag, int action) {
+            int index = (int) (key ^ (key >>> 32)) & MASK;
+            if (generations[index] == generation && keys[index] != key && depths[index] > depth) {
+                return; // Se conserva la entrada más profunda
+            }
+            keys[index] = key;
+            values[index] = value;
+            depths[index] = (byte) Math.min(depth, Byte.MAX_VALUE);
+            flags[index] = (byte) flag;
+            actions[index] = (short) action;
+            generations[index] = generation;
+        }
+
+        double value(int index) {
+            return values[index];
+        }
+
+        int depth(int index) {
+            return depths[index];
+        }
+
+        int flag(int index) {
+            return flags[index];
+        }
+
+        int action(int index) {
+            return actions[index];
+        }
+    }
+}
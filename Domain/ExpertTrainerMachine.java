@@ -3,11 +3,21 @@ import java.awt.*;
 import java.util.ArrayList;
 
 public class ExpertTrainerMachine extends Machine {
+    public static final int DEFAULT_SEARCH_DEPTH = 6;
+    public static final long DEFAULT_SEARCH_TIME_MILLIS = 50;
+
+    private int searchDepth; // Acciones (de cualquiera de los lados) que mira hacia adelante
+    private long searchTimeMillis; // Tiempo por decisión; 0 para buscar siempre hasta searchDepth
+    private ExpertSearch search;
+    private int plannedAction; // Acción elegida por la búsqueda para executeAIDecision
 
     public ExpertTrainerMachine(String name, Image image, String description) {
         super(name, image, description);
         setAiType("Expert");
         setDifficultyLevel(3); // Dificultad máxima
+        this.searchDepth = DEFAULT_SEARCH_DEPTH;
+        this.searchTimeMillis = DEFAULT_SEARCH_TIME_MILLIS;
+        this.plannedAction = ExpertSearch.NO_ACTION;
     }
 
     @Override
@@ -15,7 +25,25 @@ public class ExpertTrainerMachine extends Machine {
         Pokemon currentPokemon = battle.getCurrentPokemon();
         Pokemon opponentPokemon = battle.getOpponentPokemon();
         
-        // El entrenador experto evalúa TODAS las opciones y elige la óptima
+        // El entrenador experto busca varias jugadas hacia adelante
+        if (searchDepth > 0) {
+            if (search == null) {
+                search = new ExpertSearch();
+            }
+            plannedAction = search.findBestAction(battle, searchDepth, searchTimeMillis);
+            if (plannedAction != ExpertSearch.NO_ACTION) {
+                switch (ExpertSearch.kindOf(plannedAction)) {
+                    case ExpertSearch.ACTION_ITEM:
+                        return 2; // Usar objeto
+                    case ExpertSearch.ACTION_SWITCH:
+                        return 3; // Cambiar Pokémon
+                    default:
+                        return 1; // Atacar
+                }
+            }
+        }
+        
+        // Sin búsqueda, evalúa todas las opciones con las heurísticas y elige la óptima
         
         // Evaluar todas las estrategias posibles
         double attackValue = evaluateAttackStrategy(currentPokemon, opponentPokemon);
@@ -35,33 +63,40 @@ public class ExpertTrainerMachine extends Machine {
     @Override
     protected void executeAIDecision(int decision, Battle battle) {
         displayAIThinking();
-        System.out.println(name + " está calculando la estrategia óptima...");
+        events.emit(BattleEventType.AI_THINKING, this, "está calculando la estrategia óptima...");
         
         switch (decision) {
             case 1: // Ejecutar el mejor ataque posible
-                Movement optimalMove = findOptimalMove(battle.getCurrentPokemon(), battle.getOpponentPokemon());
+                Movement optimalMove = plannedAction != ExpertSearch.NO_ACTION
+                        ? search.moveOf(plannedAction)
+                        : findOptimalMove(battle.getCurrentPokemon(), battle.getOpponentPokemon());
                 if (optimalMove != null) {
-                    System.out.println(name + " ejecuta una estrategia de ataque perfecta!");
+                    events.emit(BattleEventType.AI_THINKING, this, "ejecuta una estrategia de ataque perfecta!");
                     battle.executeAttack(optimalMove);
                 }
                 break;
                 
             case 2: // Usar objeto de manera óptima
-                Item optimalItem = findOptimalItem(battle.getCurrentPokemon(), battle.getOpponentPokemon());
+                Item optimalItem = plannedAction != ExpertSearch.NO_ACTION
+                        ? search.itemOf(plannedAction)
+                        : findOptimalItem(battle.getCurrentPokemon(), battle.getOpponentPokemon());
                 if (optimalItem != null) {
-                    System.out.println(name + " usa un objeto en el momento perfecto!");
+                    events.emit(BattleEventType.AI_THINKING, this, "usa un objeto en el momento perfecto!");
                     battle.useItem(optimalItem);
                 }
                 break;
                 
             case 3: // Cambiar al Pokémon óptimo
-                Pokemon optimalPokemon = findOptimalPokemon(battle.getOpponentPokemon());
+                Pokemon optimalPokemon = plannedAction != ExpertSearch.NO_ACTION
+                        ? search.switchTargetOf(plannedAction)
+                        : findOptimalPokemon(battle.getOpponentPokemon());
                 if (optimalPokemon != null) {
-                    System.out.println(name + " hace un cambio estratégico magistral!");
+                    events.emit(BattleEventType.AI_THINKING, this, "hace un cambio estratégico magistral!");
                     battle.switchPokemon(optimalPokemon);
                 }
                 break;
         }
+        plannedAction = ExpertSearch.NO_ACTION;
     }
 
     @Override
@@ -72,7 +107,7 @@ public class ExpertTrainerMachine extends Machine {
 
     @Override
     public Movement chooseMove(Pokemon pokemon) {
-        if (pokemon == null || pokemon.getMoves().isEmpty()) {
+        if (pokemon == null || pokemon.moveCount() == 0) {
             return null;
         }
         
@@ -110,7 +145,7 @@ public class ExpertTrainerMachine extends Machine {
        }
        
        // Penalización si nuestro Pokémon está en peligro
-       double hpPercentage = (double) myPokemon.getPs() / getMaxHP(myPokemon);
+       double hpPercentage = (double) myPokemon.getPs() / myPokemon.getMaxPs();
        if (hpPercentage < 0.3) {
            value *= 0.7; // Reducir valor si estamos muy débiles
        }
@@ -123,7 +158,7 @@ public class ExpertTrainerMachine extends Machine {
        if (bestItem == null) return 0;
        
        double value = 0;
-       double hpPercentage = (double) myPokemon.getPs() / getMaxHP(myPokemon);
+       double hpPercentage = (double) myPokemon.getPs() / myPokemon.getMaxPs();
        
        if (bestItem instanceof Potion) {
            // Valor aumenta cuando HP está bajo
@@ -168,12 +203,13 @@ public class ExpertTrainerMachine extends Machine {
    }
    
    private Movement findOptimalMove(Pokemon myPokemon, Pokemon opponentPokemon) {
-       if (myPokemon.getMoves().isEmpty()) return null;
+       if (myPokemon.moveCount() == 0) return null;
        
        Movement bestMove = null;
        double bestValue = -1;
        
-       for (Movement move : myPokemon.getMoves()) {
+       for (int i = 0; i < myPokemon.moveCount(); i++) {
+           Movement move = myPokemon.moveAt(i);
            double value = evaluateMoveComprehensively(move, myPokemon, opponentPokemon);
            if (value > bestValue) {
                bestValue = value;
@@ -277,7 +313,8 @@ public class ExpertTrainerMachine extends Machine {
        Item bestItem = null;
        double bestValue = -1;
        
-       for (Item item : getAvailableItems()) {
+       for (int i = 0; i < items.size(); i++) {
+           Item item = items.get(i);
            double value = evaluateItemComprehensively(item, myPokemon, opponentPokemon);
            if (value > bestValue) {
                bestValue = value;
@@ -292,7 +329,7 @@ public class ExpertTrainerMachine extends Machine {
        double value = 0;
        
        if (item instanceof Potion) {
-           double hpPercentage = (double) myPokemon.getPs() / getMaxHP(myPokemon);
+           double hpPercentage = (double) myPokemon.getPs() / myPokemon.getMaxPs();
            
            // Más valor cuando HP está más bajo
            value = Math.max(0, (0.6 - hpPercentage) * 100);
@@ -323,15 +360,10 @@ public class ExpertTrainerMachine extends Machine {
    // ============ MÉTODOS AUXILIARES ============
    
    private double calculateTypeEffectiveness(Movement move, Pokemon attacker, Pokemon defender) {
-       // TODO: Implementar cuando tengamos acceso al tipo del movimiento
-       // Por ahora, usar efectividad base del tipo del atacante
        if (defender != null) {
-           Type attackerType = attacker.getPrimaryType();
-           double effectiveness = attackerType.calculateMultiplier(defender.getPrimaryType());
-           if (defender.getSecondaryType() != null) {
-               effectiveness *= attackerType.calculateMultiplier(defender.getSecondaryType());
-           }
-           return effectiveness;
+           // Los movimientos sin tipo se tratan como del tipo primario del atacante
+           Type moveType = move.getMoveType() != null ? move.getMoveType() : attacker.getPrimaryType();
+           return moveType.calculateMultiplier(defender.getPrimaryType(), defender.getSecondaryType());
        }
        return 1.0;
    }
@@ -341,17 +373,11 @@ public class ExpertTrainerMachine extends Machine {
        
        // Efectividad ofensiva
        Type myType = myPokemon.getPrimaryType();
-       double offensive = myType.calculateMultiplier(opponentPokemon.getPrimaryType());
-       if (opponentPokemon.getSecondaryType() != null) {
-           offensive *= myType.calculateMultiplier(opponentPokemon.getSecondaryType());
-       }
+       double offensive = myType.calculateMultiplier(opponentPokemon.getPrimaryType(), opponentPokemon.getSecondaryType());
        
        // Efectividad defensiva
        Type opponentType = opponentPokemon.getPrimaryType();
-       double defensive = opponentType.calculateMultiplier(myPokemon.getPrimaryType());
-       if (myPokemon.getSecondaryType() != null) {
-           defensive *= opponentType.calculateMultiplier(myPokemon.getSecondaryType());
-       }
+       double defensive = opponentType.calculateMultiplier(myPokemon.getPrimaryType(), myPokemon.getSecondaryType());
        
        // Combinar con peso hacia la ofensiva
        return (offensive * 2.0) / (defensive + 0.5);
@@ -375,10 +401,11 @@ public class ExpertTrainerMachine extends Machine {
    }
    
    private int estimateOpponentDamage(Pokemon opponent, Pokemon myPokemon) {
-       if (opponent.getMoves().isEmpty()) return 20; // Estimación por defecto
+       if (opponent.moveCount() == 0) return 20; // Estimación por defecto
        
-       Movement strongestMove = opponent.getMoves().get(0);
-       for (Movement move : opponent.getMoves()) {
+       Movement strongestMove = opponent.moveAt(0);
+       for (int i = 0; i < opponent.moveCount(); i++) {
+           Movement move = opponent.moveAt(i);
            if (move.getPower() > strongestMove.getPower()) {
                strongestMove = move;
            }
@@ -387,12 +414,6 @@ public class ExpertTrainerMachine extends Machine {
        return estimateDamage(opponent, myPokemon, strongestMove);
    }
    
-   private int getMaxHP(Pokemon pokemon) {
-       // TODO: Necesitamos un método para obtener HP máximo
-       // Por ahora, asumir que PS actual es el máximo si está sano
-       return pokemon.getPs();
-   }
-   
    private int getHealingAmount(Item item) {
        if (item instanceof Potion) {
            return 20; // Poción básica
@@ -408,7 +429,8 @@ public class ExpertTrainerMachine extends Machine {
        Pokemon bestFainted = null;
        double bestMatchup = -1;
        
-       for (Pokemon pokemon : getTeam()) {
+       for (int i = 0; i < team.size(); i++) {
+           Pokemon pokemon = team.get(i);
            if (pokemon.getPs() <= 0) {
                double matchup = calculateMatchupValue(pokemon, opponentPokemon);
                if (matchup > bestMatchup) {
@@ -444,7 +466,8 @@ public class ExpertTrainerMachine extends Machine {
    private double evaluateMoveset(Pokemon pokemon) {
        double value = 0;
        
-       for (Movement move : pokemon.getMoves()) {
+       for (int i = 0; i < pokemon.moveCount(); i++) {
+           Movement move = pokemon.moveAt(i);
            value += move.getPower() * 0.1;
            value += move.getAcurracy() * 0.05;
            
@@ -456,11 +479,29 @@ public class ExpertTrainerMachine extends Machine {
        return value;
    }
    
+   /**
+    * Configura la búsqueda de la máquina
+    * @param depth Acciones que mira hacia adelante (0 para usar solo las heurísticas)
+    * @param timeMillis Tiempo máximo por decisión (0 para no cortar por tiempo y decidir siempre igual)
+    */
+   public void setSearchLimits(int depth, long timeMillis) {
+       this.searchDepth = Math.max(0, depth);
+       this.searchTimeMillis = Math.max(0, timeMillis);
+   }
+   
+   public int getSearchDepth() {
+       return searchDepth;
+   }
+   
+   public long getSearchTimeMillis() {
+       return searchTimeMillis;
+   }
+   
    @Override
    public void displayAIThinking() {
        super.displayAIThinking();
-       System.out.println("Procesando miles de posibilidades estratégicas...");
-       System.out.println("Evaluando ventajas de tipo, estadísticas y movimientos...");
-       System.out.println("Seleccionando la jugada óptima...");
+       events.emit(BattleEventType.AI_THINKING, null, "Procesando miles de posibilidades estratégicas...");
+       events.emit(BattleEventType.AI_THINKING, null, "Evaluando ventajas de tipo, estadísticas y movimientos...");
+       events.emit(BattleEventType.AI_THINKING, null, "Seleccionando la jugada óptima...");
    }
 }
\ No newline at end of file
@@ -0,0 +1,351 @@
+package Domain;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.CRC32;
+
+/**
+ * Datos del juego: especies, movimientos y el moveset por defecto de cada
+ * especie, cada uno con un identificador denso (su posición, desde 0) y
+ * buscables por nombre. Es inmutable, así que puede compartirse entre hilos y
+ * batallas.
+ *
+ * Se carga del paquete binario compilado (GameDataPack) si existe y está al
+ * día con los archivos de texto; si no, de los archivos de texto. Con el
+ * paquete, cada especie y movimiento se decodifica la primera vez que se pide.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class GameData {
+    public static final String SPECIES_FILE = "resources/pokemoneslist.txt";
+    public static final String[] MOVE_FILES = {
+        "resources/movimientos fisicos.txt",
+        "resources/movimientos especiales.txt",
+        "resources/movimientos de estado.txt"
+    };
+    public static final int MOVES_PER_POKEMON = 4;
+
+    private static volatile GameData shared; // Datos de resources compartidos por todo el proceso
+
+    private final int speciesCount;
+    private final int moveCount;
+    private final AtomicReferenceArray<Species> species;
+    private final AtomicReferenceArray<Movement> moves;
+    private final AtomicReferenceArray<int[]> movesets; // Identificadores de movimiento por especie
+    private final int[] levels; // Nivel con el que aparece cada especie en la lista
+    private final GameDataPack pack; // null si se cargó de los archivos de texto
+    private final List<String> problems;
+    private volatile Map<String, Integer> speciesIds;
+    private volatile Map<String, Integer> moveIds;
+    private volatile TeamGenerator teamGenerator;
+    private volatile long fingerprint = -1;
+
+    /**
+     * Datos ya construidos por el cargador de texto
+     */
+    GameData(Species[] species, int[] levels, Movement[] moves, List<String> problems) {
+        this.speciesCount = species.length;
+        this.moveCount = moves.length;
+        this.species = new AtomicReferenceArray<>(species);
+        this.moves = new AtomicReferenceArray<>(moves);
+        this.movesets = new AtomicReferenceArray<>(speciesCount);
+        this.levels = levels;
+        this.pack = null;
+        this.problems = Collections.unmodifiableList(new ArrayList<>(problems));
+    }
+
+    /**
+     * Datos respaldados por un paquete binario; los registros se decodifican al pedirlos
+     */
+    GameData(GameDataPack pack) {
+        this.speciesCount = pack.speciesCount();
+        this.moveCount = pack.moveCount();
+        this.species = new AtomicReferenceArray<>(speciesCount);
+        this.moves = new AtomicReferenceArray<>(moveCount);
+        this.movesets = new AtomicReferenceArray<>(speciesCount);
+        this.levels = null;
+        this.pack = pack;
+        this.problems = pack.readProblems();
+    }
+
+    // ============ CARGA ============
+
+    /**
+     * Carga los archivos de texto en paralelo
+     * @param speciesFile Lista de especies (nombre,descripción,hp,atk,def,speed,spatk,spdef,tipo1,tipo2,nivel)
+     * @param moveFiles Listas de movimientos (nombre,categoría,poder,precisión,pp,efecto,prioridad,tipo)
+     * @return Datos cargados; las líneas mal formadas se omiten y quedan en getProblems()
+     * @throws IOException Si no se puede leer algún archivo
+     */
+    public static GameData load(Path speciesFile, List<Path> moveFiles) throws IOException {
+        return GameDataLoader.load(speciesFile, moveFiles);
+    }
+
+    /**
+     * Carga los datos de la carpeta resources: del paquete compilado si está al
+     * día, o de los archivos de texto si falta o es más antiguo que ellos
+     */
+    public static GameData loadDefault() throws IOException {
+        GameDataPack pack = GameDataPack.open(Paths.get(GameDataPack.DEFAULT_FILE));
+        if (pack != null) {
+            return new GameData(pack);
+        }
+        return load(Paths.get(SPECIES_FILE), defaultMoveFiles());
+    }
+
+    /**
+     * Datos de la carpeta resources compartidos por todas las partidas del proceso.
+     * Se cargan la primera vez que se piden (avisando por la salida de errores de
+     * las líneas omitidas); si la carga falla, la siguiente llamada lo reintenta.
+     * @return Los mismos datos en cada llamada y desde cualquier hilo
+     * @throws IOException Si no se pueden leer los datos
+     */
+    public static GameData shared() throws IOException {
+        GameData data = shared;
+        if (data == null) {
+            synchronized (GameData.class) {
+                data = shared;
+                if (data == null) {
+                    data = loadDefault();
+                    for (String problem : data.getProblems()) {
+                        System.err.println(problem);
+                    }
+                    shared = data;
+                }
+            }
+        }
+        return data;
+    }
+
+    static List<Path> defaultMoveFiles() {
+        List<Path> moveFiles = new ArrayList<>();
+        for (String file : MOVE_FILES) {
+            moveFiles.add(Paths.get(file));
+        }
+        return moveFiles;
+    }
+
+    /**
+     * @return true si los datos vienen del paquete binario
+     */
+    public boolean isFromPack() {
+        return pack != null;
+    }
+
+    // ============ ESPECIES ============
+
+    public int speciesCount() {
+        return speciesCount;
+    }
+
+    public Species getSpecies(int id) {
+        Species cached = species.get(id);
+        if (cached == null) {
+            species.compareAndSet(id, null, Species.register(pack.readSpecies(id)));
+            cached = species.get(id);
+        }
+        return cached;
+    }
+
+    /**
+     * @param id Identificador de la especie
+     * @return Nivel con el que aparece en la lista
+     */
+    public int getLevel(int id) {
+        return pack != null ? pack.readLevel(id) : levels[id];
+    }
+
+    /**
+     * @param name Nombre de la especie
+     * @return Su identificador, o -1 si no existe
+     */
+    public int speciesId(String name) {
+        Map<String, Integer> ids = speciesIds;
+        if (ids == null) {
+            ids = new HashMap<>(speciesCount * 2);
+            for (int i = 0; i < speciesCount; i++) {
+                ids.put(pack != null ? pack.readSpeciesName(i) : species.get(i).getName(), i);
+            }
+            speciesIds = ids;
+        }
+        Integer id = ids.get(name);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Crea un Pokémon de la especie a su nivel de la lista con su moveset por defecto;
+     * comparte especie y movimientos, pero sus PP y estados son propios
+     * @param id Identificador de la especie
+     * @return Pokémon nuevo
+     */
+    public Pokemon createPokemon(int id) {
+        Pokemon pokemon = new Pokemon(getSpecies(id), getLevel(id));
+        for (int moveId : moveset(id)) {
+            pokemon.addMove(getMove(moveId));
+        }
+        return pokemon;
+    }
+
+    /**
+     * @param id Identificador de la especie
+     * @return Copia de los identificadores de su moveset por defecto
+     */
+    public int[] getMoveset(int id) {
+        return moveset(id).clone();
+    }
+
+    private int[] moveset(int id) {
+        int[] cached = movesets.get(id);
+        if (cached == null) {
+            movesets.compareAndSet(id, null, pack != null ? pack.readMoveset(id) : buildMoveset(getSpecies(id)));
+            cached = movesets.get(id);
+        }
+        return cached;
+    }
+
+    /**
+     * Elige hasta tres ataques (el mejor con STAB sobre la mejor estadística de ataque
+     * y luego los que aporten tipos nuevos) y un movimiento de estado afín a la especie
+     */
+    private int[] buildMoveset(Species species) {
+        int[] chosen = new int[MOVES_PER_POKEMON];
+        int size = 0;
+        boolean[] used = new boolean[moveCount];
+        boolean[] coveredTypes = new boolean[Type.values().length];
+
+        while (size < MOVES_PER_POKEMON - 1) {
+            int best = -1;
+            double bestScore = 0;
+            for (int i = 0; i < moveCount; i++) {
+                Movement move = getMove(i);
+                if (used[i] || move instanceof StateMovement) {
+                    continue;
+                }
+                double score = move.getPower() * move.getAccuracy() / 100.0
+                        * (move instanceof PhysicalMovement ? species.getAttack() : species.getSpecialAttack());
+                if (move.getMoveType() == species.getPrimaryType() || move.getMoveType() == species.getSecondaryType()) {
+                    score *= 1.5;
+                }
+                if (coveredTypes[move.getMoveType().ordinal()]) {
+                    score *= 0.5;
+                }
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            used[best] = true;
+            coveredTypes[getMove(best).getMoveType().ordinal()] = true;
+            chosen[size++] = best;
+        }
+
+        int status = -1;
+        for (int i = 0; i < moveCount; i++) {
+            Movement move = getMove(i);
+            if (!(move instanceof StateMovement)) {
+                continue;
+            }
+            if (move.getMoveType() == species.getPrimaryType() || move.getMoveType() == species.getSecondaryType()) {
+                status = i;
+                break;
+            }
+            if (status < 0) {
+                status = i;
+            }
+        }
+        if (status >= 0) {
+            chosen[size++] = status;
+        }
+        return Arrays.copyOf(chosen, size);
+    }
+
+    /**
+     * @return Generador de equipos aleatorios de estos datos; sus tablas se calculan una sola vez
+     */
+    public TeamGenerator getTeamGenerator() {
+        TeamGenerator generator = teamGenerator;
+        if (generator == null) {
+            generator = new TeamGenerator(this);
+            teamGenerator = generator; // Si dos hilos lo crean a la vez, ambos son equivalentes
+        }
+        return generator;
+    }
+
+    // ============ MOVIMIENTOS ============
+
+    public int moveCount() {
+        return moveCount;
+    }
+
+    public Movement getMove(int id) {
+        Movement cached = moves.get(id);
+        if (cached == null) {
+            moves.compareAndSet(id, null, pack.readMove(id));
+            cached = moves.get(id);
+        }
+        return cached;
+    }
+
+    /**
+     * @param name Nombre del movimiento
+     * @return Su identificador, o -1 si no existe
+     */
+    public int moveId(String name) {
+        Map<String, Integer> ids = moveIds;
+        if (ids == null) {
+            ids = new HashMap<>(moveCount * 2);
+            for (int i = 0; i < moveCount; i++) {
+                ids.put(pack != null ? pack.readMoveName(i) : moves.get(i).getName(), i);
+            }
+            moveIds = ids;
+        }
+        Integer id = ids.get(name);
+        return id != null ? id : -1;
+    }
+
+    // ============ DIAGNÓSTICO ============
+
+    /**
+     * Huella de los identificadores: CRC32 de los nombres de especies y movimientos en
+     * orden. Las partidas guardadas la comparan para no cargar identificadores de otros datos.
+     * @return Valor entre 0 y 2^32 - 1
+     */
+    public long getFingerprint() {
+        long value = fingerprint;
+        if (value < 0) {
+            CRC32 crc = new CRC32();
+            for (int i = 0; i < speciesCount; i++) {
+                crc.update((pack != null ? pack.readSpeciesName(i) : species.get(i).getName()).getBytes(StandardCharsets.UTF_8));
+                crc.update(0);
+            }
+            for (int i = 0; i < moveCount; i++) {
+                crc.update((pack != null ? pack.readMoveName(i) : moves.get(i).getName()).getBytes(StandardCharsets.UTF_8));
+                crc.update(0);
+            }
+            value = crc.getValue();
+            fingerprint = value;
+        }
+        return value;
+    }
+
+    /**
+     * @return Líneas omitidas al cargar los archivos de texto, como "archivo:línea: motivo"
+     */
+    public List<String> getProblems() {
+        return problems;
+    }
+}
@@ -0,0 +1,391 @@
+package Domain;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Lector de los archivos CSV de especies y movimientos. Cada archivo se lee
+ * entero de una vez y se recorre en una sola pasada sobre los bytes, marcando
+ * el inicio y el fin de cada campo sin partir la línea en textos; números y
+ * tipos se interpretan directamente sobre los bytes. Los archivos se procesan
+ * en paralelo en el ForkJoinPool común y después se unen en orden, así que los
+ * identificadores no dependen de cuál termine antes.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+final class GameDataLoader {
+    private static final int SPECIES_FIELDS = 11;
+    private static final int MOVE_FIELDS = 8;
+    private static final int MAX_FIELDS = 16;
+
+    private static final Type[] TYPES = Type.values();
+    private static final byte[][] TYPE_NAMES = new byte[TYPES.length * 2][]; // Nombre legible y nombre del enum
+
+    static {
+        for (Type type : TYPES) {
+            TYPE_NAMES[type.ordinal() * 2] = type.getFormattedName().getBytes(StandardCharsets.US_ASCII);
+            TYPE_NAMES[type.ordinal() * 2 + 1] = type.name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private static final byte[] PHYSICAL = "physical".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SPECIAL = "special".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] STATUS = "status".getBytes(StandardCharsets.US_ASCII);
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private GameDataLoader() {
+    }
+
+    static GameData load(Path speciesFile, List<Path> moveFiles) throws IOException {
+        SpeciesTask speciesTask = new SpeciesTask(speciesFile);
+        List<MoveTask> moveTasks = new ArrayList<>();
+        for (Path file : moveFiles) {
+            moveTasks.add(new MoveTask(file));
+        }
+
+        speciesTask.fork();
+        for (MoveTask task : moveTasks) {
+            task.fork();
+        }
+        try {
+            speciesTask.join();
+            for (MoveTask task : moveTasks) {
+                task.join();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // Unir en el orden de los archivos: los identificadores son siempre los mismos
+        List<String> problems = new ArrayList<>(speciesTask.problems);
+        List<Species> species = new ArrayList<>();
+        List<Integer> levels = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < speciesTask.species.size(); i++) {
+            Species entry = speciesTask.species.get(i);
+            if (!seen.add(entry.getName())) {
+                problems.add(speciesFile + ":" + speciesTask.lines.get(i) + ": especie repetida (" + entry.getName() + ")");
+                continue;
+            }
+            species.add(Species.register(entry));
+            levels.add(speciesTask.levels.get(i));
+        }
+
+        List<Movement> moves = new ArrayList<>();
+        seen.clear();
+        for (int t = 0; t < moveTasks.size(); t++) {
+            MoveTask task = moveTasks.get(t);
+            problems.addAll(task.problems);
+            for (int i = 0; i < task.moves.size(); i++) {
+                Movement move = task.moves.get(i);
+                if (!seen.add(move.getName())) {
+                    problems.add(moveFiles.get(t) + ":" + task.lines.get(i) + ": movimiento repetido (" + move.getName() + ")");
+                    continue;
+                }
+                moves.add(move);
+            }
+        }
+
+        int[] levelArray = new int[levels.size()];
+        for (int i = 0; i < levelArray.length; i++) {
+            levelArray[i] = levels.get(i);
+        }
+        return new GameData(species.toArray(new Species[0]), levelArray, moves.toArray(new Movement[0]), problems);
+    }
+
+    // ============ TAREAS POR ARCHIVO ============
+
+    /**
+     * Lee un archivo y procesa sus líneas; las mal formadas se anotan en problems
+     */
+    private abstract static class FileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final Path file;
+        final List<String> problems = new ArrayList<>();
+        final List<Integer> lines = new ArrayList<>(); // Línea de cada elemento aceptado
+        private final String rejected;
+
+        FileTask(Path file, String rejected) {
+            this.file = file;
+            this.rejected = rejected;
+        }
+
+        @Override
+        protected void compute() {
+            byte[] data;
+            try {
+                data = Files.readAllBytes(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            LineCursor cursor = new LineCursor(data);
+            while (cursor.nextLine()) {
+                if (cursor.isBlankOrComment()) {
+                    continue;
+                }
+                try {
+                    parse(cursor);
+                    lines.add(cursor.lineNumber);
+                } catch (IllegalArgumentException e) {
+                    problems.add(file + ":" + cursor.lineNumber + ": " + rejected + " (" + e.getMessage() + ")");
+                }
+            }
+        }
+
+        abstract void parse(LineCursor cursor);
+    }
+
+    private static final class SpeciesTask extends FileTask {
+        private static final long serialVersionUID = 1L;
+
+        final List<Species> species = new ArrayList<>();
+        final List<Integer> levels = new ArrayList<>();
+
+        SpeciesTask(Path file) {
+            super(file, "especie ignorada");
+        }
+
+        @Override
+        void parse(LineCursor c) {
+            c.requireFields(SPECIES_FIELDS);
+            Type primary = c.type(8);
+            if (primary == null) {
+                throw new IllegalArgumentException("falta el tipo principal");
+            }
+            Species entry = new Species(c.string(0), c.string(1),
+                    c.integer(2), c.integer(3), c.integer(4), c.integer(5), c.integer(6), c.integer(7),
+                    primary, c.type(9));
+            int level = c.integer(10);
+            species.add(entry);
+            levels.add(level);
+        }
+    }
+
+    private static final class MoveTask extends FileTask {
+        private static final long serialVersionUID = 1L;
+
+        final List<Movement> moves = new ArrayList<>();
+
+        MoveTask(Path file) {
+            super(file, "movimiento ignorado");
+        }
+
+        @Override
+        void parse(LineCursor c) {
+            c.requireFields(MOVE_FIELDS);
+            Type type = c.type(7);
+            if (type == null) {
+                throw new IllegalArgumentException("falta el tipo");
+            }
+            String name = c.string(0);
+            int power = c.integer(2);
+            int accuracy = c.integer(3);
+            int pp = c.integer(4);
+            double sideEffect = c.decimal(5);
+            int priority = c.integer(6);
+            if (c.fieldEquals(1, PHYSICAL)) {
+                moves.add(new PhysicalMovement(name, power, accuracy, pp, sideEffect, priority, type));
+            } else if (c.fieldEquals(1, SPECIAL)) {
+                moves.add(new SpecialMovement(name, power, accuracy, pp, sideEffect, priority, type));
+            } else if (c.fieldEquals(1, STATUS)) {
+                moves.add(new StateMovement(name, power, accuracy, pp, sideEffect, priority, type));
+            } else {
+                throw new IllegalArgumentException("categoría desconocida: " + c.raw(1));
+            }
+        }
+    }
+
+    // ============ RECORRIDO DE BYTES ============
+
+    /**
+     * Recorre las líneas de un archivo y deja los límites de sus campos
+     * (ya sin espacios alrededor) en start y end
+     */
+    private static final class LineCursor {
+        private final byte[] data;
+        private final Map<String, String> strings = new HashMap<>(); // Textos ya vistos en el archivo
+        private int position;
+        final int[] start = new int[MAX_FIELDS];
+        final int[] end = new int[MAX_FIELDS];
+        int fieldCount;
+        int lineNumber;
+
+        LineCursor(byte[] data) {
+            this.data = data;
+            // Saltar la marca BOM de UTF-8
+            if (data.length >= 3 && (data[0] & 0xFF) == 0xEF && (data[1] & 0xFF) == 0xBB && (data[2] & 0xFF) == 0xBF) {
+                position = 3;
+            }
+        }
+
+        boolean nextLine() {
+            if (position >= data.length) {
+                return false;
+            }
+            lineNumber++;
+            fieldCount = 0;
+            int fieldStart = position;
+            int i = position;
+            while (i < data.length && data[i] != '\n') {
+                if (data[i] == ',') {
+                    addField(fieldStart, i);
+                    fieldStart = i + 1;
+                }
+                i++;
+            }
+            int lineEnd = i > fieldStart && data[i - 1] == '\r' ? i - 1 : i;
+            addField(fieldStart, Math.max(fieldStart, lineEnd));
+            position = i + 1;
+            return true;
+        }
+
+        private void addField(int from, int to) {
+            if (fieldCount < MAX_FIELDS) {
+                while (from < to && isSpace(data[from])) {
+                    from++;
+                }
+                while (to > from && isSpace(data[to - 1])) {
+                    to--;
+                }
+                start[fieldCount] = from;
+                end[fieldCount] = to;
+            }
+            fieldCount++;
+        }
+
+        private static boolean isSpace(byte b) {
+            return b == ' ' || b == '\t' || b == '\r';
+        }
+
+        boolean isBlankOrComment() {
+            return (fieldCount == 1 && start[0] == end[0]) || (start[0] < end[0] && data[start[0]] == '#');
+        }
+
+        void requireFields(int count) {
+            if (fieldCount != count) {
+                throw new IllegalArgumentException("se esperaban " + count + " campos y hay " + fieldCount);
+            }
+        }
+
+        String raw(int field) {
+            return new String(data, start[field], end[field] - start[field], StandardCharsets.UTF_8);
+        }
+
+        /**
+         * @return Texto del campo; los textos repetidos en el archivo comparten instancia
+         */
+        String string(int field) {
+            if (start[field] == end[field]) {
+                throw new IllegalArgumentException("campo " + (field + 1) + " vacío");
+            }
+            String text = raw(field);
+            String previous = strings.putIfAbsent(text, text);
+            return previous != null ? previous : text;
+        }
+
+        int integer(int field) {
+            int i = start[field];
+            int to = end[field];
+            boolean negative = i < to && data[i] == '-';
+            if (negative || (i < to && data[i] == '+')) {
+                i++;
+            }
+            if (i == to) {
+                throw new IllegalArgumentException("número inválido en el campo " + (field + 1) + ": " + raw(field));
+            }
+            long value = 0;
+            for (; i < to; i++) {
+                int digit = data[i] - '0';
+                if (digit < 0 || digit > 9 || (value = value * 10 + digit) > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("número inválido en el campo " + (field + 1) + ": " + raw(field));
+                }
+            }
+            return (int) (negative ? -value : value);
+        }
+
+        /**
+         * Decimal simple (como 0.1); con exponentes u otros formatos recurre a Double.parseDouble
+         */
+        double decimal(int field) {
+            int i = start[field];
+            int to = end[field];
+            boolean negative = i < to && data[i] == '-';
+            if (negative) {
+                i++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int scale = -1; // Cifras tras el punto (-1 mientras no haya punto)
+            for (; i < to; i++) {
+                byte b = data[i];
+                if (b >= '0' && b <= '9' && digits < 15) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    digits++;
+                    if (scale >= 0) {
+                        scale++;
+                    }
+                } else if (b == '.' && scale < 0) {
+                    scale = 0;
+                } else {
+                    try {
+                        return Double.parseDouble(raw(field));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("decimal inválido en el campo " + (field + 1) + ": " + raw(field));
+                    }
+                }
+            }
+            if (digits == 0) {
+                throw new IllegalArgumentException("decimal inválido en el campo " + (field + 1) + ": " + raw(field));
+            }
+            // Ambos operandos son exactos, así que la división da el mismo double que parseDouble
+            double value = scale > 0 ? mantissa / POWERS_OF_TEN[scale] : mantissa;
+            return negative ? -value : value;
+        }
+
+        /**
+         * @return Tipo del campo, o null si está vacío
+         */
+        Type type(int field) {
+            if (start[field] == end[field]) {
+                return null;
+            }
+            for (int t = 0; t < TYPE_NAMES.length; t++) {
+                if (fieldEquals(field, TYPE_NAMES[t])) {
+                    return TYPES[t / 2];
+                }
+            }
+            throw new IllegalArgumentException("tipo desconocido: " + raw(field));
+        }
+
+        /**
+         * Compara el campo con un texto ASCII sin distinguir mayúsculas
+         */
+        boolean fieldEquals(int field, byte[] text) {
+            if (end[field] - start[field] != text.length) {
+                return false;
+            }
+            for (int i = 0; i < text.length; i++) {
+                if ((data[start[field] + i] | 0x20) != (text[i] | 0x20)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package Domain;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Paquete binario con los datos del juego ya compilados: tabla de tipos,
+ * especies, movimientos y moveset por defecto de cada especie. Se genera desde
+ * los archivos de texto con el main de esta clase y al arrancar se mapea en
+ * memoria; cada registro se decodifica solo cuando se pide, así que abrirlo no
+ * analiza ningún texto.
+ *
+ * El paquete guarda el tamaño, la fecha y el CRC32 de los archivos de los que
+ * salió. Si alguno cambió, open devuelve null y se cargan los archivos de texto.
+ * El CRC solo se calcula si cambió la fecha (por ejemplo tras clonar el repositorio).
+ *
+ * Formato (big-endian):
+ * cabecera (MAGIC, VERSION, número de tipos), archivos de origen (ruta, tamaño,
+ * fecha, CRC32), número de especies y movimientos, tablas de desplazamientos de sus
+ * registros, desplazamiento de los problemas, tabla de tipos y registros.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class GameDataPack {
+    public static final String DEFAULT_FILE = "resources/gamedata.pack";
+    public static final String TYPE_CHART_FILE = "resources/typechart.txt";
+
+    private static final int MAGIC = 0x504B4D44; // "PKMD"
+    private static final int VERSION = 1;
+    private static final int NO_TYPE = -1;
+
+    private static final byte PHYSICAL = 0;
+    private static final byte SPECIAL = 1;
+    private static final byte STATUS = 2;
+
+    // Especie: nivel y 6 estadísticas (int), 2 tipos y tamaño del moveset (byte)
+    private static final int SPECIES_MOVESET = 7 * Integer.BYTES + 3;
+    // Movimiento: categoría (byte), poder, precisión, pp (int), efecto (double), prioridad (int), tipo (byte)
+    private static final int MOVE_NAME = 1 + 3 * Integer.BYTES + Double.BYTES + Integer.BYTES + 1;
+
+    private static final Type[] TYPES = Type.values();
+
+    private final ByteBuffer buffer;
+    private final int speciesCount;
+    private final int moveCount;
+    private final int speciesTable;
+    private final int moveTable;
+    private final int problemsOffset;
+    private final int typeChartOffset;
+
+    private GameDataPack(ByteBuffer buffer, int speciesCount, int moveCount, int speciesTable,
+                         int moveTable, int problemsOffset, int typeChartOffset) {
+        this.buffer = buffer;
+        this.speciesCount = speciesCount;
+        this.moveCount = moveCount;
+        this.speciesTable = speciesTable;
+        this.moveTable = moveTable;
+        this.problemsOffset = problemsOffset;
+        this.typeChartOffset = typeChartOffset;
+    }
+
+    // ============ COMPILACIÓN ============
+
+    /**
+     * Compila los archivos de texto de resources en resources/gamedata.pack
+     */
+    public static void main(String[] args) throws IOException {
+        Path target = Paths.get(args.length > 0 ? args[0] : DEFAULT_FILE);
+        List<Path> sources = defaultSources();
+        List<Stamp> stamps = stamp(sources); // Antes de leer: si cambian durante la carga, el paquete queda viejo
+        GameData data = GameData.load(Paths.get(GameData.SPECIES_FILE), GameData.defaultMoveFiles());
+        for (String problem : data.getProblems()) {
+            System.err.println(problem);
+        }
+        writeStamped(data, stamps, target);
+        System.out.println("Paquete generado: " + target + " (" + data.speciesCount() + " especies, "
+                + data.moveCount() + " movimientos)");
+    }
+
+    /**
+     * Escribe el paquete de unos datos ya cargados; el archivo se reemplaza de una vez
+     * @param data Datos cargados de los archivos de texto
+     * @param sources Archivos de los que salieron los datos
+     * @param target Archivo de destino
+     * @throws IOException Si no se puede escribir
+     */
+    static void write(GameData data, List<Path> sources, Path target) throws IOException {
+        writeStamped(data, stamp(sources), target);
+    }
+
+    private static void writeStamped(GameData data, List<Stamp> stamps, Path target) throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(records);
+
+        int[] speciesOffsets = new int[data.speciesCount()];
+        for (int id = 0; id < speciesOffsets.length; id++) {
+            speciesOffsets[id] = out.size();
+            writeSpecies(out, data.getSpecies(id), data.getLevel(id), data.getMoveset(id));
+        }
+        int[] moveOffsets = new int[data.moveCount()];
+        for (int id = 0; id < moveOffsets.length; id++) {
+            moveOffsets[id] = out.size();
+            writeMove(out, data.getMove(id));
+        }
+        int problemsOffset = out.size();
+        out.writeInt(data.getProblems().size());
+        for (String problem : data.getProblems()) {
+            writeString(out, problem);
+        }
+        out.flush();
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream head = new DataOutputStream(header);
+        head.writeInt(MAGIC);
+        head.writeInt(VERSION);
+        head.writeInt(TYPES.length);
+        head.writeInt(stamps.size());
+        for (Stamp stamp : stamps) {
+            writeString(head, stamp.path);
+            head.writeLong(stamp.size);
+            head.writeLong(stamp.modified);
+            head.writeLong(stamp.crc);
+        }
+        head.writeInt(speciesOffsets.length);
+        head.writeInt(moveOffsets.length);
+
+        // Los desplazamientos son absolutos: cabecera + tablas + tabla de tipos
+        int base = head.size() + (speciesOffsets.length + moveOffsets.length + 1) * Integer.BYTES
+                + TYPES.length * TYPES.length * Double.BYTES;
+        for (int offset : speciesOffsets) {
+            head.writeInt(base + offset);
+        }
+        for (int offset : moveOffsets) {
+            head.writeInt(base + offset);
+        }
+        head.writeInt(base + problemsOffset);
+        for (Type attacker : TYPES) {
+            for (Type defender : TYPES) {
+                head.writeDouble(attacker.calculateMultiplier(defender));
+            }
+        }
+        records.writeTo(head);
+        head.flush();
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.write(temp, header.toByteArray());
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeSpecies(DataOutputStream out, Species species, int level, int[] moveset) throws IOException {
+        out.writeInt(level);
+        out.writeInt(species.getPs());
+        out.writeInt(species.getAttack());
+        out.writeInt(species.getDefence());
+        out.writeInt(species.getSpeed());
+        out.writeInt(species.getSpecialAttack());
+        out.writeInt(species.getSpecialDefence());
+        out.writeByte(typeIndex(species.getPrimaryType()));
+        out.writeByte(typeIndex(species.getSecondaryType()));
+        out.writeByte(moveset.length);
+        for (int move : moveset) {
+            out.writeInt(move);
+        }
+        writeString(out, species.getName());
+        writeString(out, species.getDescription());
+    }
+
+    private static void writeMove(DataOutputStream out, Movement move) throws IOException {
+        out.writeByte(move instanceof PhysicalMovement ? PHYSICAL : move instanceof StateMovement ? STATUS : SPECIAL);
+        out.writeInt(move.getPower());
+        out.writeInt(move.getAccuracy());
+        out.writeInt(move.getPp());
+        out.writeDouble(move.getSideEffect());
+        out.writeInt(move.getPriority());
+        out.writeByte(typeIndex(move.getMoveType()));
+        writeString(out, move.getName());
+    }
+
+    private static int typeIndex(Type type) {
+        return type != null ? type.ordinal() : NO_TYPE;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // ============ APERTURA ============
+
+    /**
+     * Mapea un paquete en memoria y comprueba que corresponda a los archivos de texto actuales
+     * @param file Paquete a abrir
+     * @return El paquete, o null si no existe, está dañado o es más antiguo que sus archivos de origen
+     */
+    static GameDataPack open(Path file) {
+        return open(file, true);
+    }
+
+    private static GameDataPack open(Path file, boolean report) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt() != TYPES.length) {
+                report(report, "Paquete de datos incompatible, cargando los archivos de texto: " + file);
+                return null;
+            }
+            int sources = buffer.getInt();
+            for (int i = 0; i < sources; i++) {
+                Stamp stamp = new Stamp(readString(buffer), buffer.getLong(), buffer.getLong(), buffer.getLong());
+                if (!stamp.isCurrent()) {
+                    report(report, "Paquete de datos desactualizado (" + stamp.path + "), cargando los archivos de texto");
+                    return null;
+                }
+            }
+            int speciesCount = buffer.getInt();
+            int moveCount = buffer.getInt();
+            int speciesTable = buffer.position();
+            int moveTable = speciesTable + speciesCount * Integer.BYTES;
+            int problemsOffset = buffer.getInt(moveTable + moveCount * Integer.BYTES);
+            int typeChartOffset = moveTable + (moveCount + 1) * Integer.BYTES;
+            if (problemsOffset < typeChartOffset || problemsOffset > buffer.limit()) {
+                report(report, "Paquete de datos dañado, cargando los archivos de texto: " + file);
+                return null;
+            }
+            return new GameDataPack(buffer, speciesCount, moveCount, speciesTable, moveTable,
+                    problemsOffset, typeChartOffset);
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            report(report, "Error abriendo el paquete de datos, cargando los archivos de texto: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void report(boolean report, String message) {
+        if (report) {
+            System.err.println(message);
+        }
+    }
+
+    /**
+     * Tabla de tipos del paquete por defecto, si está al día con resources/typechart.txt
+     * @return [atacante * COUNT + defensor], o null para leer el archivo de texto
+     */
+    static double[] readDefaultTypeChart() {
+        GameDataPack pack = open(Paths.get(DEFAULT_FILE), false); // GameData ya avisa si no sirve
+        return pack != null ? pack.readTypeChart() : null;
+    }
+
+    // ============ LECTURA ============
+
+    int speciesCount() {
+        return speciesCount;
+    }
+
+    int moveCount() {
+        return moveCount;
+    }
+
+    Species readSpecies(int id) {
+        ByteBuffer record = record(speciesTable, id);
+        int level = record.getInt();
+        int ps = record.getInt();
+        int attack = record.getInt();
+        int defence = record.getInt();
+        int speed = record.getInt();
+        int specialAttack = record.getInt();
+        int specialDefence = record.getInt();
+        Type primaryType = type(record.get());
+        Type secondaryType = type(record.get());
+        int movesetSize = record.get() & 0xFF;
+        record.position(record.position() + movesetSize * Integer.BYTES);
+        String name = readString(record);
+        String description = readString(record);
+        return new Species(name, description, ps, attack, defence, speed, specialAttack, specialDefence,
+                primaryType, secondaryType);
+    }
+
+    String readSpeciesName(int id) {
+        ByteBuffer record = record(speciesTable, id);
+        int movesetSize = record.get(record.position() + SPECIES_MOVESET - 1) & 0xFF;
+        record.position(record.position() + SPECIES_MOVESET + movesetSize * Integer.BYTES);
+        return readString(record);
+    }
+
+    int readLevel(int id) {
+        return buffer.getInt(buffer.getInt(speciesTable + id * Integer.BYTES));
+    }
+
+    int[] readMoveset(int id) {
+        ByteBuffer record = record(speciesTable, id);
+        record.position(record.position() + SPECIES_MOVESET - 1);
+        int[] moveset = new int[record.get() & 0xFF];
+        for (int i = 0; i < moveset.length; i++) {
+            moveset[i] = record.getInt();
+        }
+        return moveset;
+    }
+
+    Movement readMove(int id) {
+        ByteBuffer record = record(moveTable, id);
+        byte category = record.get();
+        int power = record.getInt();
+        int accuracy = record.getInt();
+        int pp = record.getInt();
+        double sideEffect = record.getDouble();
+        int priority = record.getInt();
+        Type type = type(record.get());
+        String name = readString(record);
+        switch (category) {
+            case PHYSICAL:
+                return new PhysicalMovement(name, power, accuracy, pp, sideEffect, priority, type);
+            case STATUS:
+                return new StateMovement(name, power, accuracy, pp, sideEffect, priority, type);
+            default:
+                return new SpecialMovement(name, power, accuracy, pp, sideEffect, priority, type);
+        }
+    }
+
+    String readMoveName(int id) {
+        ByteBuffer record = record(moveTable, id);
+        record.position(record.position() + MOVE_NAME);
+        return readString(record);
+    }
+
+    List<String> readProblems() {
+        ByteBuffer record = buffer.duplicate();
+        record.position(problemsOffset);
+        int count = record.getInt();
+        List<String> problems = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            problems.add(readString(record));
+        }
+        return Collections.unmodifiableList(problems);
+    }
+
+    double[] readTypeChart() {
+        double[] chart = new double[TYPES.length * TYPES.length];
+        for (int i = 0; i < chart.length; i++) {
+            chart[i] = buffer.getDouble(typeChartOffset + i * Double.BYTES);
+        }
+        return chart;
+    }
+
+    /**
+     * @return Vista propia del buffer colocada al inicio del registro, para leer desde varios hilos
+     */
+    private ByteBuffer record(int table, int id) {
+        ByteBuffer record = buffer.duplicate();
+        record.position(buffer.getInt(table + id * Integer.BYTES));
+        return record;
+    }
+
+    private static Type type(byte index) {
+        return index == NO_TYPE ? null : TYPES[index];
+    }
+
+    private static String readString(ByteBuffer record) {
+        byte[] bytes = new byte[record.getInt()];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ============ ARCHIVOS DE ORIGEN ============
+
+    private static List<Path> defaultSources() {
+        List<Path> sources = new ArrayList<>();
+        sources.add(Paths.get(TYPE_CHART_FILE));
+        sources.add(Paths.get(GameData.SPECIES_FILE));
+        sources.addAll(GameData.defaultMoveFiles());
+        return sources;
+    }
+
+    private static List<Stamp> stamp(List<Path> sources) throws IOException {
+        List<Stamp> stamps = new ArrayList<>();
+        for (Path source : sources) {
+            stamps.add(new Stamp(source.toString(), Files.size(source), Files.getLastModifiedTime(source).toMillis(),
+                    crc(source)));
+        }
+        return stamps;
+    }
+
+    private static long crc(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(file));
+        return crc.getValue();
+    }
+
+    /**
+     * Tamaño, fecha y CRC32 de un archivo de origen al compilar el paquete
+     */
+    private static final class Stamp {
+        private final String path;
+        private final long size;
+        private final long modified;
+        private final long crc;
+
+        private Stamp(String path, long size, long modified, long crc) {
+            this.path = path;
+            this.size = size;
+            this.modified = modified;
+            this.crc = crc;
+        }
+
+        /**
+         * @return true si el archivo no cambió; si ya no existe, el paquete es la única copia y vale
+         */
+        private boolean isCurrent() throws IOException {
+            Path file = Paths.get(path);
+            if (!Files.exists(file)) {
+                return true;
+            }
+            if (Files.size(file) != size) {
+                return false;
+            }
+            return Files.getLastModifiedTime(file).toMillis() == modified || crc(file) == crc;
+        }
+    }
+}
@@ -0,0 +1,617 @@
+package Domain;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.BufferUnderflowException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Formato binario .pkmn de las partidas guardadas.
+ *
+ * Cabecera fija: MAGIC, versión del archivo, versión mínima que sabe leerlo,
+ * tamaño de la cabecera, huella de los datos del juego, tamaño y CRC32 del
+ * contenido. Una versión futura puede alargar la cabecera (se salta lo que no se
+ * conoce) y añadir secciones: el contenido es una lista de secciones con
+ * identificador y tamaño, y las desconocidas se ignoran.
+ *
+ * Especies, movimientos, objetos y tipos de jugador se guardan como
+ * identificadores. Cada Pokémon y objeto se escribe una vez y los equipos y
+ * bolsas lo referencian por posición, así que un Pokémon que está en el equipo
+ * del jugador y en la batalla sigue siendo el mismo al cargar. La batalla guarda
+ * también el estado de su aleatoriedad y la partida la secuencia de su diario de
+ * turnos (BattleJournal), para repetir las acciones posteriores.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class GameSave {
+    public static final String EXTENSION = ".pkmn";
+
+    private static final int MAGIC = 0x504B4D4E; // "PKMN"
+    private static final short VERSION = 1;
+    private static final short MIN_READER_VERSION = 1; // Subir solo si un lector antiguo no puede entender el archivo
+    private static final int HEADER_SIZE = 28;
+
+    // Secciones, en el orden en que se leen
+    private static final byte SECTION_ITEMS = 1;
+    private static final byte SECTION_POKEMON = 2;
+    private static final byte SECTION_PLAYERS = 3;
+    private static final byte SECTION_SESSION = 4;
+    private static final byte SECTION_BATTLE = 5;
+    private static final byte SECTION_JOURNAL = 6;
+
+    private static final byte BATTLE_NORMAL = 1;
+    private static final byte BATTLE_SURVIVAL = 2;
+
+    // Identificadores de tipo de jugador y de objeto
+    private static final Class<?>[] PLAYER_KINDS = {
+        Trainer.class, AttackTrainerMachine.class, DefensiveTrainerMachine.class,
+        ChangeTrainerMachine.class, ExpertTrainerMachine.class
+    };
+    private static final Class<?>[] ITEM_KINDS = {
+        Potion.class, SuperPotion.class, HyperPotion.class, Revive.class
+    };
+
+    private GameSave() {
+    }
+
+    // ============ ESCRITURA ============
+
+    /**
+     * Guarda una partida; el archivo se reemplaza de una vez, así que un fallo a
+     * mitad no deja una partida dañada
+     * @param game Partida a guardar
+     * @param data Datos del juego con los que se crearon sus Pokémon
+     * @param file Archivo de destino
+     * @throws IOException Si no se puede escribir o la partida tiene algo que no se puede guardar
+     */
+    public static void write(POOBkemonEmerald game, GameData data, Path file) throws IOException {
+        writeTo(encode(game, data), file);
+    }
+
+    /**
+     * Codifica una partida en memoria, sin tocar el disco
+     * @return Archivo completo (cabecera y contenido) listo para writeTo
+     * @throws IOException Si la partida tiene algo que no se puede guardar
+     */
+    static ByteBuffer encode(POOBkemonEmerald game, GameData data) throws IOException {
+        Encoder encoder = new Encoder(data);
+        return encoder.encode(game);
+    }
+
+    /**
+     * Escribe un archivo ya codificado a través de un FileChannel
+     */
+    static void writeTo(ByteBuffer encoded, Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = encoded.duplicate();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static final class Encoder {
+        private final GameData data;
+        private final Map<Pokemon, Integer> pokemonIds = new IdentityHashMap<>();
+        private final List<Pokemon> pokemon = new ArrayList<>();
+        private final Map<Item, Integer> itemIds = new IdentityHashMap<>();
+        private final List<Item> items = new ArrayList<>();
+        private ByteBuffer out = ByteBuffer.allocate(4096);
+
+        private Encoder(GameData data) {
+            this.data = data;
+        }
+
+        private ByteBuffer encode(POOBkemonEmerald game) throws IOException {
+            Character player1 = game.getPlayer1();
+            Character player2 = game.getPlayer2();
+            Battle battle = game.getCurrentBattle();
+
+            // Primero reunir todos los Pokémon y objetos para darles un índice
+            collect(player1);
+            collect(player2);
+            collectPokemon(game.getTeamPlayer1());
+            collectPokemon(game.getTeamPlayer2());
+            collectItems(game.getBagPlayer1());
+            collectItems(game.getBagPlayer2());
+            if (battle != null) {
+                collectPokemon(battle.getTeamOf(1));
+                collectPokemon(battle.getTeamOf(2));
+                collectItems(battle.getBagOf(1));
+                collectItems(battle.getBagOf(2));
+            }
+
+            out.position(HEADER_SIZE);
+            int start = beginSection(SECTION_ITEMS);
+            out.putShort((short) items.size());
+            for (Item item : items) {
+                out.put((byte) kindOf(ITEM_KINDS, item, "objeto"));
+                putString(item.getName());
+            }
+            endSection(start);
+
+            start = beginSection(SECTION_POKEMON);
+            out.putShort((short) pokemon.size());
+            for (Pokemon entry : pokemon) {
+                writePokemon(entry);
+            }
+            endSection(start);
+
+            start = beginSection(SECTION_PLAYERS);
+            writePlayer(player1);
+            writePlayer(player2);
+            endSection(start);
+
+            start = beginSection(SECTION_SESSION);
+            out.put((byte) ((game.isGameStarted() ? 1 : 0) | (game.isBalancedSurvivalTeams() ? 2 : 0)));
+            putPokemonRefs(game.getTeamPlayer1());
+            putPokemonRefs(game.getTeamPlayer2());
+            putItemRefs(game.getBagPlayer1());
+            putItemRefs(game.getBagPlayer2());
+            endSection(start);
+
+            if (battle != null) {
+                start = beginSection(SECTION_BATTLE);
+                writeBattle(battle);
+                endSection(start);
+            }
+
+            start = beginSection(SECTION_JOURNAL);
+            ensure(Long.BYTES);
+            out.putLong(game.getJournalSequence());
+            endSection(start);
+
+            int payloadLength = out.position() - HEADER_SIZE;
+            CRC32 crc = new CRC32();
+            crc.update(out.array(), HEADER_SIZE, payloadLength);
+            out.putInt(0, MAGIC);
+            out.putShort(4, VERSION);
+            out.putShort(6, MIN_READER_VERSION);
+            out.putShort(8, (short) HEADER_SIZE);
+            out.putShort(10, (short) 0); // Opciones, reservado
+            out.putLong(12, data.getFingerprint());
+            out.putInt(20, payloadLength);
+            out.putInt(24, (int) crc.getValue());
+            out.flip();
+            return out;
+        }
+
+        private void collect(Character player) {
+            collectPokemon(player.getTeam());
+            collectItems(player.getItems());
+        }
+
+        private void collectPokemon(List<Pokemon> team) {
+            for (Pokemon entry : team) {
+                if (!pokemonIds.containsKey(entry)) {
+                    pokemonIds.put(entry, pokemon.size());
+                    pokemon.add(entry);
+                }
+            }
+        }
+
+        private void collectItems(List<Item> bag) {
+            for (Item item : bag) {
+                if (!itemIds.containsKey(item)) {
+                    itemIds.put(item, items.size());
+                    items.add(item);
+                }
+            }
+        }
+
+        /**
+         * Especie y movimientos como identificador; HP, etapas, estados y PP tal como están
+         */
+        private void writePokemon(Pokemon entry) throws IOException {
+            int species = data.speciesId(entry.getName());
+            if (species < 0) {
+                throw new IOException("Especie que no está en los datos del juego: " + entry.getName());
+            }
+            ensure(32);
+            out.putShort((short) species);
+            out.put((byte) entry.getLevel());
+            out.putShort((short) entry.getPs());
+            out.putInt(entry.packStatStages());
+            out.put((byte) entry.getStatusMask());
+            out.putInt(entry.getPPState());
+            out.put((byte) entry.moveCount());
+            for (int i = 0; i < entry.moveCount(); i++) {
+                int move = data.moveId(entry.moveAt(i).getName());
+                if (move < 0) {
+                    throw new IOException("Movimiento que no está en los datos del juego: " + entry.moveAt(i).getName());
+                }
+                out.putShort((short) move);
+            }
+        }
+
+        private void writePlayer(Character player) throws IOException {
+            ensure(1);
+            out.put((byte) kindOf(PLAYER_KINDS, player, "jugador"));
+            putString(player.getName());
+            putString(player.getDescription());
+            putPokemonRefs(player.getTeam());
+            putItemRefs(player.getItems());
+        }
+
+        /**
+         * Tipo, equipos y bolsas de la batalla, y su estado tomado de una instantánea
+         */
+        private void writeBattle(Battle battle) throws IOException {
+            ensure(1);
+            if (battle instanceof SurvivalBattle) {
+                out.put(BATTLE_SURVIVAL);
+            } else if (battle instanceof NormalBattle) {
+                out.put(BATTLE_NORMAL);
+            } else {
+                throw new IOException("Tipo de batalla que no se puede guardar: " + battle.getClass().getSimpleName());
+            }
+            putPokemonRefs(battle.getTeamOf(1));
+            putPokemonRefs(battle.getTeamOf(2));
+            putItemRefs(battle.getBagOf(1));
+            putItemRefs(battle.getBagOf(2));
+
+            int[] state = battle.snapshot().data;
+            int extraSize = state[BattleSnapshot.EXTRA_SIZE];
+            ensure(5 + 1 + extraSize * Integer.BYTES);
+            out.put((byte) state[BattleSnapshot.TURN]);
+            out.put((byte) state[BattleSnapshot.ENDED]);
+            out.put((byte) state[BattleSnapshot.WINNER]);
+            out.put((byte) state[BattleSnapshot.ACTIVE]);
+            out.put((byte) state[BattleSnapshot.ACTIVE + 1]);
+            out.put((byte) extraSize);
+            for (int i = 0; i < extraSize; i++) {
+                out.putInt(state[BattleSnapshot.HEADER + i]);
+            }
+            ensure(Long.BYTES);
+            out.putLong(battle.getRandomSource().getState());
+        }
+
+        private void putPokemonRefs(List<Pokemon> team) {
+            ensure(1 + team.size() * 2);
+            out.put((byte) team.size());
+            for (Pokemon entry : team) {
+                out.putShort((short) (int) pokemonIds.get(entry));
+            }
+        }
+
+        private void putItemRefs(List<Item> bag) {
+            ensure(1 + bag.size() * 2);
+            out.put((byte) bag.size());
+            for (Item item : bag) {
+                out.putShort((short) (int) itemIds.get(item));
+            }
+        }
+
+        private void putString(String value) {
+            byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+            ensure(2 + bytes.length);
+            out.putShort((short) bytes.length);
+            out.put(bytes);
+        }
+
+        private int beginSection(byte id) {
+            ensure(5);
+            out.put(id);
+            out.putInt(0); // Se completa en endSection
+            return out.position();
+        }
+
+        private void endSection(int start) {
+            out.putInt(start - Integer.BYTES, out.position() - start);
+        }
+
+        private void ensure(int bytes) {
+            if (out.remaining() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + bytes));
+                out.flip();
+                larger.put(out);
+                out = larger;
+            }
+        }
+    }
+
+    private static int kindOf(Class<?>[] kinds, Object value, String what) throws IOException {
+        for (int i = 0; i < kinds.length; i++) {
+            if (kinds[i] == value.getClass()) {
+                return i;
+            }
+        }
+        throw new IOException("Tipo de " + what + " que no se puede guardar: " + value.getClass().getSimpleName());
+    }
+
+    // ============ LECTURA ============
+
+    /**
+     * Carga una partida guardada
+     * @param file Archivo .pkmn
+     * @param data Datos del juego (deben ser los mismos con los que se guardó)
+     * @return Partida restaurada
+     * @throws IOException Si no se puede leer, está dañado, es de una versión más nueva o de otros datos
+     */
+    public static POOBkemonEmerald read(Path file, GameData data) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("No es una partida guardada: " + file);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Leer hasta el final
+            }
+            buffer.flip();
+        }
+        return decode(buffer, data, file.toString());
+    }
+
+    static POOBkemonEmerald decode(ByteBuffer buffer, GameData data, String source) throws IOException {
+        try {
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("No es una partida guardada: " + source);
+            }
+            if (buffer.getShort(6) > VERSION) {
+                throw new IOException("La partida es de una versión más nueva del juego: " + source);
+            }
+            int headerSize = buffer.getShort(8) & 0xFFFF;
+            if (buffer.getLong(12) != data.getFingerprint()) {
+                throw new IOException("La partida se guardó con otros datos de especies o movimientos: " + source);
+            }
+            int payloadLength = buffer.getInt(20);
+            if (headerSize < HEADER_SIZE || payloadLength < 0 || headerSize + payloadLength > buffer.limit()) {
+                throw new IOException("Partida incompleta: " + source);
+            }
+            CRC32 crc = new CRC32();
+            ByteBuffer payload = buffer.duplicate();
+            payload.position(headerSize).limit(headerSize + payloadLength);
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(24)) {
+                throw new IOException("Partida dañada (CRC incorrecto): " + source);
+            }
+            return new Decoder(data, payload).decode();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Partida dañada: " + source, e);
+        }
+    }
+
+    private static final class Decoder {
+        private final GameData data;
+        private final ByteBuffer in;
+        private final List<Pokemon> pokemon = new ArrayList<>();
+        private final List<Item> items = new ArrayList<>();
+        private Character player1;
+        private Character player2;
+        private POOBkemonEmerald game;
+
+        private Decoder(GameData data, ByteBuffer in) {
+            this.data = data;
+            this.in = in;
+        }
+
+        private POOBkemonEmerald decode() throws IOException {
+            while (in.hasRemaining()) {
+                byte section = in.get();
+                int length = in.getInt();
+                int end = in.position() + length;
+                switch (section) {
+                    case SECTION_ITEMS:
+                        readItems();
+                        break;
+                    case SECTION_POKEMON:
+                        readPokemon();
+                        break;
+                    case SECTION_PLAYERS:
+                        player1 = readPlayer();
+                        player2 = readPlayer();
+                        game = new POOBkemonEmerald(player1, player2, data);
+                        break;
+                    case SECTION_SESSION:
+                        readSession();
+                        break;
+                    case SECTION_BATTLE:
+                        readBattle(end);
+                        break;
+                    case SECTION_JOURNAL:
+                        requireGame();
+                        game.setJournalSequence(in.getLong());
+                        break;
+                    default:
+                        break; // Sección de una versión más nueva: se ignora
+                }
+                in.position(end);
+            }
+            if (game == null) {
+                throw new IOException("La partida no tiene jugadores");
+            }
+            return game;
+        }
+
+        private void readItems() throws IOException {
+            int count = in.getShort() & 0xFFFF;
+            for (int i = 0; i < count; i++) {
+                int kind = in.get();
+                String name = getString();
+                switch (kind) {
+                    case 0:
+                        items.add(new Potion(name));
+                        break;
+                    case 1:
+                        items.add(new SuperPotion(name));
+                        break;
+                    case 2:
+                        items.add(new HyperPotion(name));
+                        break;
+                    case 3:
+                        items.add(new Revive(name));
+                        break;
+                    default:
+                        throw new IOException("Tipo de objeto desconocido: " + kind);
+                }
+            }
+        }
+
+        private void readPokemon() {
+            int count = in.getShort() & 0xFFFF;
+            for (int i = 0; i < count; i++) {
+                Species species = data.getSpecies(in.getShort() & 0xFFFF);
+                Pokemon entry = new Pokemon(species, in.get() & 0xFF);
+                int ps = in.getShort();
+                int stages = in.getInt();
+                int status = in.get() & 0xFF;
+                int pp = in.getInt();
+                int moveCount = in.get() & 0xFF;
+                for (int m = 0; m < moveCount; m++) {
+                    entry.addMove(data.getMove(in.getShort() & 0xFFFF));
+                }
+                entry.setPs(ps);
+                entry.unpackStatStages(stages);
+                entry.setStatusMask(status);
+                entry.setPPState(pp);
+                pokemon.add(entry);
+            }
+        }
+
+        private Character readPlayer() throws IOException {
+            int kind = in.get();
+            String name = getString();
+            String description = getString();
+            Character player;
+            switch (kind) {
+                case 0:
+                    player = new Trainer(name, null, description);
+                    break;
+                case 1:
+                    player = new AttackTrainerMachine(name, null, description);
+                    break;
+                case 2:
+                    player = new DefensiveTrainerMachine(name, null, description);
+                    break;
+                case 3:
+                    player = new ChangeTrainerMachine(name, null, description);
+                    break;
+                case 4:
+                    player = new ExpertTrainerMachine(name, null, description);
+                    break;
+                default:
+                    throw new IOException("Tipo de jugador desconocido: " + kind);
+            }
+            for (Pokemon entry : getPokemonRefs()) {
+                player.addPokemon(entry);
+            }
+            for (Item item : getItemRefs()) {
+                player.addItem(item);
+            }
+            return player;
+        }
+
+        private void readSession() throws IOException {
+            requireGame();
+            int flags = in.get();
+            game.restoreSession(getPokemonRefs(), getPokemonRefs(), getItemRefs(), getItemRefs(),
+                    (flags & 1) != 0, (flags & 2) != 0);
+        }
+
+        private void readBattle(int end) throws IOException {
+            requireGame();
+            byte type = in.get();
+            List<Pokemon> team1 = getPokemonRefs();
+            List<Pokemon> team2 = getPokemonRefs();
+            List<Item> bag1 = getItemRefs();
+            List<Item> bag2 = getItemRefs();
+            if (team1.isEmpty() || team2.isEmpty()) {
+                throw new IOException("Batalla guardada sin equipos");
+            }
+
+            RandomSource random = new RandomSource();
+            Battle battle;
+            if (type == BATTLE_SURVIVAL) {
+                SurvivalBattle survival = new SurvivalBattle(team1.get(0), team2.get(0), player1, player2, random);
+                survival.setTeams(team1, team2);
+                battle = survival;
+            } else if (type == BATTLE_NORMAL) {
+                NormalBattle normal = new NormalBattle(team1.get(0), team2.get(0), player1, player2, random);
+                for (int i = 1; i < team1.size(); i++) {
+                    normal.addPokemonToTeam(team1.get(i), 1);
+                }
+                for (int i = 1; i < team2.size(); i++) {
+                    normal.addPokemonToTeam(team2.get(i), 2);
+                }
+                for (Item item : bag1) {
+                    normal.addItemToBag(item, 1);
+                }
+                for (Item item : bag2) {
+                    normal.addItemToBag(item, 2);
+                }
+                battle = normal;
+            } else {
+                throw new IOException("Tipo de batalla desconocido: " + type);
+            }
+
+            // Los Pokémon ya tienen su estado; la instantánea solo cambia turno, activos y estado propio
+            BattleSnapshot snapshot = battle.snapshot();
+            int[] state = snapshot.data;
+            state[BattleSnapshot.TURN] = in.get();
+            state[BattleSnapshot.ENDED] = in.get();
+            state[BattleSnapshot.WINNER] = in.get();
+            state[BattleSnapshot.ACTIVE] = in.get();
+            state[BattleSnapshot.ACTIVE + 1] = in.get();
+            int extraSize = in.get();
+            if (extraSize != state[BattleSnapshot.EXTRA_SIZE]) {
+                throw new IOException("Estado de batalla incompatible");
+            }
+            for (int i = 0; i < extraSize; i++) {
+                state[BattleSnapshot.HEADER + i] = in.getInt();
+            }
+            if (end - in.position() >= Long.BYTES) {
+                random.setState(in.getLong()); // Ausente en partidas anteriores al diario de turnos
+            }
+            battle.restore(snapshot);
+            game.restoreBattle(battle);
+        }
+
+        private void requireGame() throws IOException {
+            if (game == null) {
+                throw new IOException("Sección de partida antes que los jugadores");
+            }
+        }
+
+        private List<Pokemon> getPokemonRefs() {
+            int count = in.get() & 0xFF;
+            List<Pokemon> team = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                team.add(pokemon.get(in.getShort() & 0xFFFF));
+            }
+            return team;
+        }
+
+        private List<Item> getItemRefs() {
+            int count = in.get() & 0xFF;
+            List<Item> bag = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                bag.add(items.get(in.getShort() & 0xFFFF));
+            }
+            return bag;
+        }
+
+        private String getString() {
+            byte[] bytes = new byte[in.getShort() & 0xFFFF];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package Domain;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Guardado en segundo plano. submit codifica la partida en memoria en el hilo
+ * que la llama (una copia inmutable de unos cientos de bytes, sin tocar el
+ * disco) y un único hilo escritor la lleva al archivo. Si llegan varios
+ * guardados del mismo archivo antes de escribirlo, solo se escribe el último.
+ *
+ * La partida no es segura entre hilos, por eso se codifica en el hilo que la
+ * modifica (el de la interfaz) y el escritor solo ve bytes.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class GameSaveWriter implements Closeable {
+
+    /**
+     * Aviso del resultado de cada escritura; se llama desde el hilo escritor
+     */
+    public interface Listener {
+        /**
+         * @param file Archivo escrito
+         * @param error null si se guardó, o el motivo del fallo
+         */
+        void saveFinished(Path file, IOException error);
+    }
+
+    private final Listener listener;
+    private final Map<Path, ByteBuffer> pending = new LinkedHashMap<>(); // Último guardado pendiente de cada archivo
+    private final Thread thread;
+    private boolean writing;
+    private boolean closed;
+
+    /**
+     * @param listener Quién recibe el resultado de las escrituras (puede ser null)
+     */
+    public GameSaveWriter(Listener listener) {
+        this.listener = listener;
+        this.thread = new Thread(this::run, "POOBkemon-save");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // ============ PETICIONES ============
+
+    /**
+     * Toma una copia de la partida y la deja en cola para escribirla
+     * @param game Partida a guardar; se lee solo durante la llamada
+     * @param file Archivo de destino
+     * @return true si reemplazó un guardado del mismo archivo que aún no se había escrito
+     * @throws IOException Si la partida no tiene datos del juego o algo no se puede guardar
+     * @throws IllegalStateException Si el escritor ya se cerró
+     */
+    public boolean submit(POOBkemonEmerald game, Path file) throws IOException {
+        GameData data = game.getGameData();
+        if (data == null) {
+            throw new IOException("No hay datos del juego cargados");
+        }
+        ByteBuffer encoded = GameSave.encode(game, data);
+        synchronized (pending) {
+            if (closed) {
+                throw new IllegalStateException("El escritor de partidas está cerrado");
+            }
+            boolean coalesced = pending.remove(file) != null;
+            pending.put(file, encoded); // Al final de la cola: se escribe cuando le toque al más reciente
+            pending.notifyAll();
+            return coalesced;
+        }
+    }
+
+    /**
+     * @return true si hay guardados en cola o escribiéndose
+     */
+    public boolean isBusy() {
+        synchronized (pending) {
+            return writing || !pending.isEmpty();
+        }
+    }
+
+    /**
+     * Espera a que se escriba todo lo pendiente (por ejemplo antes de salir)
+     * @param timeoutMillis Espera máxima
+     * @return true si no queda nada por escribir
+     * @throws InterruptedException Si se interrumpe la espera
+     */
+    public boolean flush(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (pending) {
+            while (writing || !pending.isEmpty()) {
+                long left = deadline - System.currentTimeMillis();
+                if (left <= 0) {
+                    return false;
+                }
+                pending.wait(left);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Escribe lo pendiente y detiene el hilo escritor
+     */
+    @Override
+    public void close() {
+        synchronized (pending) {
+            closed = true;
+            pending.notifyAll();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ============ HILO ESCRITOR ============
+
+    private void run() {
+        while (true) {
+            Path file;
+            ByteBuffer encoded;
+            synchronized (pending) {
+                while (pending.isEmpty() && !closed) {
+                    try {
+                        pending.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pending.isEmpty()) {
+                    return; // Cerrado y sin nada pendiente
+                }
+                Iterator<Map.Entry<Path, ByteBuffer>> oldest = pending.entrySet().iterator();
+                Map.Entry<Path, ByteBuffer> entry = oldest.next();
+                oldest.remove();
+                file = entry.getKey();
+                encoded = entry.getValue();
+                writing = true;
+            }
+
+            IOException error = null;
+            try {
+                GameSave.writeTo(encoded, file);
+            } catch (IOException e) {
+                error = e;
+            }
+            if (listener != null) {
+                try {
+                    listener.saveFinished(file, error);
+                } catch (RuntimeException e) {
+                    System.err.println("Error avisando del guardado: " + e);
+                }
+            }
+
+            synchronized (pending) {
+                writing = false;
+                pending.notifyAll();
+            }
+        }
+    }
+}
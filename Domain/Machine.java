@@ -2,16 +2,15 @@ package Domain;
 
 import java.awt.*;
 import java.util.ArrayList;
-import java.util.Random;
 
 public abstract class Machine extends Character {
-    protected Random random;
+    protected RandomSource random;
     protected String aiType;
     protected int difficultyLevel; // 1 = Fácil, 2 = Medio, 3 = Difícil
 
     public Machine(String name, Image image, String description) {
         super(name, image, description);
-        this.random = new Random();
+        this.random = RandomSource.local(); // Se reemplaza por la fuente de la batalla en makeDecision
         this.aiType = "Basic";
         this.difficultyLevel = 1;
         
@@ -21,7 +20,10 @@ public abstract class Machine extends Character {
 
     @Override
     public void makeDecision(Battle battle) {
-        System.out.println(name + " está analizando la situación...");
+        events.emit(BattleEventType.AI_THINKING, this, "está analizando la situación...");
+        
+        // Las decisiones aleatorias usan la misma fuente que la batalla
+        random = battle.getRandomSource();
         
         // Lógica básica de decisión de IA
         Pokemon currentPokemon = battle.getCurrentPokemon();
@@ -60,13 +62,14 @@ public abstract class Machine extends Character {
 
     @Override
     public Movement chooseMove(Pokemon pokemon) {
-        if (pokemon == null || pokemon.getMoves().isEmpty()) {
+        if (pokemon == null || pokemon.moveCount() == 0) {
             return null;
         }
         
         // Estrategia básica: elegir el movimiento con más poder
-        Movement bestMove = pokemon.getMoves().get(0);
-        for (Movement move : pokemon.getMoves()) {
+        Movement bestMove = pokemon.moveAt(0);
+        for (int i = 0; i < pokemon.moveCount(); i++) {
+            Movement move = pokemon.moveAt(i);
             if (move.getPower() > bestMove.getPower()) {
                 bestMove = move;
             }
@@ -102,14 +105,14 @@ public abstract class Machine extends Character {
         
         // Cambiar si el Pokémon actual está muy débil
         if (currentPokemon.getPs() < (currentPokemon.getPs() * 0.2)) {
-            return !getAvailablePokemon().isEmpty();
+            return hasAvailablePokemon();
         }
         
         return false;
     }
     
     public void displayAIThinking() {
-        System.out.println(name + " (" + aiType + ") está calculando...");
+        events.emit(BattleEventType.AI_THINKING, this, "está calculando...");
     }
     
     // ============ GETTERS Y SETTERS ============
@@ -0,0 +1,225 @@
+package Domain;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Estimador Monte Carlo de enfrentamientos entre todas las especies.
+ * Para cada IA y cada par ordenado de especies juega N batallas uno contra uno
+ * en un ForkJoinPool y construye una MatchupMatrix con intervalos de confianza.
+ * Cada celda deriva su propia semilla de la semilla raíz y de su posición, así
+ * que el resultado no depende del número de hilos ni del orden de ejecución.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public class MatchupEstimator {
+    public static final int DEFAULT_BATTLES_PER_PAIR = 100;
+    public static final long DEFAULT_SEED = 20240601L;
+    public static final String[] AI_NAMES = {"Attack", "Defensive", "Change", "Expert"};
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final GameData data;
+    private final int battlesPerPair;
+    private final long seed;
+    private final BattleSimulator simulator;
+
+    /**
+     * @param speciesFile Lista de especies (nombre,descripción,hp,atk,def,speed,spatk,spdef,tipo1,tipo2,nivel)
+     * @param moveFiles Listas de movimientos (nombre,categoría,poder,precisión,pp,efecto,prioridad,tipo)
+     * @param battlesPerPair Batallas por par ordenado de especies y por IA
+     * @param seed Semilla raíz
+     * @throws IOException Si no se puede leer algún archivo
+     */
+    public MatchupEstimator(Path speciesFile, List<Path> moveFiles, int battlesPerPair, long seed) throws IOException {
+        this(loadReporting(speciesFile, moveFiles), battlesPerPair, seed);
+    }
+
+    /**
+     * @param data Especies y movimientos ya cargados
+     * @param battlesPerPair Batallas por par ordenado de especies y por IA
+     * @param seed Semilla raíz
+     */
+    public MatchupEstimator(GameData data, int battlesPerPair, long seed) {
+        if (battlesPerPair <= 0) {
+            throw new IllegalArgumentException("El número de batallas por par debe ser positivo");
+        }
+        if (data.speciesCount() == 0 || data.moveCount() == 0) {
+            throw new IllegalArgumentException("No hay especies o movimientos para simular");
+        }
+        this.data = data;
+        this.battlesPerPair = battlesPerPair;
+        this.seed = seed;
+        this.simulator = new BattleSimulator();
+    }
+
+    // ============ ESTIMACIÓN ============
+
+    /**
+     * Simula todas las celdas de la matriz en el pool indicado
+     * @param pool Pool donde se reparten las celdas
+     * @return Matriz de tasas de victoria
+     */
+    public MatchupMatrix estimate(ForkJoinPool pool) {
+        int cells = AI_NAMES.length * data.speciesCount() * data.speciesCount();
+        int[] wins = new int[cells];
+        int[] draws = new int[cells];
+        int[] capped = new int[cells];
+        pool.invoke(new CellRangeTask(0, cells, wins, draws, capped));
+
+        String[] names = new String[data.speciesCount()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = data.getSpecies(i).getName();
+        }
+        return new MatchupMatrix(AI_NAMES.clone(), names, battlesPerPair, seed, wins, draws, capped);
+    }
+
+    /**
+     * Divide el rango de celdas hasta llegar a celdas sueltas; cada celda escribe
+     * solo en su propia posición de los arreglos de resultados
+     */
+    private final class CellRangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int[] wins;
+        private final int[] draws;
+        private final int[] capped;
+
+        CellRangeTask(int from, int to, int[] wins, int[] draws, int[] capped) {
+            this.from = from;
+            this.to = to;
+            this.wins = wins;
+            this.draws = draws;
+            this.capped = capped;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                simulateCell(from, wins, draws, capped);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CellRangeTask(from, middle, wins, draws, capped),
+                    new CellRangeTask(middle, to, wins, draws, capped));
+        }
+    }
+
+    private void simulateCell(int cell, int[] wins, int[] draws, int[] capped) {
+        int count = data.speciesCount();
+        int ai = cell / (count * count);
+        int row = (cell / count) % count;
+        int column = cell % count;
+        long cellSeed = mix(seed + GOLDEN_GAMMA * (cell + 1L));
+
+        int cellWins = 0;
+        int cellDraws = 0;
+        int cellCapped = 0;
+        for (int battle = 0; battle < battlesPerPair; battle++) {
+            // Se alterna quién mueve primero para no favorecer a la fila
+            boolean rowFirst = (battle & 1) == 0;
+            Machine player1 = createMachine(ai, "Jugador 1");
+            Machine player2 = createMachine(ai, "Jugador 2");
+            player1.addPokemon(data.createPokemon(rowFirst ? row : column));
+            player2.addPokemon(data.createPokemon(rowFirst ? column : row));
+
+            BattleResult result = simulator.simulateNormalBattle(player1, player2, mix(cellSeed + GOLDEN_GAMMA * (battle + 1L)));
+            if (!result.isFinished()) {
+                cellCapped++; // Sin resultado: no es un empate
+            } else if (result.isDraw()) {
+                cellDraws++;
+            } else if ((result.getWinnerNumber() == 1) == rowFirst) {
+                cellWins++;
+            }
+        }
+        wins[cell] = cellWins;
+        draws[cell] = cellDraws;
+        capped[cell] = cellCapped;
+    }
+
+    /**
+     * Mezclador de SplitMix64: semillas consecutivas dan flujos independientes
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private Machine createMachine(int ai, String name) {
+        switch (ai) {
+            case 0:
+                return new AttackTrainerMachine(name, null, "");
+            case 1:
+                return new DefensiveTrainerMachine(name, null, "");
+            case 2:
+                return new ChangeTrainerMachine(name, null, "");
+            default:
+                ExpertTrainerMachine expert = new ExpertTrainerMachine(name, null, "");
+                // Sin límite de tiempo la búsqueda es determinista y el resultado no depende de la carga
+                expert.setSearchLimits(ExpertTrainerMachine.DEFAULT_SEARCH_DEPTH, 0);
+                return expert;
+        }
+    }
+
+    // ============ LECTURA DE DATOS ============
+
+    /**
+     * Carga los datos y avisa por la salida de errores de las líneas omitidas
+     */
+    private static GameData loadReporting(Path speciesFile, List<Path> moveFiles) throws IOException {
+        GameData data = GameData.load(speciesFile, moveFiles);
+        for (String problem : data.getProblems()) {
+            System.err.println(problem);
+        }
+        return data;
+    }
+
+    // ============ EJECUCIÓN ============
+
+    /**
+     * Uso: MatchupEstimator [batallasPorPar] [archivoSalida] [semilla] [hilos]
+     */
+    public static void main(String[] args) throws IOException {
+        int battles = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BATTLES_PER_PAIR;
+        Path output = Paths.get(args.length > 1 ? args[1] : "matchups.tsv");
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        List<Path> moveFiles = new ArrayList<>();
+        for (String file : GameData.MOVE_FILES) {
+            moveFiles.add(Paths.get(file));
+        }
+        MatchupEstimator estimator = new MatchupEstimator(Paths.get(GameData.SPECIES_FILE), moveFiles, battles, seed);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        MatchupMatrix matrix;
+        try {
+            matrix = estimator.estimate(pool);
+        } finally {
+            pool.shutdown();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        matrix.writeTo(output);
+        long total = (long) AI_NAMES.length * estimator.data.speciesCount() * estimator.data.speciesCount() * battles;
+        System.out.println(total + " batallas en " + elapsedMillis + " ms con " + threads + " hilos -> " + output.toAbsolutePath());
+        for (int ai = 0; ai < AI_NAMES.length; ai++) {
+            int cappedTotal = matrix.getCappedTotal(ai);
+            if (cappedTotal > 0) {
+                System.err.println("Aviso: IA " + AI_NAMES[ai] + ": " + cappedTotal + " de " + total / AI_NAMES.length
+                        + " batallas cortadas por el límite de turnos (no cuentan en la tasa)");
+            }
+        }
+    }
+}
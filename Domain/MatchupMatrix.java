@@ -0,0 +1,238 @@
+package Domain;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Matriz de tasas de victoria entre especies, una por cada IA.
+ * La celda (ia, fila, columna) cuenta las victorias de la especie de la fila
+ * contra la de la columna cuando ambos lados usan esa IA.
+ *
+ * Las batallas cortadas por el límite de turnos no tienen resultado: se cuentan
+ * aparte y no entran en la tasa ni en el intervalo. Una celda sin ninguna
+ * batalla terminada no tiene tasa (NaN).
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class MatchupMatrix {
+    private static final double Z_95 = 1.959963984540054;
+
+    private final String[] aiNames;
+    private final String[] speciesNames;
+    private final int battlesPerPair;
+    private final long seed;
+    private final int[] wins;
+    private final int[] draws;
+    private final int[] capped;
+
+    /**
+     * @param aiNames Nombres de las IAs (primer índice de la matriz)
+     * @param speciesNames Nombres de las especies (filas y columnas)
+     * @param battlesPerPair Batallas jugadas por celda
+     * @param seed Semilla raíz de la estimación
+     * @param wins Victorias de la fila por celda, indexadas con cellIndex
+     * @param draws Empates por celda, indexados con cellIndex
+     * @param capped Batallas cortadas por el límite de turnos por celda, indexadas con cellIndex
+     */
+    MatchupMatrix(String[] aiNames, String[] speciesNames, int battlesPerPair, long seed, int[] wins, int[] draws,
+            int[] capped) {
+        this.aiNames = aiNames;
+        this.speciesNames = speciesNames;
+        this.battlesPerPair = battlesPerPair;
+        this.seed = seed;
+        this.wins = wins;
+        this.draws = draws;
+        this.capped = capped;
+    }
+
+    static int cellIndex(int ai, int row, int column, int speciesCount) {
+        return (ai * speciesCount + row) * speciesCount + column;
+    }
+
+    // ============ CONSULTAS ============
+
+    public int getWins(int ai, int row, int column) {
+        return wins[cellIndex(ai, row, column, speciesNames.length)];
+    }
+
+    public int getDraws(int ai, int row, int column) {
+        return draws[cellIndex(ai, row, column, speciesNames.length)];
+    }
+
+    /**
+     * @return Batallas de la celda cortadas por el límite de turnos
+     */
+    public int getCapped(int ai, int row, int column) {
+        return capped[cellIndex(ai, row, column, speciesNames.length)];
+    }
+
+    /**
+     * @return Batallas de la celda que terminaron (con ganador o empate)
+     */
+    public int getFinished(int ai, int row, int column) {
+        return battlesPerPair - getCapped(ai, row, column);
+    }
+
+    /**
+     * @return Batallas cortadas por el límite de turnos en toda la matriz de una IA
+     */
+    public int getCappedTotal(int ai) {
+        int total = 0;
+        for (int row = 0; row < speciesNames.length; row++) {
+            for (int column = 0; column < speciesNames.length; column++) {
+                total += getCapped(ai, row, column);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Tasa de victorias de la fila contra la columna entre las batallas terminadas
+     * (los empates cuentan como media victoria)
+     * @return Tasa, o NaN si ninguna batalla de la celda terminó
+     */
+    public double getWinRate(int ai, int row, int column) {
+        int finished = getFinished(ai, row, column);
+        return finished == 0 ? Double.NaN : score(ai, row, column) / finished;
+    }
+
+    /**
+     * Límite inferior del intervalo de Wilson al 95% de la tasa de victorias
+     */
+    public double getLowerBound(int ai, int row, int column) {
+        return wilson(score(ai, row, column), getFinished(ai, row, column), -1);
+    }
+
+    /**
+     * Límite superior del intervalo de Wilson al 95% de la tasa de victorias
+     */
+    public double getUpperBound(int ai, int row, int column) {
+        return wilson(score(ai, row, column), getFinished(ai, row, column), 1);
+    }
+
+    /**
+     * Tasa de victorias media de una especie contra todo el plantel, sin contar
+     * los rivales con los que ninguna batalla terminó
+     * @return Media, o NaN si no terminó ninguna batalla de la fila
+     */
+    public double getAverageWinRate(int ai, int row) {
+        double total = 0;
+        int columns = 0;
+        for (int column = 0; column < speciesNames.length; column++) {
+            double rate = getWinRate(ai, row, column);
+            if (!Double.isNaN(rate)) {
+                total += rate;
+                columns++;
+            }
+        }
+        return columns == 0 ? Double.NaN : total / columns;
+    }
+
+    private double score(int ai, int row, int column) {
+        int cell = cellIndex(ai, row, column, speciesNames.length);
+        return wins[cell] + 0.5 * draws[cell];
+    }
+
+    private static double wilson(double successes, int trials, int sign) {
+        if (trials == 0) {
+            return sign < 0 ? 0.0 : 1.0;
+        }
+        double p = successes / trials;
+        double z2 = Z_95 * Z_95;
+        double denominator = 1 + z2 / trials;
+        double center = p + z2 / (2.0 * trials);
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials));
+        return Math.max(0.0, Math.min(1.0, (center + sign * margin) / denominator));
+    }
+
+    // ============ SALIDA ============
+
+    /**
+     * Escribe una tabla separada por tabuladores por cada IA.
+     * Cada celda es "tasa [inferior-superior]"; la última columna es la media de la fila.
+     * Si alguna batalla de la celda se cortó por el límite de turnos se añade
+     * " cortadas=N", y una celda sin batallas terminadas se escribe "sin datos".
+     * @param file Archivo de destino
+     * @throws IOException Si no se puede escribir el archivo
+     */
+    public void writeTo(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("# Matriz de victorias POOBkemon");
+            out.newLine();
+            out.write("# batallas por par: " + battlesPerPair + ", semilla: " + seed);
+            out.newLine();
+            out.write("# fila = especie evaluada, columna = rival; celda = tasa de victorias [IC 95% de Wilson]");
+            out.newLine();
+            out.write("# las batallas cortadas por el límite de turnos no cuentan en la tasa (cortadas=N)");
+            out.newLine();
+
+            for (int ai = 0; ai < aiNames.length; ai++) {
+                out.newLine();
+                out.write("## IA: " + aiNames[ai]);
+                out.newLine();
+                int cappedTotal = getCappedTotal(ai);
+                if (cappedTotal > 0) {
+                    long battles = (long) battlesPerPair * speciesNames.length * speciesNames.length;
+                    out.write("# AVISO: " + cappedTotal + " de " + battles + " batallas cortadas por el límite de turnos");
+                    out.newLine();
+                }
+                out.write("especie");
+                for (String name : speciesNames) {
+                    out.write('\t');
+                    out.write(name);
+                }
+                out.write("\tmedia");
+                out.newLine();
+
+                for (int row = 0; row < speciesNames.length; row++) {
+                    out.write(speciesNames[row]);
+                    for (int column = 0; column < speciesNames.length; column++) {
+                        out.write('\t');
+                        out.write(formatCell(ai, row, column));
+                    }
+                    double average = getAverageWinRate(ai, row);
+                    out.write(Double.isNaN(average) ? "\tsin datos" : String.format(Locale.ROOT, "\t%.3f", average));
+                    out.newLine();
+                }
+            }
+        }
+    }
+
+    private String formatCell(int ai, int row, int column) {
+        int cut = getCapped(ai, row, column);
+        if (cut == battlesPerPair) {
+            return "sin datos cortadas=" + cut;
+        }
+        String cell = String.format(Locale.ROOT, "%.3f [%.3f-%.3f]",
+                getWinRate(ai, row, column), getLowerBound(ai, row, column), getUpperBound(ai, row, column));
+        return cut > 0 ? cell + " cortadas=" + cut : cell;
+    }
+
+    // ============ GETTERS ============
+
+    public String[] getAiNames() {
+        return aiNames.clone();
+    }
+
+    public String[] getSpeciesNames() {
+        return speciesNames.clone();
+    }
+
+    public int getBattlesPerPair() {
+        return battlesPerPair;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
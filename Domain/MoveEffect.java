@@ -0,0 +1,208 @@
+package Domain;
+
+/**
+ * Efecto de un movimiento de estado, resuelto una sola vez a partir de su nombre
+ * al crear el movimiento: cambios de etapa del usuario y del objetivo, estado
+ * que inflige, fracción de HP que cura y si cura los estados del usuario.
+ * Usar el movimiento solo recorre estos datos, y la IA los consulta sin
+ * analizar textos.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class MoveEffect {
+    /** Movimiento sin efecto conocido */
+    public static final MoveEffect NONE = new MoveEffect(new int[0], new int[0], null, 0.0, false);
+
+    private static final Stat[] STATS = Stat.values();
+
+    private final int[] userStatChanges; // Por Stat.ordinal()
+    private final int[] targetStatChanges; // Por Stat.ordinal()
+    private final StatusCondition inflictedStatus;
+    private final double healFraction;
+    private final boolean curesStatus;
+
+    private MoveEffect(int[] userStatChanges, int[] targetStatChanges, StatusCondition inflictedStatus,
+                       double healFraction, boolean curesStatus) {
+        this.userStatChanges = userStatChanges;
+        this.targetStatChanges = targetStatChanges;
+        this.inflictedStatus = inflictedStatus;
+        this.healFraction = healFraction;
+        this.curesStatus = curesStatus;
+    }
+
+    // ============ RESOLUCIÓN ============
+
+    /**
+     * Busca el efecto de un movimiento de estado por su nombre
+     * @param moveName Nombre del movimiento (sin importar mayúsculas)
+     * @return Su efecto, o NONE si no es ninguno de los conocidos
+     */
+    public static MoveEffect forMove(String moveName) {
+        String name = moveName.toLowerCase();
+
+        // Movimientos de estado que afectan estadísticas
+        if (name.contains("swords dance")) {
+            return userStats(Stat.ATTACK, 2);
+        } else if (name.contains("dragon dance")) {
+            return userStats(Stat.ATTACK, 1, Stat.SPEED, 1);
+        } else if (name.contains("calm mind")) {
+            return userStats(Stat.SPECIAL_ATTACK, 1, Stat.SPECIAL_DEFENCE, 1);
+        } else if (name.contains("iron defense")) {
+            return userStats(Stat.DEFENCE, 2);
+        } else if (name.contains("agility")) {
+            return userStats(Stat.SPEED, 2);
+        }
+
+        // Movimientos que causan estados
+        else if (name.contains("sleep") || name.contains("hypnosis")) {
+            return inflicts(StatusCondition.SLEEP);
+        } else if (name.contains("thunder wave") || name.contains("stun spore")) {
+            return inflicts(StatusCondition.PARALYSIS);
+        } else if (name.contains("toxic")) {
+            return inflicts(StatusCondition.POISON);
+        } else if (name.contains("will-o-wisp")) {
+            return inflicts(StatusCondition.BURN);
+        }
+
+        // Movimientos de curación
+        else if (name.contains("recover") || name.contains("roost")
+                || name.contains("synthesis") || name.contains("moonlight")) {
+            return new MoveEffect(new int[0], new int[0], null, 0.5, false);
+        } else if (name.contains("aromatherapy")) {
+            return new MoveEffect(new int[0], new int[0], null, 0.0, true);
+        }
+
+        // Movimientos que afectan estadísticas del oponente
+        else if (name.contains("growl")) {
+            return targetStats(Stat.ATTACK, -1);
+        } else if (name.contains("leer")) {
+            return targetStats(Stat.DEFENCE, -1);
+        } else if (name.contains("charm")) {
+            return targetStats(Stat.ATTACK, -2);
+        } else if (name.contains("screech")) {
+            return targetStats(Stat.DEFENCE, -2);
+        } else if (name.contains("scary face")) {
+            return targetStats(Stat.SPEED, -2);
+        }
+
+        return NONE;
+    }
+
+    private static MoveEffect userStats(Stat stat, int change) {
+        return new MoveEffect(statChanges(stat, change, stat, change), new int[0], null, 0.0, false);
+    }
+
+    private static MoveEffect userStats(Stat first, int firstChange, Stat second, int secondChange) {
+        return new MoveEffect(statChanges(first, firstChange, second, secondChange), new int[0], null, 0.0, false);
+    }
+
+    private static MoveEffect targetStats(Stat stat, int change) {
+        return new MoveEffect(new int[0], statChanges(stat, change, stat, change), null, 0.0, false);
+    }
+
+    private static MoveEffect inflicts(StatusCondition condition) {
+        return new MoveEffect(new int[0], new int[0], condition, 0.0, false);
+    }
+
+    /**
+     * @return Cambio de etapa por Stat.ordinal() (si las dos Stat coinciden, cuenta una vez)
+     */
+    private static int[] statChanges(Stat first, int firstChange, Stat second, int secondChange) {
+        int[] result = new int[STATS.length];
+        result[first.ordinal()] = firstChange;
+        result[second.ordinal()] = secondChange;
+        return result;
+    }
+
+    // ============ APLICACIÓN ============
+
+    /**
+     * Aplica el efecto
+     * @param user Pokémon que usa el movimiento
+     * @param target Pokémon objetivo
+     * @return true si había algún efecto que aplicar
+     */
+    public boolean apply(Pokemon user, Pokemon target) {
+        if (this == NONE) {
+            return false;
+        }
+        for (int i = 0; i < userStatChanges.length; i++) {
+            if (userStatChanges[i] != 0) {
+                user.modifyStat(STATS[i], userStatChanges[i]);
+            }
+        }
+        for (int i = 0; i < targetStatChanges.length; i++) {
+            if (targetStatChanges[i] != 0) {
+                target.modifyStat(STATS[i], targetStatChanges[i]);
+            }
+        }
+        if (inflictedStatus != null) {
+            target.addStatusEffect(inflictedStatus);
+        }
+        if (healFraction > 0) {
+            user.heal((int) (user.getMaxPs() * healFraction));
+        }
+        if (curesStatus) {
+            user.clearStatusEffects();
+        }
+        return true;
+    }
+
+    // ============ CONSULTAS ============
+
+    public int getUserStatChange(Stat stat) {
+        return stat.ordinal() < userStatChanges.length ? userStatChanges[stat.ordinal()] : 0;
+    }
+
+    public int getTargetStatChange(Stat stat) {
+        return stat.ordinal() < targetStatChanges.length ? targetStatChanges[stat.ordinal()] : 0;
+    }
+
+    /**
+     * @return Estado que inflige al objetivo, o null si no inflige ninguno
+     */
+    public StatusCondition getInflictedStatus() {
+        return inflictedStatus;
+    }
+
+    /**
+     * @return Fracción del HP máximo que cura al usuario (0 si no cura)
+     */
+    public double getHealFraction() {
+        return healFraction;
+    }
+
+    public boolean curesStatus() {
+        return curesStatus;
+    }
+
+    /**
+     * @return true si sube alguna etapa del usuario
+     */
+    public boolean isBoosting() {
+        for (int change : userStatChanges) {
+            if (change > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true si baja alguna etapa del objetivo
+     */
+    public boolean isDebuffing() {
+        for (int change : targetStatChanges) {
+            if (change < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isHealing() {
+        return healFraction > 0;
+    }
+}
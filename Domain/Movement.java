@@ -1,11 +1,22 @@
 package Domain;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Definición de un movimiento. No guarda estado de batalla: los PP que le
+ * quedan a cada Pokémon están en el propio Pokemon, así que una misma
+ * instancia puede compartirse entre todos los Pokémon y equipos.
+ */
 public abstract class Movement {
-    protected String name;
+    public static final int MAX_PP = 255; // Límite de los PP por ranura en Pokemon
+    
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    
+    private final int id;
+    protected final String name;
     protected int power;
-    protected int accuracy; // Corregido el typo "acurracy"
-    protected int pp; // Puntos de poder
-    protected int currentPP; // PP actuales
+    protected final int accuracy; // Corregido el typo "acurracy"
+    protected final int pp; // Puntos de poder
     protected double sideEffect;
     protected int priority;
     protected String typeMovement;
@@ -14,11 +25,11 @@ public abstract class Movement {
     protected String category; // Physical, Special, Status
 
     public Movement(String name, int power, int accuracy, int pp, double sideEffect, int priority) {
+        this.id = NEXT_ID.getAndIncrement();
         this.name = name;
         this.power = power;
         this.accuracy = accuracy;
-        this.pp = pp;
-        this.currentPP = pp; // Inicialmente tiene todos los PP
+        this.pp = Math.max(0, Math.min(MAX_PP, pp));
         this.sideEffect = sideEffect;
         this.priority = priority;
         this.typeMovement = "";
@@ -38,79 +49,80 @@ public abstract class Movement {
      * Aplica el efecto específico del movimiento
      * @param user Pokémon que usa el movimiento
      * @param target Pokémon objetivo
+     * @param random Fuente de aleatoriedad de la batalla
      * @return true si el efecto se aplicó correctamente
      */
-    public abstract boolean applySpecialEffect(Pokemon user, Pokemon target);
+    public abstract boolean applySpecialEffect(Pokemon user, Pokemon target, RandomSource random);
     
     /**
      * Verifica si el movimiento puede ser usado
      * @param user Pokémon que intenta usar el movimiento
+     * @param random Fuente de aleatoriedad de la batalla
      * @return true si puede usarse
      */
-    public abstract boolean canBeUsed(Pokemon user);
+    public abstract boolean canBeUsed(Pokemon user, RandomSource random);
     
     // ============ MÉTODOS COMUNES ============
     
     /**
-     * Usa el movimiento (reduce PP)
-     * @return true si se usó exitosamente
-     */
-    public boolean useMove() {
-        if (currentPP > 0) {
-            currentPP--;
-            return true;
-        }
-        return false;
-    }
-    
-    /**
-     * Restaura todos los PP del movimiento
-     */
-    public void restorePP() {
-        currentPP = pp;
-    }
-    
-    /**
-     * Restaura PP parcialmente
-     * @param amount Cantidad de PP a restaurar
+     * Aplica el efecto del movimiento fuera de una batalla
+     * @param user Pokémon que usa el movimiento
+     * @param target Pokémon objetivo
+     * @return true si el efecto se aplicó correctamente
      */
-    public void restorePP(int amount) {
-        currentPP = Math.min(pp, currentPP + amount);
+    public boolean applySpecialEffect(Pokemon user, Pokemon target) {
+        return applySpecialEffect(user, target, RandomSource.local());
     }
     
     /**
-     * Verifica si el movimiento tiene PP disponibles
-     * @return true si currentPP > 0
+     * Verifica si el movimiento puede ser usado fuera de una batalla
+     * @param user Pokémon que intenta usar el movimiento
+     * @return true si puede usarse
      */
-    public boolean hasPP() {
-        return currentPP > 0;
+    public boolean canBeUsed(Pokemon user) {
+        return canBeUsed(user, RandomSource.local());
     }
     
     /**
      * Calcula si el movimiento acierta
      * @param user Pokémon usuario
      * @param target Pokémon objetivo
+     * @param random Fuente de aleatoriedad de la batalla
      * @return true si el movimiento acierta
      */
-    public boolean doesHit(Pokemon user, Pokemon target) {
+    public boolean doesHit(Pokemon user, Pokemon target, RandomSource random) {
         // TODO: Considerar modificadores de precisión y evasión
-        java.util.Random random = new java.util.Random();
         int roll = random.nextInt(100) + 1;
         return roll <= accuracy;
     }
     
+    public boolean doesHit(Pokemon user, Pokemon target) {
+        return doesHit(user, target, RandomSource.local());
+    }
+    
     /**
      * Verifica si el movimiento causa un efecto secundario
+     * @param random Fuente de aleatoriedad de la batalla
      * @return true si se activa el efecto secundario
      */
-    public boolean triggersSideEffect() {
+    public boolean triggersSideEffect(RandomSource random) {
         if (sideEffect <= 0) return false;
-        java.util.Random random = new java.util.Random();
         return random.nextDouble() < sideEffect;
     }
+    
+    public boolean triggersSideEffect() {
+        return triggersSideEffect(RandomSource.local());
+    }
 
     // ============ GETTERS ============
     
+    /**
+     * @return Identificador único del movimiento, asignado al crearlo
+     */
+    public int getId() {
+        return id;
+    }
+    
     public String getName() {
         return name;
     }
@@ -131,10 +143,6 @@ public abstract class Movement {
         return pp;
     }
     
-    public int getCurrentPP() {
-        return currentPP;
-    }
-
     public double getSideEffect() {
         return sideEffect;
     }
@@ -159,6 +167,13 @@ public abstract class Movement {
         return category;
     }
     
+    /**
+     * @return Efecto de estado del movimiento (NONE salvo en movimientos de estado conocidos)
+     */
+    public MoveEffect getEffect() {
+        return MoveEffect.NONE;
+    }
+    
     // ============ SETTERS PROTEGIDOS ============
     
     protected void setDescription(String description) {
@@ -181,7 +196,7 @@ public abstract class Movement {
         System.out.println("Tipo: " + (moveType != null ? moveType.getFormattedName() : "Sin tipo"));
         System.out.println("Poder: " + (power > 0 ? power : "—"));
         System.out.println("Precisión: " + accuracy + "%");
-        System.out.println("PP: " + currentPP + "/" + pp);
+        System.out.println("PP: " + pp);
         System.out.println("Prioridad: " + priority);
         if (sideEffect > 0) {
             System.out.println("Efecto secundario: " + (int)(sideEffect * 100) + "% de probabilidad");
@@ -194,6 +209,6 @@ public abstract class Movement {
     
     @Override
     public String toString() {
-        return name + " (" + category + ", Poder: " + power + ", PP: " + currentPP + "/" + pp + ")";
+        return name + " (" + category + ", Poder: " + power + ", PP: " + pp + ")";
     }
 }
\ No newline at end of file
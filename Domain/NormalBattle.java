@@ -12,7 +12,11 @@ public class NormalBattle extends Battle {
     private int maxItemsPerPlayer;
 
     public NormalBattle(Pokemon pokemonPlayer1, Pokemon pokemonPlayer2, Character player1, Character player2) {
-        super(pokemonPlayer1, pokemonPlayer2, player1, player2);
+        this(pokemonPlayer1, pokemonPlayer2, player1, player2, new RandomSource());
+    }
+
+    public NormalBattle(Pokemon pokemonPlayer1, Pokemon pokemonPlayer2, Character player1, Character player2, RandomSource random) {
+        super(pokemonPlayer1, pokemonPlayer2, player1, player2, random);
         
         // Configuración específica de batalla normal
         this.canUseItems = true;
@@ -32,14 +36,7 @@ public class NormalBattle extends Battle {
 
     @Override
     public void startBattle() {
-        System.out.println("=== INICIANDO BATALLA NORMAL ===");
-        System.out.println(player1.getName() + " vs " + player2.getName());
-        System.out.println(player1.getName() + " envía a " + pokemonPlayer1.getName() + "!");
-        System.out.println(player2.getName() + " envía a " + pokemonPlayer2.getName() + "!");
-        System.out.println("¡Que comience la batalla!");
-        
-        displayBattleStatus();
-        displayAvailableActions();
+        announceStart();
     }
 
     @Override
@@ -91,11 +88,11 @@ public class NormalBattle extends Battle {
         
         // Verificar si el ataque es válido
         if (!canUseMove(attacker, move)) {
-            System.out.println(attacker.getName() + " no puede usar " + move.getName());
+            events.emit(BattleEventType.MOVE_FAILED, attacker, move);
             return;
         }
         
-        System.out.println(attacker.getName() + " usa " + move.getName() + "!");
+        events.emit(BattleEventType.MOVE_USED, attacker, move);
         
         // Aplicar el daño
         applyDamage(attacker, defender, move);
@@ -114,7 +111,7 @@ public class NormalBattle extends Battle {
     @Override
     public void useItem(Item item) {
         if (!canUseItems) {
-            System.out.println("No se pueden usar objetos en este momento.");
+            events.emit(BattleEventType.MESSAGE, null, "No se pueden usar objetos en este momento.");
             return;
         }
         
@@ -123,7 +120,7 @@ public class NormalBattle extends Battle {
         
         // Verificar si el jugador tiene el objeto
         if (!currentBag.contains(item)) {
-            System.out.println(currentPlayer.getName() + " no tiene " + item.getClass().getSimpleName());
+            events.emit(BattleEventType.MESSAGE, currentPlayer, "no tiene ese objeto.");
             return;
         }
         
@@ -148,19 +145,19 @@ public class NormalBattle extends Battle {
         
         // Verificar que el nuevo Pokémon esté en el equipo
         if (!currentTeam.contains(newPokemon)) {
-            System.out.println("Ese Pokémon no está en tu equipo.");
+            events.emit(BattleEventType.MESSAGE, null, "Ese Pokémon no está en tu equipo.");
             return;
         }
         
         // Verificar que el nuevo Pokémon esté disponible
         if (!isPokemonAvailable(newPokemon)) {
-            System.out.println(newPokemon.getName() + " no puede pelear.");
+            events.emit(BattleEventType.MESSAGE, newPokemon, "no puede pelear.");
             return;
         }
         
         // Verificar que no sea el mismo Pokémon
         if (currentPokemon == newPokemon) {
-            System.out.println(newPokemon.getName() + " ya está en batalla.");
+            events.emit(BattleEventType.MESSAGE, newPokemon, "ya está en batalla.");
             return;
         }
         
@@ -176,10 +173,9 @@ public class NormalBattle extends Battle {
     // ============ MÉTODOS ESPECÍFICOS DE BATALLA NORMAL ============
     
     private void handleFaintedPokemon() {
-        Character playerWithFaintedPokemon = getOpponentPlayer();
         ArrayList<Pokemon> teamWithFaintedPokemon = (currentTurn == 1) ? teamPlayer2 : teamPlayer1;
         
-        System.out.println(getOpponentPokemon().getName() + " se ha debilitado!");
+        // El debilitamiento ya lo publicó el propio Pokémon al recibir el daño
         
         // Verificar si hay más Pokémon disponibles
         Pokemon nextPokemon = getNextAvailablePokemon(teamWithFaintedPokemon);
@@ -188,7 +184,6 @@ public class NormalBattle extends Battle {
             // Forzar cambio de Pokémon
             int opponentPlayerNumber = (currentTurn == 1) ? 2 : 1;
             updateActivePokemon(nextPokemon, opponentPlayerNumber);
-            System.out.println(playerWithFaintedPokemon.getName() + " debe enviar a su siguiente Pokémon.");
         }
         // Si no hay más Pokémon, checkWinCondition() detectará la victoria
     }
@@ -205,10 +200,12 @@ public class NormalBattle extends Battle {
     public void addPokemonToTeam(Pokemon pokemon, int playerNumber) {
         if (playerNumber == 1 && teamPlayer1.size() < maxPokemonPerTeam) {
             teamPlayer1.add(pokemon);
+            join(pokemon);
         } else if (playerNumber == 2 && teamPlayer2.size() < maxPokemonPerTeam) {
             teamPlayer2.add(pokemon);
+            join(pokemon);
         } else {
-            System.out.println("No se puede agregar más Pokémon al equipo.");
+            events.emit(BattleEventType.MESSAGE, null, "No se puede agregar más Pokémon al equipo.");
         }
     }
     
@@ -218,12 +215,22 @@ public class NormalBattle extends Battle {
         } else if (playerNumber == 2 && bagPlayer2.size() < maxItemsPerPlayer) {
             bagPlayer2.add(item);
         } else {
-            System.out.println("No se pueden agregar más objetos a la bolsa.");
+            events.emit(BattleEventType.MESSAGE, null, "No se pueden agregar más objetos a la bolsa.");
         }
     }
     
     // ============ GETTERS ESPECÍFICOS ============
     
+    @Override
+    protected ArrayList<Pokemon> getTeamOf(int playerNumber) {
+        return playerNumber == 1 ? teamPlayer1 : teamPlayer2;
+    }
+    
+    @Override
+    protected ArrayList<Item> getBagOf(int playerNumber) {
+        return playerNumber == 1 ? bagPlayer1 : bagPlayer2;
+    }
+    
     public ArrayList<Pokemon> getTeamPlayer1() {
         return new ArrayList<>(teamPlayer1);
     }
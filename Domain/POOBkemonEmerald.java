@@ -13,15 +13,28 @@ public class POOBkemonEmerald {
     private ArrayList<Item> bagPlayer2;
     private Battle currentBattle;
     private boolean gameStarted;
+    private boolean balancedSurvivalTeams; // Equipos de supervivencia con fuerza parecida
+    private final GameData gameData; // Compartidos con las demás partidas del proceso
+    
+    // Autoguardado: instantánea completa más el diario de las acciones posteriores
+    private Path autosaveBase; // Ruta sin extensión; null si el autoguardado está apagado
+    private BattleJournal journal;
+    private long journalSequence; // Secuencia de la primera acción posterior a la última instantánea
+    private int actionsSinceSnapshot;
     
     // Rutas de archivos
-    private static final String DATA_FOLDER = "data/";
     private static final String SAVES_FOLDER = "saves/";
-    private static final String POKEMON_DATA_FILE = DATA_FOLDER + "pokemon.txt";
-    private static final String MOVES_DATA_FILE = DATA_FOLDER + "moves.txt";
-    private static final String ITEMS_DATA_FILE = DATA_FOLDER + "items.txt";
+    private static final String AUTOSAVE_NAME = "autosave"; // Ranura de autoguardado dentro de SAVES_FOLDER
+    private static final int SNAPSHOT_INTERVAL = 64; // Acciones del diario entre instantáneas completas
 
     public POOBkemonEmerald(Character player1, Character player2) {
+        this(player1, player2, loadGameData());
+    }
+    
+    /**
+     * Partida con unos datos ya cargados (por ejemplo al abrir una partida guardada)
+     */
+    POOBkemonEmerald(Character player1, Character player2, GameData gameData) {
         this.player1 = player1;
         this.player2 = player2;
         this.teamPlayer1 = new ArrayList<Pokemon>();
@@ -30,11 +43,7 @@ public class POOBkemonEmerald {
         this.bagPlayer2 = new ArrayList<Item>();
         this.currentBattle = null;
         this.gameStarted = false;
-        
-        // Crear carpetas si no existen
-        createDirectories();
-        // Cargar datos del juego
-        loadGameData();
+        this.gameData = gameData;
     }
     
     // ============ MÉTODOS DE CONTROL DEL JUEGO ============
@@ -57,6 +66,7 @@ public class POOBkemonEmerald {
         
         gameStarted = true;
         System.out.println("¡El juego ha comenzado! Pueden crear batallas ahora.");
+        autosaveSnapshot();
     }
     
     public void createNormalBattle() {
@@ -86,16 +96,18 @@ public class POOBkemonEmerald {
         }
         
         currentBattle = new NormalBattle(pokemon1, pokemon2, player1, player2);
+        currentBattle.getEvents().subscribe(BattleEventListener.printingTo(BattleLog.CONSOLE));
         currentBattle.startBattle();
         System.out.println("Batalla normal creada exitosamente.");
+        autosaveSnapshot();
     }
     
+    /**
+     * Crea una batalla de supervivencia con dos equipos aleatorios nuevos. Como
+     * trae sus propios equipos no hace falta haber llamado antes a startGame():
+     * si la partida no había empezado, empieza con estos equipos.
+     */
     public void createSurvivalBattle() {
-        if (!gameStarted) {
-            System.out.println("Debe iniciar el juego primero.");
-            return;
-        }
-        
         if (currentBattle != null && !currentBattle.isBattleEnded()) {
             System.out.println("Ya hay una batalla en curso. Termine la batalla actual antes de crear una nueva.");
             return;
@@ -107,26 +119,30 @@ public class POOBkemonEmerald {
             return;
         }
         
-        // Generar 6 Pokémon aleatorios para cada jugador
-        ArrayList<Pokemon> randomTeam1 = generateRandomTeam(6);
-        ArrayList<Pokemon> randomTeam2 = generateRandomTeam(6);
+        // Generar 6 Pokémon aleatorios para cada jugador con la aleatoriedad de la batalla
+        RandomSource random = new RandomSource();
+        ArrayList<Pokemon> randomTeam1 = generateRandomTeam(random, TeamGenerator.TEAM_SIZE, -1);
+        ArrayList<Pokemon> randomTeam2 = generateRandomTeam(random, TeamGenerator.TEAM_SIZE,
+                balancedSurvivalTeams && !randomTeam1.isEmpty() ? teamStrength(randomTeam1) : -1);
         
-        if (randomTeam1.isEmpty() || randomTeam2.isEmpty()) {
+        if (randomTeam1.size() != TeamGenerator.TEAM_SIZE || randomTeam2.size() != TeamGenerator.TEAM_SIZE) {
             System.out.println("Error generando equipos aleatorios.");
             return;
         }
         
-        // Reemplazar equipos temporalmente para la batalla de supervivencia
-        ArrayList<Pokemon> originalTeam1 = new ArrayList<>(teamPlayer1);
-        ArrayList<Pokemon> originalTeam2 = new ArrayList<>(teamPlayer2);
-        
+        // Los equipos aleatorios pasan a ser los de la partida
         teamPlayer1 = randomTeam1;
         teamPlayer2 = randomTeam2;
+        gameStarted = true;
         
         // Crear batalla de supervivencia
-        currentBattle = new SurvivalBattle(randomTeam1.get(0), randomTeam2.get(0), player1, player2);
+        SurvivalBattle battle = new SurvivalBattle(randomTeam1.get(0), randomTeam2.get(0), player1, player2, random);
+        battle.setTeams(randomTeam1, randomTeam2);
+        currentBattle = battle;
+        currentBattle.getEvents().subscribe(BattleEventListener.printingTo(BattleLog.CONSOLE));
         currentBattle.startBattle();
         System.out.println("Batalla de supervivencia creada exitosamente.");
+        autosaveSnapshot();
     }
     
     public Battle getCurrentBattle() {
@@ -153,6 +169,7 @@ public class POOBkemonEmerald {
         
         currentBattle = null;
         System.out.println("Batalla finalizada.");
+        autosaveSnapshot();
     }
     
     // ============ MÉTODOS DE DELEGACIÓN A BATALLA ============
@@ -163,38 +180,107 @@ public class POOBkemonEmerald {
             return;
         }
         
+        // Lo que el diario necesita para repetir la acción, tomado antes de resolverla
+        int player = currentBattle.getCurrentTurn();
+        long randomState = currentBattle.getRandomSource().getState();
+        byte kind;
+        int argument;
+        
         switch (actionType.toLowerCase()) {
             case "attack":
                 if (actionData instanceof Movement) {
+                    kind = BattleJournal.ATTACK;
+                    argument = currentBattle.getCurrentPokemon().slotOf((Movement) actionData);
                     currentBattle.executeAttack((Movement) actionData);
                 } else {
                     System.out.println("Datos de ataque inválidos.");
+                    return;
                 }
                 break;
             case "item":
                 if (actionData instanceof Item) {
+                    kind = BattleJournal.ITEM;
+                    argument = indexOf(currentBattle.getBagOf(player), actionData);
                     currentBattle.useItem((Item) actionData);
                 } else {
                     System.out.println("Datos de objeto inválidos.");
+                    return;
                 }
                 break;
             case "switch":
                 if (actionData instanceof Pokemon) {
+                    kind = BattleJournal.SWITCH;
+                    argument = indexOf(currentBattle.getTeamOf(player), actionData);
                     currentBattle.switchPokemon((Pokemon) actionData);
                 } else {
                     System.out.println("Datos de Pokémon inválidos.");
+                    return;
                 }
                 break;
             default:
                 System.out.println("Acción no reconocida: " + actionType);
+                return;
         }
         
+        journalAction(kind, player, argument, randomState);
+        
         // Verificar si la batalla ha terminado después del turno
         if (currentBattle.checkWinCondition()) {
             endCurrentBattle();
         }
     }
     
+    /**
+     * Repite una acción del diario sobre la batalla en curso
+     * @return false si la acción no corresponde a la batalla (el diario es de otra partida)
+     */
+    private boolean replayAction(BattleJournal.Entry entry) {
+        if (currentBattle == null || currentBattle.isBattleEnded()
+                || entry.getPlayer() != currentBattle.getCurrentTurn()) {
+            return false;
+        }
+        int argument = entry.getArgument();
+        currentBattle.getRandomSource().setState(entry.getRandomState());
+        switch (entry.getKind()) {
+            case BattleJournal.ATTACK:
+                List<Movement> moves = currentBattle.getCurrentPokemon().getMoves();
+                if (argument < 0 || argument >= moves.size()) {
+                    return false;
+                }
+                currentBattle.executeAttack(moves.get(argument));
+                break;
+            case BattleJournal.ITEM:
+                ArrayList<Item> bag = currentBattle.getBagOf(entry.getPlayer());
+                if (argument < 0 || argument >= bag.size()) {
+                    return false;
+                }
+                currentBattle.useItem(bag.get(argument));
+                break;
+            case BattleJournal.SWITCH:
+                ArrayList<Pokemon> team = currentBattle.getTeamOf(entry.getPlayer());
+                if (argument < 0 || argument >= team.size()) {
+                    return false;
+                }
+                currentBattle.switchPokemon(team.get(argument));
+                break;
+            default:
+                return false;
+        }
+        if (currentBattle.checkWinCondition()) {
+            endCurrentBattle();
+        }
+        return true;
+    }
+    
+    private static int indexOf(List<?> values, Object value) {
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
     public void selectPokemon(int playerNumber, Pokemon pokemon) {
         if (currentBattle == null) {
             System.out.println("No hay batalla activa.");
@@ -243,15 +329,188 @@ public class POOBkemonEmerald {
         return null;
     }
     
-    private ArrayList<Pokemon> generateRandomTeam(int size) {
+    /**
+     * Genera un equipo de especies distintas con movimientos aleatorios
+     * @param random Fuente de aleatoriedad de la batalla
+     * @param size Tamaño del equipo
+     * @param targetStrength Fuerza del equipo rival a igualar, o negativo para no equilibrar
+     * @return Equipo generado (vacío si no hay datos cargados)
+     */
+    private ArrayList<Pokemon> generateRandomTeam(RandomSource random, int size, double targetStrength) {
         ArrayList<Pokemon> randomTeam = new ArrayList<>();
-        // TODO: Implementar generación de Pokémon aleatorios desde los datos cargados
-        // Por ahora retorna lista vacía hasta que tengamos los datos de Pokémon
+        if (gameData == null) {
+            return randomTeam;
+        }
+        TeamGenerator generator = gameData.getTeamGenerator();
+        int[] species = new int[size];
+        int count = targetStrength < 0
+                ? generator.drawSpecies(random, species, size)
+                : generator.drawBalancedSpecies(random, species, size, targetStrength, TeamGenerator.DEFAULT_BALANCE_BAND);
+        randomTeam.addAll(generator.createTeam(random, species, count));
         return randomTeam;
     }
     
+    private double teamStrength(ArrayList<Pokemon> team) {
+        TeamGenerator generator = gameData.getTeamGenerator();
+        double total = 0;
+        for (Pokemon pokemon : team) {
+            total += generator.getStrength(gameData.speciesId(pokemon.getName()));
+        }
+        return total;
+    }
+    
+    // ============ AUTOGUARDADO ============
+    
+    /**
+     * Activa el autoguardado: guarda una instantánea completa (base.pkmn) y a partir
+     * de ahí añade cada acción de batalla al diario (base.journal). Cada
+     * SNAPSHOT_INTERVAL acciones, y al crear o terminar una batalla, se guarda una
+     * instantánea nueva y se vacía el diario, lo que acota el trabajo de recover.
+     * @param base Ruta de los archivos sin extensión
+     * @throws IOException Si no se puede escribir la instantánea o abrir el diario
+     */
+    public void enableAutosave(Path base) throws IOException {
+        disableAutosave();
+        autosaveBase = base;
+        try {
+            journal = BattleJournal.open(journalFile(base), journalSequence);
+            journalSequence = journal.getNextSequence();
+            writeSnapshot();
+        } catch (IOException e) {
+            disableAutosave();
+            throw e;
+        }
+    }
+    
+    /**
+     * Apaga el autoguardado, dejando en disco lo ya escrito
+     */
+    public void disableAutosave() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                System.err.println("Error cerrando el diario de la partida: " + e.getMessage());
+            }
+        }
+        journal = null;
+        autosaveBase = null;
+    }
+    
+    public boolean isAutosaveEnabled() {
+        return journal != null;
+    }
+    
+    /**
+     * Recupera una partida autoguardada: carga la última instantánea y repite las
+     * acciones del diario posteriores a ella. Deja el autoguardado activo.
+     * @param base Ruta de los archivos sin extensión, la misma que en enableAutosave
+     * @return Partida en el estado de la última acción que llegó al disco
+     * @throws IOException Si no se puede leer la instantánea
+     */
+    public static POOBkemonEmerald recover(Path base) throws IOException {
+        POOBkemonEmerald game = load(snapshotFile(base));
+        for (BattleJournal.Entry entry : BattleJournal.read(journalFile(base))) {
+            if (entry.getSequence() < game.journalSequence) {
+                continue; // Ya incluida en la instantánea (fallo entre guardarla y vaciar el diario)
+            }
+            if (entry.getSequence() != game.journalSequence || !game.replayAction(entry)) {
+                break;
+            }
+            game.journalSequence++;
+        }
+        game.enableAutosave(base);
+        return game;
+    }
+    
+    /**
+     * Ruta base de la ranura de autoguardado de la interfaz; la carpeta se crea si falta
+     * @return saves/autosave (sin extensión)
+     * @throws IOException Si no se puede crear la carpeta
+     */
+    public static Path getAutosaveBase() throws IOException {
+        return getSavesFolder().resolve(AUTOSAVE_NAME);
+    }
+    
+    /**
+     * @param file Archivo .pkmn
+     * @return Ruta base de ese archivo (sin extensión), la que usan enableAutosave y recover
+     */
+    public static Path autosaveBaseOf(Path file) {
+        String name = file.getFileName().toString();
+        if (name.toLowerCase().endsWith(GameSave.EXTENSION)) {
+            name = name.substring(0, name.length() - GameSave.EXTENSION.length());
+        }
+        return file.resolveSibling(name);
+    }
+    
+    /**
+     * @param file Archivo .pkmn
+     * @return true si junto a él hay un diario, es decir, si es una instantánea de
+     *         autoguardado que hay que abrir con recover
+     */
+    public static boolean hasJournal(Path file) {
+        return Files.exists(journalFile(autosaveBaseOf(file)));
+    }
+    
+    /**
+     * Añade una acción resuelta al diario y guarda una instantánea cuando toca
+     */
+    private void journalAction(byte kind, int player, int argument, long randomState) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            if (argument < 0) {
+                writeSnapshot(); // La acción no se puede describir en el diario
+                return;
+            }
+            journal.append(kind, player, argument, randomState);
+            if (++actionsSinceSnapshot >= SNAPSHOT_INTERVAL) {
+                writeSnapshot();
+            }
+        } catch (IOException e) {
+            System.err.println("Error en el autoguardado: " + e.getMessage());
+        }
+    }
+    
+    private void autosaveSnapshot() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            writeSnapshot();
+        } catch (IOException e) {
+            System.err.println("Error en el autoguardado: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Guarda la instantánea y después vacía el diario; si algo falla entre ambos
+     * pasos, recover salta las acciones que la instantánea ya incluye
+     */
+    private void writeSnapshot() throws IOException {
+        journalSequence = journal.getNextSequence();
+        save(snapshotFile(autosaveBase));
+        journal.reset();
+        actionsSinceSnapshot = 0;
+    }
+    
+    private static Path snapshotFile(Path base) {
+        return base.resolveSibling(base.getFileName() + GameSave.EXTENSION);
+    }
+    
+    private static Path journalFile(Path base) {
+        return base.resolveSibling(base.getFileName() + BattleJournal.EXTENSION);
+    }
+    
+    long getJournalSequence() { return journalSequence; }
+    void setJournalSequence(long sequence) { this.journalSequence = sequence; }
+    
     // Getters para acceso controlado
     public boolean isGameStarted() { return gameStarted; }
+    public boolean isBalancedSurvivalTeams() { return balancedSurvivalTeams; }
+    public void setBalancedSurvivalTeams(boolean balanced) { this.balancedSurvivalTeams = balanced; }
     public Character getPlayer1() { return player1; }
     public Character getPlayer2() { return player2; }
     public ArrayList<Pokemon> getTeamPlayer1() { return new ArrayList<>(teamPlayer1); }
@@ -262,53 +521,79 @@ public class POOBkemonEmerald {
     // ============ RESTO DE MÉTODOS EXISTENTES ============
     // (Todos los métodos de archivos que ya teníamos permanecen igual)
     
-    private void createDirectories() {
-        try {
-            Files.createDirectories(Paths.get(DATA_FOLDER));
-            Files.createDirectories(Paths.get(SAVES_FOLDER));
-        } catch (IOException e) {
-            System.err.println("Error creando directorios: " + e.getMessage());
+    // ============ PARTIDAS GUARDADAS ============
+    
+    /**
+     * Guarda la partida en formato .pkmn
+     * @param file Archivo de destino
+     * @throws IOException Si no se puede escribir o no hay datos del juego cargados
+     */
+    public void save(Path file) throws IOException {
+        if (gameData == null) {
+            throw new IOException("No hay datos del juego cargados");
         }
+        GameSave.write(this, gameData, file);
     }
     
-    private void loadGameData() {
-        try {
-            loadPokemonData();
-            loadMovesData();
-            loadItemsData();
-            System.out.println("Datos del juego cargados correctamente.");
-        } catch (IOException e) {
-            System.err.println("Error cargando datos del juego: " + e.getMessage());
-        }
+    /**
+     * Abre una partida guardada en formato .pkmn
+     * @param file Archivo de la partida
+     * @return Partida restaurada, con los datos compartidos del juego
+     * @throws IOException Si no se puede leer o no es una partida válida
+     */
+    public static POOBkemonEmerald load(Path file) throws IOException {
+        return GameSave.read(file, GameData.shared());
     }
     
-    private void loadPokemonData() throws IOException {
-        List<String> lines = readFile(POKEMON_DATA_FILE);
-        for (String line : lines) {
-            if (!line.trim().isEmpty() && !line.startsWith("#")) {
-                parsePokemonLine(line);
-            }
-        }
+    /**
+     * Restaura equipos, bolsas y estado de la partida al cargarla
+     */
+    void restoreSession(List<Pokemon> team1, List<Pokemon> team2, List<Item> bag1, List<Item> bag2,
+                        boolean started, boolean balanced) {
+        teamPlayer1 = new ArrayList<>(team1);
+        teamPlayer2 = new ArrayList<>(team2);
+        bagPlayer1 = new ArrayList<>(bag1);
+        bagPlayer2 = new ArrayList<>(bag2);
+        gameStarted = started;
+        balancedSurvivalTeams = balanced;
     }
     
-    private void loadMovesData() throws IOException {
-        List<String> lines = readFile(MOVES_DATA_FILE);
-        for (String line : lines) {
-            if (!line.trim().isEmpty() && !line.startsWith("#")) {
-                parseMoveeLine(line);
-            }
-        }
+    /**
+     * Restaura la batalla en curso al cargar la partida
+     */
+    void restoreBattle(Battle battle) {
+        currentBattle = battle;
+        currentBattle.getEvents().subscribe(BattleEventListener.printingTo(BattleLog.CONSOLE));
     }
     
-    private void loadItemsData() throws IOException {
-        List<String> lines = readFile(ITEMS_DATA_FILE);
-        for (String line : lines) {
-            if (!line.trim().isEmpty() && !line.startsWith("#")) {
-                parseItemLine(line);
-            }
+    /**
+     * Carpeta de partidas guardadas; se crea la primera vez que se necesita
+     * @return Ruta de la carpeta
+     * @throws IOException Si no se puede crear
+     */
+    public static Path getSavesFolder() throws IOException {
+        return Files.createDirectories(Paths.get(SAVES_FOLDER));
+    }
+    
+    /**
+     * Toma los datos compartidos; solo la primera partida del proceso los lee del disco
+     */
+    private static GameData loadGameData() {
+        try {
+            return GameData.shared();
+        } catch (IOException e) {
+            System.err.println("Error cargando datos del juego: " + e.getMessage());
+            return null;
         }
     }
     
+    /**
+     * @return Datos compartidos, o null si no se pudieron leer los archivos
+     */
+    public GameData getGameData() {
+        return gameData;
+    }
+    
     // [Resto de métodos de archivos permanecen igual...]
     
     public static void main(String[] args) throws Exception {
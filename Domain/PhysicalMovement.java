@@ -15,30 +15,27 @@ public class PhysicalMovement extends Movement {
     }
 
     @Override
-    public boolean applySpecialEffect(Pokemon user, Pokemon target) {
+    public boolean applySpecialEffect(Pokemon user, Pokemon target, RandomSource random) {
         // Los movimientos físicos pueden tener efectos como reducir defensa
-        if (triggersSideEffect()) {
+        if (triggersSideEffect(random)) {
             String moveName = getName().toLowerCase();
             
             // Ejemplos de efectos comunes en movimientos físicos
             if (moveName.contains("crunch") || moveName.contains("bite")) {
-                target.modifyStat("defence", -1);
-                System.out.println("¡La defensa de " + target.getName() + " disminuye!");
+                target.modifyStat(Stat.DEFENCE, -1);
                 return true;
             } else if (moveName.contains("close combat")) {
-                user.modifyStat("defence", -1);
-                user.modifyStat("specialDefence", -1);
-                System.out.println("¡La defensa de " + user.getName() + " disminuye!");
+                user.modifyStat(Stat.DEFENCE, -1);
+                user.modifyStat(Stat.SPECIAL_DEFENCE, -1);
                 return true;
             } else if (moveName.contains("hammer arm")) {
-                user.modifyStat("speed", -1);
-                System.out.println("¡La velocidad de " + user.getName() + " disminuye!");
+                user.modifyStat(Stat.SPEED, -1);
                 return true;
             }
             
             // Efecto genérico para movimientos físicos
-            if (Math.random() < 0.1) { // 10% de probabilidad de crítico extra
-                System.out.println("¡Golpe especialmente poderoso!");
+            if (random.nextDouble() < 0.1) { // 10% de probabilidad de crítico extra
+                user.getEvents().emit(BattleEventType.MESSAGE, null, "¡Golpe especialmente poderoso!");
                 return true;
             }
         }
@@ -46,22 +43,22 @@ public class PhysicalMovement extends Movement {
     }
 
     @Override
-    public boolean canBeUsed(Pokemon user) {
-        if (!hasPP()) {
-            System.out.println(getName() + " no tiene PP restantes!");
+    public boolean canBeUsed(Pokemon user, RandomSource random) {
+        if (!user.hasPP(this)) {
+            user.getEvents().emit(BattleEventType.MOVE_FAILED, user, this);
             return false;
         }
         
         // Los movimientos físicos pueden ser bloqueados por parálisis
-        if (user.hasStatusEffect("paralysis")) {
-            if (Math.random() < 0.25) { // 25% de probabilidad de no poder moverse
-                System.out.println(user.getName() + " está paralizado y no puede moverse!");
+        if (user.hasStatusEffect(StatusCondition.PARALYSIS)) {
+            if (random.nextDouble() < 0.25) { // 25% de probabilidad de no poder moverse
+                user.getEvents().emit(BattleEventType.MESSAGE, user, "está paralizado y no puede moverse!");
                 return false;
             }
         }
         
         // No se pueden usar si está dormido o congelado
-        if (user.hasStatusEffect("sleep") || user.hasStatusEffect("freeze")) {
+        if (user.isImmobilized()) {
             return false;
         }
         
@@ -83,10 +80,7 @@ public class PhysicalMovement extends Movement {
         
         // Aplicar efectividad de tipo si está definida
         if (moveType != null) {
-            double typeEffectiveness = moveType.calculateMultiplier(target.getPrimaryType());
-            if (target.getSecondaryType() != null) {
-                typeEffectiveness *= moveType.calculateMultiplier(target.getSecondaryType());
-            }
+            double typeEffectiveness = moveType.calculateMultiplier(target.getPrimaryType(), target.getSecondaryType());
             damage *= typeEffectiveness;
         }
         
@@ -96,7 +90,7 @@ public class PhysicalMovement extends Movement {
         }
         
         // Efecto de quemadura reduce daño físico
-        if (user.hasStatusEffect("burn")) {
+        if (user.hasStatusEffect(StatusCondition.BURN)) {
             damage *= 0.5;
         }
         
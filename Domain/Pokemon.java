@@ -1,6 +1,7 @@
 package Domain;
 import java.awt.*;
 import java.util.*;
+import java.util.List;
 
 /**
  * Pokemon class
@@ -10,23 +11,15 @@ import java.util.*;
  * @version 1.0
  */
 public class Pokemon {
-    private String name;
-    private Image image;
-    private String description;
+    private Species species; // Datos compartidos por todos los Pokémon de la especie
     private int ps; // HP actual
-    private int maxPs; // HP máximo
-    private int attack;
-    private int defence;
-    private int speed;
-    private int specialAttack;
-    private int specialDefence;
-    private Type primaryType;
-    private Type secondaryType;
-    private ArrayList<Movement> moves;
-    private HashMap<String, Integer> stats;
-    private HashMap<String, Integer> statModifiers; // Para modificadores temporales (+1, -1, etc.)
-    private ArrayList<String> statusEffects; // Para estados como paralizado, quemado, etc.
     private int level;
+    private ArrayList<Movement> moves;
+    private List<Movement> moveView; // Vista de solo lectura de moves
+    private int ppSlots; // PP actuales: 8 bits por ranura de movimiento
+    private int statStages; // Etapas temporales (+1, -1, etc.): 4 bits por Stat, guardadas como etapa + 6
+    private int statusMask; // Estados como paralizado, quemado, etc.: un bit por StatusCondition
+    private BattleEventLog events; // Flujo de eventos de la batalla en la que participa
 
     /**
      * Pokemon constructor
@@ -42,82 +35,29 @@ public class Pokemon {
      * @param secondaryType Second natural type of Pokémon
      */
     public Pokemon(String name, String description, int ps, int attack, int defence, int speed, int specialAttack, int specialDefence, Type primaryType, Type secondaryType) {
-        this.name = name;
-        this.description = description;
-        this.ps = ps;
-        this.maxPs = ps; // HP máximo es igual al inicial
-        this.attack = attack;
-        this.defence = defence;
-        this.speed = speed;
-        this.specialAttack = specialAttack;
-        this.specialDefence = specialDefence;
-        this.primaryType = primaryType;
-        this.secondaryType = secondaryType;
-        this.moves = new ArrayList<Movement>();
-        this.stats = saveStats(ps, attack, defence, speed, specialAttack, specialDefence);
-        this.statModifiers = new HashMap<String, Integer>();
-        this.statusEffects = new ArrayList<String>();
-        this.level = 50; // Nivel por defecto
-        
-        initializeStatModifiers();
+        this(new Species(name, description, ps, attack, defence, speed, specialAttack, specialDefence, primaryType, secondaryType), Species.BASE_LEVEL);
     }
     
     /**
      * Constructor con nivel personalizado
      */
     public Pokemon(String name, String description, int ps, int attack, int defence, int speed, int specialAttack, int specialDefence, Type primaryType, Type secondaryType, int level) {
-        this(name, description, ps, attack, defence, speed, specialAttack, specialDefence, primaryType, secondaryType);
-        this.level = level;
-        
-        // Ajustar estadísticas según el nivel
-        adjustStatsForLevel();
+        this(new Species(name, description, ps, attack, defence, speed, specialAttack, specialDefence, primaryType, secondaryType), level);
     }
 
     /**
-     * Create a backup of stats
-     * @param ps
-     * @param attack
-     * @param defence
-     * @param speed
-     * @param specialAttack
-     * @param specialDefence
-     * @return HashMap with stats of Pokémon
+     * Crea un Pokémon de una especie ya cargada; solo reserva su estado de batalla
+     * @param species Especie (normalmente la registrada en Species)
+     * @param level Nivel; las estadísticas se ajustan a partir del nivel 50
      */
-    private HashMap<String, Integer> saveStats(int ps, int attack, int defence, int speed, int specialAttack, int specialDefence) {
-        HashMap<String, Integer> stats = new HashMap<>();
-        stats.put("ps", ps);
-        stats.put("attack", attack);
-        stats.put("defence", defence);
-        stats.put("speed", speed);
-        stats.put("specialAttack", specialAttack);
-        stats.put("specialDefence", specialDefence);
-        return stats;
-    }
-    
-    private void initializeStatModifiers() {
-        statModifiers.put("attack", 0);
-        statModifiers.put("defence", 0);
-        statModifiers.put("specialAttack", 0);
-        statModifiers.put("specialDefence", 0);
-        statModifiers.put("speed", 0);
-        statModifiers.put("accuracy", 0);
-        statModifiers.put("evasion", 0);
-    }
-    
-    private void adjustStatsForLevel() {
-        // Ajuste simple basado en nivel (nivel 50 como base)
-        double levelMultiplier = level / 50.0;
-        
-        this.ps = (int) (this.ps * levelMultiplier);
-        this.maxPs = this.ps;
-        this.attack = (int) (this.attack * levelMultiplier);
-        this.defence = (int) (this.defence * levelMultiplier);
-        this.speed = (int) (this.speed * levelMultiplier);
-        this.specialAttack = (int) (this.specialAttack * levelMultiplier);
-        this.specialDefence = (int) (this.specialDefence * levelMultiplier);
-        
-        // Actualizar backup de stats
-        this.stats = saveStats(maxPs, attack, defence, speed, specialAttack, specialDefence);
+    public Pokemon(Species species, int level) {
+        this.species = species;
+        this.level = level;
+        this.ps = getMaxPs();
+        this.moves = new ArrayList<Movement>(4);
+        this.moveView = Collections.unmodifiableList(moves);
+        this.statStages = NEUTRAL_STAGES;
+        this.events = BattleEventLog.NONE;
     }
 
     // ============ MÉTODOS DE COMBATE ============
@@ -129,13 +69,46 @@ public class Pokemon {
      * @return Cantidad de daño a causar
      */
     public int calculateDamage(Movement move, Pokemon defender) {
-        if (move == null || defender == null) {
-            return 0;
+        return calculateDamage(move, defender, RandomSource.local());
+    }
+    
+    /**
+     * Calcula el daño usando la fuente de aleatoriedad de la batalla
+     * @param move Movimiento a usar
+     * @param defender Pokémon defensor
+     * @param random Fuente de aleatoriedad de la batalla
+     * @return Cantidad de daño a causar
+     */
+    public int calculateDamage(Movement move, Pokemon defender, RandomSource random) {
+        if (!dealsDamage(move) || defender == null) {
+            return 0; // Movimientos de estado no causan daño directo
         }
         
-        // Verificar si el movimiento causa daño
-        if (move.getPower() <= 0) {
-            return 0; // Movimientos de estado no causan daño directo
+        // Factor aleatorio (entre 85% y 100%)
+        return estimateDamage(move, defender, 0.85 + (random.nextDouble() * 0.15));
+    }
+    
+    /**
+     * Indica si un movimiento causa daño directo
+     * @param move Movimiento a revisar
+     * @return true si es físico o especial y tiene poder
+     */
+    public static boolean dealsDamage(Movement move) {
+        return move != null && move.getPower() > 0
+                && (move instanceof PhysicalMovement || move instanceof SpecialMovement);
+    }
+    
+    /**
+     * Calcula el daño con un factor aleatorio fijo, sin consumir aleatoriedad
+     * (lo usa la búsqueda de la IA para evaluar cada tirada posible)
+     * @param move Movimiento a usar
+     * @param defender Pokémon defensor
+     * @param randomFactor Factor aleatorio entre 0.85 y 1.0
+     * @return Cantidad de daño a causar
+     */
+    public int estimateDamage(Movement move, Pokemon defender, double randomFactor) {
+        if (!dealsDamage(move) || defender == null) {
+            return 0;
         }
         
         // Fórmula básica de daño de Pokémon (simplificada)
@@ -148,12 +121,9 @@ public class Pokemon {
         if (move instanceof PhysicalMovement) {
             attackStat = getModifiedAttack();
             defenseStat = defender.getModifiedDefence();
-        } else if (move instanceof SpecialMovement) {
+        } else {
             attackStat = getModifiedSpecialAttack();
             defenseStat = defender.getModifiedSpecialDefence();
-        } else {
-            // StateMovement - no causa daño directo
-            return 0;
         }
         
         // Fórmula de daño base
@@ -168,13 +138,10 @@ public class Pokemon {
             damage *= 1.5;
         }
         
-        // Factor aleatorio (entre 85% y 100%)
-        Random random = new Random();
-        double randomFactor = 0.85 + (random.nextDouble() * 0.15);
         damage *= randomFactor;
         
         // Efectos de estado que afectan el daño
-        if (hasStatusEffect("burn") && move instanceof PhysicalMovement) {
+        if (hasStatusEffect(StatusCondition.BURN) && move instanceof PhysicalMovement) {
             damage *= 0.5; // Quemadura reduce ataques físicos
         }
         
@@ -189,12 +156,12 @@ public class Pokemon {
         int finalDamage = Math.max(0, damage);
         this.ps = Math.max(0, this.ps - finalDamage);
         
-        System.out.println(name + " recibe " + finalDamage + " puntos de daño!");
+        events.emit(BattleEventType.DAMAGE_DEALT, this, null, finalDamage);
         
         if (this.ps <= 0) {
-            System.out.println(name + " se ha debilitado!");
+            events.emit(BattleEventType.FAINTED, this);
             // Limpiar efectos de estado al debilitarse
-            statusEffects.clear();
+            statusMask = 0;
         }
     }
     
@@ -204,14 +171,10 @@ public class Pokemon {
      */
     public void heal(int healAmount) {
         int oldHp = this.ps;
-        this.ps = Math.min(maxPs, this.ps + healAmount);
+        this.ps = Math.min(getMaxPs(), this.ps + healAmount);
         int actualHeal = this.ps - oldHp;
         
-        if (actualHeal > 0) {
-            System.out.println(name + " recupera " + actualHeal + " puntos de HP!");
-        } else {
-            System.out.println(name + " ya tiene el HP al máximo!");
-        }
+        events.emit(BattleEventType.HEALED, this, null, actualHeal);
     }
     
     /**
@@ -220,17 +183,17 @@ public class Pokemon {
      */
     public void revive(double hpPercentage) {
         if (ps > 0) {
-            System.out.println(name + " no necesita ser revivido!");
+            events.emit(BattleEventType.MESSAGE, this, "no necesita ser revivido!");
             return;
         }
         
         hpPercentage = Math.max(0.0, Math.min(1.0, hpPercentage));
-        this.ps = (int) (maxPs * hpPercentage);
+        this.ps = (int) (getMaxPs() * hpPercentage);
         
         // Limpiar efectos de estado al revivir
-        statusEffects.clear();
+        statusMask = 0;
         
-        System.out.println(name + " ha sido revivido con " + ps + " HP!");
+        events.emit(BattleEventType.REVIVED, this, null, ps);
     }
     
     // ============ MÉTODOS DE EFECTIVIDAD Y TIPOS ============
@@ -244,17 +207,11 @@ public class Pokemon {
         }
         
         // Por ahora, usar el tipo primario del atacante como aproximación
-        return calculateTypeMatchup(this.primaryType, defender);
+        return calculateTypeMatchup(species.getPrimaryType(), defender);
     }
     
     private double calculateTypeMatchup(Type attackType, Pokemon defender) {
-        double effectiveness = attackType.calculateMultiplier(defender.getPrimaryType());
-        
-        if (defender.getSecondaryType() != null) {
-            effectiveness *= attackType.calculateMultiplier(defender.getSecondaryType());
-        }
-        
-        return effectiveness;
+        return attackType.calculateMultiplier(defender.getPrimaryType(), defender.getSecondaryType());
     }
     
     private boolean isSTAB(Movement move) {
@@ -266,90 +223,140 @@ public class Pokemon {
     
     // ============ MÉTODOS DE ESTADÍSTICAS MODIFICADAS ============
     
+    // Multiplicador de cada etapa (índice = etapa + 6) como fracción entera:
+    // (2 + etapa) / 2 si es positiva, 2 / (2 - etapa) si es negativa
+    private static final int[] STAGE_NUMERATOR = {2, 2, 2, 2, 2, 2, 2, 3, 4, 5, 6, 7, 8};
+    private static final int[] STAGE_DENOMINATOR = {8, 7, 6, 5, 4, 3, 2, 2, 2, 2, 2, 2, 2};
+    private static final int NEUTRAL_STAGES = packNeutralStages();
+    
+    private static int packNeutralStages() {
+        int packed = 0;
+        for (Stat stat : Stat.values()) {
+            packed |= -Stat.MIN_STAGE << (4 * stat.ordinal());
+        }
+        return packed;
+    }
+    
     public int getModifiedAttack() {
-        return applyStatModifier(attack, statModifiers.get("attack"));
+        return applyStatModifier(getAttack(), Stat.ATTACK);
     }
     
     public int getModifiedDefence() {
-        return applyStatModifier(defence, statModifiers.get("defence"));
+        return applyStatModifier(getDefence(), Stat.DEFENCE);
     }
     
     public int getModifiedSpecialAttack() {
-        return applyStatModifier(specialAttack, statModifiers.get("specialAttack"));
+        return applyStatModifier(getSpecialAttack(), Stat.SPECIAL_ATTACK);
     }
     
     public int getModifiedSpecialDefence() {
-        return applyStatModifier(specialDefence, statModifiers.get("specialDefence"));
+        return applyStatModifier(getSpecialDefence(), Stat.SPECIAL_DEFENCE);
     }
     
     public int getModifiedSpeed() {
-        return applyStatModifier(speed, statModifiers.get("speed"));
+        return applyStatModifier(getSpeed(), Stat.SPEED);
     }
     
-    private int applyStatModifier(int baseStat, int modifier) {
-        // Modificadores van de -6 a +6
-        modifier = Math.max(-6, Math.min(6, modifier));
-        
-        double multiplier;
-        if (modifier >= 0) {
-            multiplier = (2.0 + modifier) / 2.0;
-        } else {
-            multiplier = 2.0 / (2.0 - modifier);
-        }
-        
-        return (int) (baseStat * multiplier);
+    private int applyStatModifier(int baseStat, Stat stat) {
+        int index = (statStages >>> (4 * stat.ordinal())) & 0xF;
+        return baseStat * STAGE_NUMERATOR[index] / STAGE_DENOMINATOR[index];
+    }
+    
+    /**
+     * @param stat Estadística
+     * @return Etapa actual, de -6 a +6
+     */
+    public int getStatStage(Stat stat) {
+        return ((statStages >>> (4 * stat.ordinal())) & 0xF) + Stat.MIN_STAGE;
     }
     
     // ============ MÉTODOS DE MODIFICADORES Y ESTADOS ============
     
+    public void modifyStat(Stat stat, int change) {
+        int newStage = Math.max(Stat.MIN_STAGE, Math.min(Stat.MAX_STAGE, getStatStage(stat) + change));
+        int shift = 4 * stat.ordinal();
+        statStages = (statStages & ~(0xF << shift)) | ((newStage - Stat.MIN_STAGE) << shift);
+        
+        events.emit(BattleEventType.STAT_STAGE_CHANGED, this, stat, change);
+    }
+    
+    /**
+     * Versión por nombre ("attack", "specialDefence"...); los nombres desconocidos se ignoran
+     */
     public void modifyStat(String stat, int change) {
-        if (statModifiers.containsKey(stat)) {
-            int currentMod = statModifiers.get(stat);
-            int newMod = Math.max(-6, Math.min(6, currentMod + change));
-            statModifiers.put(stat, newMod);
-            
-            String changeText = change > 0 ? "aumenta" : "disminuye";
-            String intensity = Math.abs(change) > 1 ? " mucho" : "";
-            System.out.println("¡El " + stat + " de " + name + " " + changeText + intensity + "!");
+        Stat known = Stat.fromKey(stat);
+        if (known != null) {
+            modifyStat(known, change);
+        }
+    }
+    
+    public void addStatusEffect(StatusCondition condition) {
+        if (!condition.isIn(statusMask)) {
+            statusMask |= condition.getBit();
+            events.emit(BattleEventType.STATUS_APPLIED, this, condition);
         }
     }
     
+    public void removeStatusEffect(StatusCondition condition) {
+        if (condition.isIn(statusMask)) {
+            statusMask &= ~condition.getBit();
+            events.emit(BattleEventType.STATUS_CURED, this, condition);
+        }
+    }
+    
+    public boolean hasStatusEffect(StatusCondition condition) {
+        return condition.isIn(statusMask);
+    }
+    
+    /**
+     * Versiones por nombre ("burn", "sleep"...); los nombres desconocidos se ignoran
+     */
     public void addStatusEffect(String effect) {
-        if (!statusEffects.contains(effect)) {
-            statusEffects.add(effect);
-            System.out.println(name + " está " + effect + "!");
+        StatusCondition condition = StatusCondition.fromKey(effect);
+        if (condition != null) {
+            addStatusEffect(condition);
         }
     }
     
     public void removeStatusEffect(String effect) {
-        if (statusEffects.remove(effect)) {
-            System.out.println(name + " se ha curado de " + effect + "!");
+        StatusCondition condition = StatusCondition.fromKey(effect);
+        if (condition != null) {
+            removeStatusEffect(condition);
         }
     }
     
     public boolean hasStatusEffect(String effect) {
-        return statusEffects.contains(effect);
+        StatusCondition condition = StatusCondition.fromKey(effect);
+        return condition != null && hasStatusEffect(condition);
+    }
+    
+    /**
+     * @return true si está dormido o congelado y no puede moverse
+     */
+    public boolean isImmobilized() {
+        return (statusMask & (StatusCondition.SLEEP.getBit() | StatusCondition.FREEZE.getBit())) != 0;
     }
     
     public void clearStatModifiers() {
-        initializeStatModifiers();
-        System.out.println("¡Los cambios de estadísticas de " + name + " vuelven a la normalidad!");
+        statStages = NEUTRAL_STAGES;
+        events.emit(BattleEventType.STAT_STAGES_RESET, this);
     }
     
     public void clearStatusEffects() {
-        statusEffects.clear();
-        System.out.println("¡Los efectos de estado de " + name + " han desaparecido!");
+        statusMask = 0;
+        events.emit(BattleEventType.STATUS_CURED, this);
     }
     
     // ============ MÉTODOS DE MOVIMIENTOS ============
     
     public boolean addMove(Movement move) {
         if (moves.size() < 4 && move != null) {
+            setSlotPP(moves.size(), move.getPp());
             moves.add(move);
-            System.out.println(name + " ha aprendido " + move.getName() + "!");
+            events.emit(BattleEventType.MOVE_LEARNED, this, move);
             return true;
         } else if (moves.size() >= 4) {
-            System.out.println(name + " ya conoce 4 movimientos. ¿Desea reemplazar alguno?");
+            events.emit(BattleEventType.MESSAGE, this, "ya conoce 4 movimientos. ¿Desea reemplazar alguno?");
             return false;
         }
         return false;
@@ -357,9 +364,9 @@ public class Pokemon {
     
     public boolean replaceMove(int index, Movement newMove) {
         if (index >= 0 && index < moves.size() && newMove != null) {
-            Movement oldMove = moves.get(index);
             moves.set(index, newMove);
-            System.out.println(name + " olvida " + oldMove.getName() + " y aprende " + newMove.getName() + "!");
+            setSlotPP(index, newMove.getPp());
+            events.emit(BattleEventType.MOVE_LEARNED, this, newMove);
             return true;
         }
         return false;
@@ -374,26 +381,98 @@ public class Pokemon {
         // if (move.getCurrentPP() <= 0) return false;
         
         // Verificar estados que impiden usar movimientos
-        if (hasStatusEffect("sleep") || hasStatusEffect("freeze")) {
+        if (isImmobilized()) {
             return false;
         }
         
         return true;
     }
     
+    // ============ PP ============
+    
+    private static final int PP_BITS = 8;
+    private static final int PP_MASK = (1 << PP_BITS) - 1;
+    
+    /**
+     * @param move Movimiento
+     * @return Ranura del movimiento, o -1 si no lo conoce
+     */
+    public int slotOf(Movement move) {
+        for (int i = 0; i < moves.size(); i++) {
+            if (moves.get(i) == move) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * @param slot Ranura del movimiento (0 a 3)
+     * @return PP que le quedan
+     */
+    public int getCurrentPP(int slot) {
+        return (ppSlots >>> (slot * PP_BITS)) & PP_MASK;
+    }
+    
+    public int getCurrentPP(Movement move) {
+        int slot = slotOf(move);
+        return slot >= 0 ? getCurrentPP(slot) : 0;
+    }
+    
+    public boolean hasPP(Movement move) {
+        return getCurrentPP(move) > 0;
+    }
+    
+    /**
+     * Gasta un PP del movimiento
+     * @param move Movimiento usado
+     * @return true si le quedaban PP
+     */
+    public boolean usePP(Movement move) {
+        int slot = slotOf(move);
+        if (slot < 0 || getCurrentPP(slot) == 0) {
+            return false;
+        }
+        setSlotPP(slot, getCurrentPP(slot) - 1);
+        return true;
+    }
+    
+    /**
+     * Restaura PP parcialmente
+     * @param slot Ranura del movimiento
+     * @param amount Cantidad de PP a restaurar
+     */
+    public void restorePP(int slot, int amount) {
+        setSlotPP(slot, Math.min(moves.get(slot).getPp(), getCurrentPP(slot) + amount));
+    }
+    
+    /**
+     * Restaura todos los PP de todos los movimientos
+     */
+    public void restorePP() {
+        for (int i = 0; i < moves.size(); i++) {
+            setSlotPP(i, moves.get(i).getPp());
+        }
+    }
+    
+    private void setSlotPP(int slot, int pp) {
+        int shift = slot * PP_BITS;
+        ppSlots = (ppSlots & ~(PP_MASK << shift)) | ((pp & PP_MASK) << shift);
+    }
+    
     // ============ MÉTODOS DE INFORMACIÓN ============
     
     public void displayStatus() {
-        System.out.println("=== " + name.toUpperCase() + " ===");
+        System.out.println("=== " + getName().toUpperCase() + " ===");
         System.out.println("Nivel: " + level);
-        System.out.println("HP: " + ps + "/" + maxPs);
-        System.out.println("Tipo: " + primaryType + (secondaryType != null ? "/" + secondaryType : ""));
+        System.out.println("HP: " + ps + "/" + getMaxPs());
+        System.out.println("Tipo: " + getPrimaryType() + (getSecondaryType() != null ? "/" + getSecondaryType() : ""));
         System.out.println("ATK: " + getModifiedAttack() + " | DEF: " + getModifiedDefence());
         System.out.println("SP.ATK: " + getModifiedSpecialAttack() + " | SP.DEF: " + getModifiedSpecialDefence());
         System.out.println("SPEED: " + getModifiedSpeed());
         
-        if (!statusEffects.isEmpty()) {
-            System.out.println("Estados: " + String.join(", ", statusEffects));
+        if (statusMask != 0) {
+            System.out.println("Estados: " + String.join(", ", getStatusEffects()));
         }
         
         System.out.println("Movimientos:");
@@ -405,7 +484,7 @@ public class Pokemon {
     }
     
     public double getHPPercentage() {
-        return maxPs > 0 ? (double) ps / maxPs : 0.0;
+        return getMaxPs() > 0 ? (double) ps / getMaxPs() : 0.0;
     }
     
     public boolean isAlive() {
@@ -423,11 +502,11 @@ public class Pokemon {
     // ============ GETTERS EXISTENTES ============
     
     public String getName() {
-        return name;
+        return species.getName();
     }
 
     public String getDescription() {
-        return description;
+        return species.getDescription();
     }
 
     public int getPs() {
@@ -435,39 +514,50 @@ public class Pokemon {
     }
     
     public int getMaxPs() {
-        return maxPs;
+        return Species.scale(species.getPs(), level);
     }
 
     public int getAttack() {
-        return attack;
+        return Species.scale(species.getAttack(), level);
     }
 
     public int getDefence() {
-        return defence;
+        return Species.scale(species.getDefence(), level);
     }
 
     public int getSpeed() {
-        return speed;
+        return Species.scale(species.getSpeed(), level);
     }
 
     public int getSpecialAttack() {
-        return specialAttack;
+        return Species.scale(species.getSpecialAttack(), level);
     }
 
     public int getSpecialDefence() {
-        return specialDefence;
+        return Species.scale(species.getSpecialDefence(), level);
     }
 
     public Type getPrimaryType() {
-        return primaryType;
+        return species.getPrimaryType();
     }
 
     public Type getSecondaryType() {
-        return secondaryType;
+        return species.getSecondaryType();
     }
 
-    public ArrayList<Movement> getMoves() {
-        return new ArrayList<>(moves);
+    /**
+     * @return Vista de solo lectura de los movimientos (refleja los cambios posteriores)
+     */
+    public List<Movement> getMoves() {
+        return moveView;
+    }
+    
+    public int moveCount() {
+        return moves.size();
+    }
+    
+    public Movement moveAt(int index) {
+        return moves.get(index);
     }
     
     // ============ NUEVOS GETTERS ============
@@ -476,58 +566,152 @@ public class Pokemon {
         return level;
     }
     
-    public HashMap<String, Integer> getStats() {
-        return new HashMap<>(stats);
+    /**
+     * @return Estadísticas a este nivel; en el nivel base es el mapa compartido de la especie
+     */
+    public Map<String, Integer> getStats() {
+        if (level == Species.BASE_LEVEL) {
+            return species.getBaseStats();
+        }
+        HashMap<String, Integer> stats = new HashMap<>();
+        stats.put("ps", getMaxPs());
+        stats.put("attack", getAttack());
+        stats.put("defence", getDefence());
+        stats.put("speed", getSpeed());
+        stats.put("specialAttack", getSpecialAttack());
+        stats.put("specialDefence", getSpecialDefence());
+        return Collections.unmodifiableMap(stats);
+    }
+    
+    public Species getSpecies() {
+        return species;
     }
     
+    /**
+     * @return Copia de las etapas por nombre; en bucles es mejor getStatStage
+     */
     public HashMap<String, Integer> getStatModifiers() {
-        return new HashMap<>(statModifiers);
+        HashMap<String, Integer> modifiers = new HashMap<>();
+        for (Stat stat : Stat.values()) {
+            modifiers.put(stat.getKey(), getStatStage(stat));
+        }
+        return modifiers;
     }
     
     public ArrayList<String> getStatusEffects() {
-        return new ArrayList<>(statusEffects);
+        ArrayList<String> effects = new ArrayList<>();
+        for (StatusCondition condition : StatusCondition.values()) {
+            if (condition.isIn(statusMask)) {
+                effects.add(condition.getKey());
+            }
+        }
+        return effects;
+    }
+    
+    /**
+     * Estados actuales sin crear objetos (para la IA y la interfaz)
+     * @return Máscara con un bit por StatusCondition
+     */
+    public int getStatusMask() {
+        return statusMask;
     }
     
     public Image getImage() {
-        return image;
+        return species.getImage();
+    }
+    
+    public BattleEventLog getEvents() {
+        return events;
     }
     
     // ============ SETTERS NECESARIOS ============
     
     public void setPs(int ps) {
-        this.ps = Math.max(0, Math.min(maxPs, ps));
+        this.ps = Math.max(0, Math.min(getMaxPs(), ps));
     }
     
+    /**
+     * Cambia el nivel conservando el porcentaje de HP
+     */
     public void setLevel(int level) {
+        double hpPercentage = getHPPercentage();
         this.level = Math.max(1, Math.min(100, level));
-        adjustStatsForLevel();
+        this.ps = (int) (getMaxPs() * hpPercentage);
     }
     
+    /**
+     * Cambia el sprite solo de este Pokémon (pasa a usar una copia de su especie);
+     * para cambiarlo a toda la especie, registrar una especie con la imagen
+     */
     public void setImage(Image image) {
-        this.image = image;
+        this.species = species.withImage(image);
+    }
+    
+    public void setEvents(BattleEventLog events) {
+        this.events = events != null ? events : BattleEventLog.NONE;
+    }
+    
+    // ============ INSTANTÁNEAS ============
+    
+    /**
+     * @return Etapas de estadísticas empaquetadas, 4 bits por etapa (etapa + 6)
+     */
+    int packStatStages() {
+        return statStages;
+    }
+    
+    /**
+     * Restaura las etapas sin publicar eventos
+     * @param packed Etapas empaquetadas con packStatStages
+     */
+    void unpackStatStages(int packed) {
+        statStages = packed;
+    }
+    
+    /**
+     * Restaura los estados sin publicar eventos
+     * @param mask Máscara obtenida con getStatusMask
+     */
+    void setStatusMask(int mask) {
+        statusMask = mask;
+    }
+    
+    /**
+     * @return PP actuales de todas las ranuras empaquetados, 8 bits por ranura
+     */
+    int getPPState() {
+        return ppSlots;
+    }
+    
+    /**
+     * Restaura los PP sin publicar eventos
+     * @param packed PP empaquetados con getPPState
+     */
+    void setPPState(int packed) {
+        ppSlots = packed;
     }
     
     // ============ MÉTODOS DE UTILIDAD ============
     
     public Pokemon createCopy() {
-        Pokemon copy = new Pokemon(name, description, maxPs, attack, defence, speed, specialAttack, specialDefence, primaryType, secondaryType, level);
-        copy.setPs(this.ps);
+        Pokemon copy = new Pokemon(species, level);
+        copy.ps = this.ps;
+        copy.events = this.events;
         
-        // Copiar movimientos
-        for (Movement move : this.moves) {
-            copy.moves.add(move);
-        }
+        // Los movimientos son definiciones inmutables: se comparten y solo se copian los PP
+        copy.moves.addAll(this.moves);
+        copy.ppSlots = this.ppSlots;
         
         // Copiar modificadores y estados
-        copy.statModifiers = new HashMap<>(this.statModifiers);
-        copy.statusEffects = new ArrayList<>(this.statusEffects);
+        copy.statStages = this.statStages;
+        copy.statusMask = this.statusMask;
         
         return copy;
     }
     
     @Override
     public String toString() {
-        return name + " (Nivel " + level + ", HP: " + ps + "/" + maxPs + ")";
+        return getName() + " (Nivel " + level + ", HP: " + ps + "/" + getMaxPs() + ")";
     }
     
     @Override
@@ -535,12 +719,12 @@ public class Pokemon {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Pokemon pokemon = (Pokemon) obj;
-        return name.equals(pokemon.name) && level == pokemon.level;
+        return getName().equals(pokemon.getName()) && level == pokemon.level;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(name, level);
+        return Objects.hash(getName(), level);
     }
 
     // Agregar estos métodos a la clase Pokemon existente:
@@ -552,12 +736,12 @@ public class Pokemon {
      * @param hp Nuevo valor de HP
      */
     public void setCurrentHP(int hp) {
-        this.ps = Math.max(0, Math.min(maxPs, hp));
+        this.ps = Math.max(0, Math.min(getMaxPs(), hp));
         
         if (this.ps <= 0) {
-            System.out.println(name + " se ha debilitado!");
+            events.emit(BattleEventType.FAINTED, this);
             // Limpiar efectos de estado al debilitarse
-            statusEffects.clear();
+            statusMask = 0;
             clearStatModifiers();
         }
     }
@@ -593,19 +777,16 @@ public class Pokemon {
     }
 
     /**
-     * Usa un movimiento y reduce su PP (cuando se implemente PP)
+     * Usa un movimiento y reduce su PP
      * @param move Movimiento a usar
      * @return true si se usó exitosamente
      */
     public boolean useMovement(Movement move) {
-        if (!canUseMove(move)) {
+        if (!canUseMove(move) || !usePP(move)) {
             return false;
         }
         
-        // TODO: Reducir PP del movimiento cuando se implemente
-        // move.reducePP();
-        
-        System.out.println(name + " usa " + move.getName() + "!");
+        events.emit(BattleEventType.MOVE_USED, this, move);
         return true;
     }
 
@@ -613,7 +794,7 @@ public class Pokemon {
      * Restaura completamente el HP
      */
     public void fullHeal() {
-        heal(maxPs - ps);
+        heal(getMaxPs() - ps);
     }
 
     /**
@@ -621,7 +802,7 @@ public class Pokemon {
      * @param percentage Porcentaje a restaurar (0.0 a 1.0)
      */
     public void healPercentage(double percentage) {
-        int healAmount = (int) (maxPs * Math.max(0.0, Math.min(1.0, percentage)));
+        int healAmount = (int) (getMaxPs() * Math.max(0.0, Math.min(1.0, percentage)));
         heal(healAmount);
     }
 
@@ -647,7 +828,7 @@ public class Pokemon {
     public void resetBattleState() {
         clearStatModifiers();
         clearStatusEffects();
-        System.out.println(name + " ha sido restaurado a su estado base!");
+        events.emit(BattleEventType.MESSAGE, this, "ha sido restaurado a su estado base!");
     }
 
     /**
@@ -669,16 +850,16 @@ public class Pokemon {
                 clearStatusEffects();
                 break;
             case "boost_attack":
-                modifyStat("attack", value);
+                modifyStat(Stat.ATTACK, value);
                 break;
             case "boost_defence":
-                modifyStat("defence", value);
+                modifyStat(Stat.DEFENCE, value);
                 break;
             case "boost_speed":
-                modifyStat("speed", value);
+                modifyStat(Stat.SPEED, value);
                 break;
             default:
-                System.out.println("Efecto desconocido: " + effectType);
+                events.emit(BattleEventType.MESSAGE, this, "Efecto desconocido: " + effectType);
         }
     }
 }
\ No newline at end of file
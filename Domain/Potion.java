@@ -22,16 +22,16 @@ public class Potion extends Item {
     @Override
     public boolean use(Pokemon targetPokemon) {
         if (!canUseOn(targetPokemon)) {
-            System.out.println("No se puede usar " + name + " en " + targetPokemon.getName());
+            targetPokemon.getEvents().emit(BattleEventType.MESSAGE, null, "No se puede usar " + name + " en " + targetPokemon.getName());
             return false;
         }
         
         if (targetPokemon.getCurrentHP() >= targetPokemon.getMaxPs()) {
-            System.out.println(targetPokemon.getName() + " ya tiene el HP al máximo!");
+            targetPokemon.getEvents().emit(BattleEventType.HEALED, targetPokemon, null, 0);
             return false;
         }
         
-        System.out.println("Usando " + name + " en " + targetPokemon.getName() + "...");
+        targetPokemon.getEvents().emit(BattleEventType.ITEM_USED, targetPokemon, this);
         return applyEffect(targetPokemon);
     }
     
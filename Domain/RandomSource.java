@@ -0,0 +1,140 @@
+package Domain;
+
+import java.util.SplittableRandom;
+
+/**
+ * Fuente de aleatoriedad de una batalla.
+ * Cada batalla tiene la suya, con semilla conocida, de modo que una misma
+ * semilla reproduce la misma batalla y las simulaciones en paralelo no
+ * comparten estado.
+ *
+ * Genera la misma secuencia que un SplittableRandom con esa semilla (SplitMix64),
+ * pero su estado es un solo long que se puede leer y restaurar: el diario de
+ * turnos lo guarda para repetir una batalla desde cualquier punto.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class RandomSource {
+    private static final ThreadLocal<RandomSource> LOCAL = ThreadLocal.withInitial(RandomSource::new);
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private long state;
+
+    /**
+     * Crea una fuente con una semilla específica
+     * @param seed Semilla de la fuente
+     */
+    public RandomSource(long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    /**
+     * Crea una fuente con una semilla aleatoria
+     */
+    public RandomSource() {
+        this(new SplittableRandom().nextLong() ^ System.nanoTime());
+    }
+
+    /**
+     * Fuente por hilo para los métodos que se usan fuera de una batalla
+     * @return La fuente del hilo actual
+     */
+    public static RandomSource local() {
+        return LOCAL.get();
+    }
+
+    /**
+     * Crea una fuente independiente derivada de esta (por ejemplo, una por batalla).
+     * La semilla de la nueva fuente sale de esta, así que toda la familia es reproducible.
+     * @return Nueva fuente independiente
+     */
+    public RandomSource split() {
+        return new RandomSource(nextLong());
+    }
+
+    /**
+     * @param bound Límite superior exclusivo (debe ser positivo)
+     * @return Entero uniforme en [0, bound)
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("El límite debe ser positivo");
+        }
+        int r = mix32(nextState());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        // Rechazo del sobrante para que todos los valores sean igual de probables
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextState()) >>> 1) {
+        }
+        return r;
+    }
+
+    /**
+     * @return Double uniforme en [0.0, 1.0)
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * @return Long uniforme
+     */
+    public long nextLong() {
+        return mix64(nextState());
+    }
+
+    /**
+     * Evalúa una probabilidad
+     * @param probability Probabilidad de éxito (0.0 a 1.0)
+     * @return true con la probabilidad indicada
+     */
+    public boolean chance(double probability) {
+        return probability > 0 && nextDouble() < probability;
+    }
+
+    /**
+     * @return Semilla con la que se creó la fuente
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Estado actual; con setState la fuente vuelve a generar lo mismo desde aquí
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restaura un estado obtenido con getState
+     * @param state Estado guardado
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    // ============ SPLITMIX64 ============
+
+    private long nextState() {
+        return state += GOLDEN_GAMMA;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+        return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+    }
+}
@@ -19,16 +19,16 @@ public class Revive extends Item {
     @Override
     public boolean use(Pokemon targetPokemon) {
         if (!canUseOn(targetPokemon)) {
-            System.out.println("No se puede usar " + name + " en " + targetPokemon.getName());
+            targetPokemon.getEvents().emit(BattleEventType.MESSAGE, null, "No se puede usar " + name + " en " + targetPokemon.getName());
             return false;
         }
         
         if (!targetPokemon.isFainted()) {
-            System.out.println(targetPokemon.getName() + " no está debilitado!");
+            targetPokemon.getEvents().emit(BattleEventType.MESSAGE, targetPokemon, "no está debilitado!");
             return false;
         }
         
-        System.out.println("Usando " + name + " en " + targetPokemon.getName() + "...");
+        targetPokemon.getEvents().emit(BattleEventType.ITEM_USED, targetPokemon, this);
         return applyEffect(targetPokemon);
     }
     
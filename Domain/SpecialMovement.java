@@ -9,35 +9,31 @@ public class SpecialMovement extends Movement {
     }
 
     @Override
-    public boolean applySpecialEffect(Pokemon user, Pokemon target) {
-        if (triggersSideEffect()) {
+    public boolean applySpecialEffect(Pokemon user, Pokemon target, RandomSource random) {
+        if (triggersSideEffect(random)) {
             String moveName = getName().toLowerCase();
             
             // Ejemplos de efectos comunes en movimientos especiales
             if (moveName.contains("thunderbolt") || moveName.contains("thunder")) {
-                target.addStatusEffect("paralysis");
-                System.out.println("¡" + target.getName() + " está paralizado!");
+                target.addStatusEffect(StatusCondition.PARALYSIS);
                 return true;
             } else if (moveName.contains("flamethrower") || moveName.contains("fire")) {
-                target.addStatusEffect("burn");
-                System.out.println("¡" + target.getName() + " está quemado!");
+                target.addStatusEffect(StatusCondition.BURN);
                 return true;
             } else if (moveName.contains("ice") || moveName.contains("blizzard")) {
-                target.addStatusEffect("freeze");
-                System.out.println("¡" + target.getName() + " está congelado!");
+                target.addStatusEffect(StatusCondition.FREEZE);
                 return true;
             } else if (moveName.contains("psychic")) {
-                target.modifyStat("specialDefence", -1);
-                System.out.println("¡La defensa especial de " + target.getName() + " disminuye!");
+                target.modifyStat(Stat.SPECIAL_DEFENCE, -1);
                 return true;
             } else if (moveName.contains("shadow ball")) {
-                target.modifyStat("specialDefence", -1);
+                target.modifyStat(Stat.SPECIAL_DEFENCE, -1);
                 return true;
             }
             
             // Efecto genérico para movimientos especiales
-            if (Math.random() < 0.1) {
-                System.out.println("¡Ataque especialmente concentrado!");
+            if (random.nextDouble() < 0.1) {
+                user.getEvents().emit(BattleEventType.MESSAGE, null, "¡Ataque especialmente concentrado!");
                 return true;
             }
         }
@@ -45,21 +41,21 @@ public class SpecialMovement extends Movement {
     }
 
     @Override
-    public boolean canBeUsed(Pokemon user) {
-        if (!hasPP()) {
-            System.out.println(getName() + " no tiene PP restantes!");
+    public boolean canBeUsed(Pokemon user, RandomSource random) {
+        if (!user.hasPP(this)) {
+            user.getEvents().emit(BattleEventType.MOVE_FAILED, user, this);
             return false;
         }
         
         // Los movimientos especiales no son afectados por parálisis tanto como los físicos
-        if (user.hasStatusEffect("paralysis")) {
-            if (Math.random() < 0.1) { // Solo 10% de probabilidad de fallar
-                System.out.println(user.getName() + " está paralizado pero logra concentrarse!");
+        if (user.hasStatusEffect(StatusCondition.PARALYSIS)) {
+            if (random.nextDouble() < 0.1) { // Solo 10% de probabilidad de fallar
+                user.getEvents().emit(BattleEventType.MESSAGE, user, "está paralizado pero logra concentrarse!");
             }
         }
         
         // No se pueden usar si está dormido o congelado
-        if (user.hasStatusEffect("sleep") || user.hasStatusEffect("freeze")) {
+        if (user.isImmobilized()) {
             return false;
         }
         
@@ -81,10 +77,7 @@ public class SpecialMovement extends Movement {
         
         // Aplicar efectividad de tipo
         if (moveType != null) {
-            double typeEffectiveness = moveType.calculateMultiplier(target.getPrimaryType());
-            if (target.getSecondaryType() != null) {
-                typeEffectiveness *= moveType.calculateMultiplier(target.getSecondaryType());
-            }
+            double typeEffectiveness = moveType.calculateMultiplier(target.getPrimaryType(), target.getSecondaryType());
             damage *= typeEffectiveness;
         }
         
@@ -0,0 +1,174 @@
+package Domain;
+
+import java.awt.Image;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Datos inmutables de una especie: nombre, descripción, estadísticas base,
+ * tipos y sprite. Se comparten entre todos los Pokémon de esa especie, así que
+ * crear un Pokémon o copiarlo no duplica textos, imágenes ni mapas.
+ *
+ * El registro guarda una instancia por nombre; register devuelve la que ya
+ * exista para que quien cargue los datos reutilice siempre la misma.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class Species {
+    public static final int BASE_LEVEL = 50; // Nivel en el que las estadísticas valen su valor base
+
+    private static final Map<String, Species> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final String description;
+    private final int ps;
+    private final int attack;
+    private final int defence;
+    private final int speed;
+    private final int specialAttack;
+    private final int specialDefence;
+    private final Type primaryType;
+    private final Type secondaryType;
+    private final Image image;
+    private final Map<String, Integer> baseStats;
+
+    public Species(String name, String description, int ps, int attack, int defence, int speed,
+                   int specialAttack, int specialDefence, Type primaryType, Type secondaryType) {
+        this(name, description, ps, attack, defence, speed, specialAttack, specialDefence, primaryType, secondaryType, null);
+    }
+
+    public Species(String name, String description, int ps, int attack, int defence, int speed,
+                   int specialAttack, int specialDefence, Type primaryType, Type secondaryType, Image image) {
+        this.name = name;
+        this.description = description;
+        this.ps = ps;
+        this.attack = attack;
+        this.defence = defence;
+        this.speed = speed;
+        this.specialAttack = specialAttack;
+        this.specialDefence = specialDefence;
+        this.primaryType = primaryType;
+        this.secondaryType = secondaryType;
+        this.image = image;
+
+        HashMap<String, Integer> stats = new HashMap<>();
+        stats.put("ps", ps);
+        stats.put("attack", attack);
+        stats.put("defence", defence);
+        stats.put("speed", speed);
+        stats.put("specialAttack", specialAttack);
+        stats.put("specialDefence", specialDefence);
+        this.baseStats = Collections.unmodifiableMap(stats);
+    }
+
+    // ============ REGISTRO ============
+
+    /**
+     * Registra una especie si aún no hay otra con el mismo nombre
+     * @param species Especie a registrar
+     * @return La especie registrada con ese nombre (la recibida o la que ya estaba)
+     */
+    public static Species register(Species species) {
+        Species previous = REGISTRY.putIfAbsent(species.name, species);
+        return previous != null ? previous : species;
+    }
+
+    /**
+     * @param name Nombre de la especie
+     * @return La especie registrada, o null si no hay ninguna con ese nombre
+     */
+    public static Species forName(String name) {
+        return REGISTRY.get(name);
+    }
+
+    /**
+     * @return Vista de solo lectura de las especies registradas
+     */
+    public static Collection<Species> registered() {
+        return Collections.unmodifiableCollection(REGISTRY.values());
+    }
+
+    // ============ ESTADÍSTICAS POR NIVEL ============
+
+    /**
+     * Ajuste simple basado en nivel (nivel 50 como base)
+     * @param base Estadística base
+     * @param level Nivel del Pokémon
+     * @return Estadística a ese nivel
+     */
+    static int scale(int base, int level) {
+        return level == BASE_LEVEL ? base : (int) (base * (level / (double) BASE_LEVEL));
+    }
+
+    /**
+     * @param image Sprite nuevo
+     * @return Copia de la especie con ese sprite (esta no cambia)
+     */
+    public Species withImage(Image image) {
+        return new Species(name, description, ps, attack, defence, speed, specialAttack, specialDefence,
+                primaryType, secondaryType, image);
+    }
+
+    // ============ GETTERS ============
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getPs() {
+        return ps;
+    }
+
+    public int getAttack() {
+        return attack;
+    }
+
+    public int getDefence() {
+        return defence;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    public int getSpecialAttack() {
+        return specialAttack;
+    }
+
+    public int getSpecialDefence() {
+        return specialDefence;
+    }
+
+    public Type getPrimaryType() {
+        return primaryType;
+    }
+
+    public Type getSecondaryType() {
+        return secondaryType;
+    }
+
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * @return Mapa de solo lectura con las estadísticas base
+     */
+    public Map<String, Integer> getBaseStats() {
+        return baseStats;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
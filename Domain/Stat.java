@@ -0,0 +1,53 @@
+package Domain;
+
+/**
+ * Estadísticas que admiten etapas de modificación en batalla (de -6 a +6).
+ * El orden fija la posición de cada etapa en el entero empaquetado de Pokemon.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public enum Stat {
+    ATTACK("attack", "ataque"),
+    DEFENCE("defence", "defensa"),
+    SPECIAL_ATTACK("specialAttack", "ataque especial"),
+    SPECIAL_DEFENCE("specialDefence", "defensa especial"),
+    SPEED("speed", "velocidad"),
+    ACCURACY("accuracy", "precisión"),
+    EVASION("evasion", "evasión");
+
+    public static final int MIN_STAGE = -6;
+    public static final int MAX_STAGE = 6;
+
+    private static final Stat[] VALUES = values();
+
+    private final String key;
+    private final String displayName;
+
+    Stat(String key, String displayName) {
+        this.key = key;
+        this.displayName = displayName;
+    }
+
+    /**
+     * @param key Nombre usado en los archivos y en el código antiguo ("attack", "specialDefence"...)
+     * @return La estadística, o null si el nombre no corresponde a ninguna
+     */
+    public static Stat fromKey(String key) {
+        for (Stat stat : VALUES) {
+            if (stat.key.equals(key)) {
+                return stat;
+            }
+        }
+        return null;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,62 @@
+package Domain;
+
+/**
+ * Estados alterados de un Pokémon. Cada uno ocupa un bit en la máscara de
+ * estados de Pokemon, así que comprobarlos no recorre listas ni compara textos.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public enum StatusCondition {
+    SLEEP("sleep", "dormido"),
+    PARALYSIS("paralysis", "paralizado"),
+    POISON("poison", "envenenado"),
+    BURN("burn", "quemado"),
+    FREEZE("freeze", "congelado");
+
+    private static final StatusCondition[] VALUES = values();
+
+    private final String key;
+    private final String displayName;
+    private final int bit;
+
+    StatusCondition(String key, String displayName) {
+        this.key = key;
+        this.displayName = displayName;
+        this.bit = 1 << ordinal();
+    }
+
+    /**
+     * @param key Nombre usado en el código antiguo ("burn", "sleep"...)
+     * @return El estado, o null si el nombre no corresponde a ninguno
+     */
+    public static StatusCondition fromKey(String key) {
+        for (StatusCondition condition : VALUES) {
+            if (condition.key.equals(key)) {
+                return condition;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param mask Máscara de estados (Pokemon.getStatusMask())
+     * @return true si el estado está en la máscara
+     */
+    public boolean isIn(int mask) {
+        return (mask & bit) != 0;
+    }
+
+    public int getBit() {
+        return bit;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
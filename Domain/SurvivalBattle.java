@@ -1,6 +1,7 @@
 package Domain;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class SurvivalBattle extends Battle {
     private ArrayList<Pokemon> teamPlayer1;
@@ -11,7 +12,11 @@ public class SurvivalBattle extends Battle {
     private boolean itemsAllowed;
 
     public SurvivalBattle(Pokemon pokemonPlayer1, Pokemon pokemonPlayer2, Character player1, Character player2) {
-        super(pokemonPlayer1, pokemonPlayer2, player1, player2);
+        this(pokemonPlayer1, pokemonPlayer2, player1, player2, new RandomSource());
+    }
+
+    public SurvivalBattle(Pokemon pokemonPlayer1, Pokemon pokemonPlayer2, Character player1, Character player2, RandomSource random) {
+        super(pokemonPlayer1, pokemonPlayer2, player1, player2, random);
         
         // Configuración específica de batalla de supervivencia
         this.itemsAllowed = false; // No se permiten objetos en supervivencia
@@ -29,16 +34,8 @@ public class SurvivalBattle extends Battle {
 
     @Override
     public void startBattle() {
-        System.out.println("=== INICIANDO BATALLA DE SUPERVIVENCIA ===");
-        System.out.println("¡Solo jugador vs jugador!");
-        System.out.println("6 Pokémon aleatorios por jugador - ¡Sin objetos!");
-        System.out.println(player1.getName() + " vs " + player2.getName());
-        System.out.println(player1.getName() + " envía a " + pokemonPlayer1.getName() + "!");
-        System.out.println(player2.getName() + " envía a " + pokemonPlayer2.getName() + "!");
-        System.out.println("¡Que comience la batalla de supervivencia!");
-        
-        displayBattleStatus();
-        displaySurvivalStatus();
+        events.emit(BattleEventType.MESSAGE, null, "6 Pokémon aleatorios por jugador - ¡Sin objetos!");
+        announceStart();
     }
 
     @Override
@@ -70,12 +67,10 @@ public class SurvivalBattle extends Battle {
             return true;
         } else if (!player1HasAvailablePokemon) {
             // Gana jugador 2
-            System.out.println(player2.getName() + " ha derrotado todos los Pokémon de " + player1.getName() + "!");
             endBattle(player2);
             return true;
         } else if (!player2HasAvailablePokemon) {
             // Gana jugador 1
-            System.out.println(player1.getName() + " ha derrotado todos los Pokémon de " + player2.getName() + "!");
             endBattle(player1);
             return true;
         }
@@ -90,11 +85,11 @@ public class SurvivalBattle extends Battle {
         
         // Verificar si el ataque es válido
         if (!canUseMove(attacker, move)) {
-            System.out.println(attacker.getName() + " no puede usar " + move.getName());
+            events.emit(BattleEventType.MOVE_FAILED, attacker, move);
             return;
         }
         
-        System.out.println(attacker.getName() + " usa " + move.getName() + "!");
+        events.emit(BattleEventType.MOVE_USED, attacker, move);
         
         // Aplicar el daño
         applyDamage(attacker, defender, move);
@@ -113,8 +108,8 @@ public class SurvivalBattle extends Battle {
     @Override
     public void useItem(Item item) {
         // En batalla de supervivencia NO se permiten objetos
-        System.out.println("¡No se pueden usar objetos en la batalla de supervivencia!");
-        System.out.println("Solo puedes atacar o cambiar de Pokémon.");
+        events.emit(BattleEventType.MESSAGE, null, "¡No se pueden usar objetos en la batalla de supervivencia!");
+        events.emit(BattleEventType.MESSAGE, null, "Solo puedes atacar o cambiar de Pokémon.");
     }
 
     @Override
@@ -125,19 +120,19 @@ public class SurvivalBattle extends Battle {
         
         // Verificar que el nuevo Pokémon esté en el equipo
         if (!currentTeam.contains(newPokemon)) {
-            System.out.println("Ese Pokémon no está en tu equipo de supervivencia.");
+            events.emit(BattleEventType.MESSAGE, null, "Ese Pokémon no está en tu equipo de supervivencia.");
             return;
         }
         
         // Verificar que el nuevo Pokémon esté disponible
         if (!isPokemonAvailable(newPokemon)) {
-            System.out.println(newPokemon.getName() + " no puede pelear.");
+            events.emit(BattleEventType.MESSAGE, newPokemon, "no puede pelear.");
             return;
         }
         
         // Verificar que no sea el mismo Pokémon
         if (currentPokemon == newPokemon) {
-            System.out.println(newPokemon.getName() + " ya está en batalla.");
+            events.emit(BattleEventType.MESSAGE, newPokemon, "ya está en batalla.");
             return;
         }
         
@@ -163,9 +158,7 @@ public class SurvivalBattle extends Battle {
             pokemonDefeatedPlayer1++;
         }
         
-        System.out.println(getOpponentPokemon().getName() + " se ha debilitado!");
-        System.out.println("Pokémon derrotados de " + playerWithFaintedPokemon.getName() + ": " + 
-                          (currentTurn == 1 ? pokemonDefeatedPlayer2 : pokemonDefeatedPlayer1) + "/" + TEAM_SIZE);
+        // El debilitamiento ya lo publicó el propio Pokémon al recibir el daño
         
         // Verificar si hay más Pokémon disponibles
         Pokemon nextPokemon = getNextAvailablePokemon(teamWithFaintedPokemon);
@@ -174,12 +167,9 @@ public class SurvivalBattle extends Battle {
             // Forzar cambio de Pokémon
             int opponentPlayerNumber = (currentTurn == 1) ? 2 : 1;
             updateActivePokemon(nextPokemon, opponentPlayerNumber);
-            System.out.println(playerWithFaintedPokemon.getName() + " debe enviar a su siguiente Pokémon.");
         } else {
-            System.out.println("¡" + playerWithFaintedPokemon.getName() + " no tiene más Pokémon disponibles!");
+            events.emit(BattleEventType.MESSAGE, playerWithFaintedPokemon, "no tiene más Pokémon disponibles!");
         }
-        
-        displaySurvivalStatus();
     }
     
     private Pokemon getNextAvailablePokemon(ArrayList<Pokemon> team) {
@@ -191,7 +181,7 @@ public class SurvivalBattle extends Battle {
         return null;
     }
     
-    public void setTeams(ArrayList<Pokemon> team1, ArrayList<Pokemon> team2) {
+    public void setTeams(List<Pokemon> team1, List<Pokemon> team2) {
         if (team1.size() == TEAM_SIZE && team2.size() == TEAM_SIZE) {
             this.teamPlayer1 = new ArrayList<>(team1);
             this.teamPlayer2 = new ArrayList<>(team2);
@@ -199,12 +189,18 @@ public class SurvivalBattle extends Battle {
             // Actualizar Pokémon activos
             this.pokemonPlayer1 = team1.get(0);
             this.pokemonPlayer2 = team2.get(0);
+            for (Pokemon pokemon : teamPlayer1) {
+                join(pokemon);
+            }
+            for (Pokemon pokemon : teamPlayer2) {
+                join(pokemon);
+            }
         } else {
-            System.out.println("Error: Los equipos de supervivencia deben tener exactamente " + TEAM_SIZE + " Pokémon.");
+            events.emit(BattleEventType.MESSAGE, null, "Error: Los equipos de supervivencia deben tener exactamente " + TEAM_SIZE + " Pokémon.");
         }
     }
     
-    private void displaySurvivalStatus() {
+    public void displaySurvivalStatus() {
         System.out.println("=== ESTADO DE SUPERVIVENCIA ===");
         System.out.println(player1.getName() + " - Pokémon derrotados: " + pokemonDefeatedPlayer1 + "/" + TEAM_SIZE);
         System.out.println(player2.getName() + " - Pokémon derrotados: " + pokemonDefeatedPlayer2 + "/" + TEAM_SIZE);
@@ -222,6 +218,28 @@ public class SurvivalBattle extends Battle {
     
     // ============ GETTERS ESPECÍFICOS ============
     
+    @Override
+    protected ArrayList<Pokemon> getTeamOf(int playerNumber) {
+        return playerNumber == 1 ? teamPlayer1 : teamPlayer2;
+    }
+    
+    @Override
+    protected int getExtraStateSize() {
+        return 2;
+    }
+    
+    @Override
+    protected void writeExtraState(int[] data, int offset) {
+        data[offset] = pokemonDefeatedPlayer1;
+        data[offset + 1] = pokemonDefeatedPlayer2;
+    }
+    
+    @Override
+    protected void readExtraState(int[] data, int offset) {
+        pokemonDefeatedPlayer1 = data[offset];
+        pokemonDefeatedPlayer2 = data[offset + 1];
+    }
+    
     public ArrayList<Pokemon> getTeamPlayer1() {
         return new ArrayList<>(teamPlayer1);
     }
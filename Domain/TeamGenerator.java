@@ -0,0 +1,334 @@
+package Domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generador de equipos aleatorios para la batalla de supervivencia.
+ * Las especies se eligen sin repetir con un Fisher-Yates parcial sobre una
+ * reserva de identificadores ya construida, y los movimientos con un muestreo
+ * ponderado entre los movimientos que cada especie puede aprender. Toda la
+ * aleatoriedad sale de la RandomSource recibida, así que la misma semilla da
+ * los mismos equipos.
+ *
+ * Las tablas se calculan una vez al crearlo; después es inmutable y puede
+ * usarse desde varios hilos (cada hilo baraja su propia copia de la reserva).
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class TeamGenerator {
+    public static final int TEAM_SIZE = 6;
+    public static final double DEFAULT_BALANCE_BAND = 0.10; // ±10% de la fuerza objetivo
+
+    private static final int MAX_BALANCE_ATTEMPTS = 64;
+    private static final int MAX_MOVE_ATTEMPTS = 64;
+    private static final int STATUS_POWER = 40; // Peso de un movimiento de estado, como un ataque de poder 40
+    private static final double STAB = 1.5;
+
+    private final GameData data;
+    private final int[] pool; // Identificadores de especie; cada hilo baraja una copia
+    private final int[][] candidates; // Movimientos que puede aprender cada especie
+    private final double[][] aliasProbability; // Tabla de alias de sus pesos: probabilidad de quedarse
+    private final int[][] alias; // y alternativa de cada casilla
+    private final double[] strength; // Fuerza de cada especie a su nivel de la lista
+    private final ThreadLocal<Shuffle> scratch;
+
+    /**
+     * @param data Especies y movimientos de los que se sacan los equipos
+     */
+    public TeamGenerator(GameData data) {
+        this.data = data;
+        int speciesCount = data.speciesCount();
+        this.pool = new int[speciesCount];
+        this.candidates = new int[speciesCount][];
+        this.aliasProbability = new double[speciesCount][];
+        this.alias = new int[speciesCount][];
+        this.strength = new double[speciesCount];
+        for (int id = 0; id < speciesCount; id++) {
+            pool[id] = id;
+            buildCandidates(id);
+            strength[id] = computeStrength(data.getSpecies(id), data.getLevel(id));
+        }
+        this.scratch = ThreadLocal.withInitial(() -> new Shuffle(pool));
+    }
+
+    // ============ TABLAS ============
+
+    /**
+     * Movimientos legales de una especie: su moveset por defecto, los de sus tipos y
+     * los de tipo normal. El peso favorece los ataques fuertes con STAB sobre su mejor
+     * estadística de ataque.
+     */
+    private void buildCandidates(int speciesId) {
+        Species species = data.getSpecies(speciesId);
+        boolean[] legal = new boolean[data.moveCount()];
+        for (int moveId : data.getMoveset(speciesId)) {
+            legal[moveId] = true;
+        }
+        int count = 0;
+        for (int moveId = 0; moveId < legal.length; moveId++) {
+            Type type = data.getMove(moveId).getMoveType();
+            if (type == Type.NORMAL || type == species.getPrimaryType() || type == species.getSecondaryType()) {
+                legal[moveId] = true;
+            }
+            if (legal[moveId]) {
+                count++;
+            }
+        }
+
+        int[] moves = new int[count];
+        double[] weights = new double[count];
+        int index = 0;
+        for (int moveId = 0; moveId < legal.length; moveId++) {
+            if (legal[moveId]) {
+                weights[index] = weight(species, data.getMove(moveId));
+                moves[index++] = moveId;
+            }
+        }
+        candidates[speciesId] = moves;
+        buildAlias(speciesId, weights);
+    }
+
+    /**
+     * Tabla de alias (Vose): cada sorteo ponderado cuesta un número aleatorio y una comparación
+     */
+    private void buildAlias(int speciesId, double[] weights) {
+        int count = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double[] probability = new double[count];
+        int[] alternative = new int[count];
+        double[] scaled = new double[count];
+        int[] small = new int[count];
+        int[] large = new int[count];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < count; i++) {
+            scaled[i] = weights[i] * count / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alternative[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Lo que queda vale 1 salvo por redondeo
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alternative[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alternative[i] = i;
+        }
+        aliasProbability[speciesId] = probability;
+        alias[speciesId] = alternative;
+    }
+
+    private static double weight(Species species, Movement move) {
+        double weight;
+        if (move instanceof StateMovement) {
+            weight = STATUS_POWER * (species.getAttack() + species.getSpecialAttack()) / 2.0;
+        } else {
+            weight = move.getPower() * move.getAccuracy() / 100.0
+                    * (move instanceof PhysicalMovement ? species.getAttack() : species.getSpecialAttack());
+        }
+        if (move.getMoveType() == species.getPrimaryType() || move.getMoveType() == species.getSecondaryType()) {
+            weight *= STAB;
+        }
+        return Math.max(weight, 1.0);
+    }
+
+    /**
+     * Fuerza de una especie: suma de sus estadísticas al nivel con el que aparece
+     */
+    private static double computeStrength(Species species, int level) {
+        return Species.scale(species.getPs(), level) + Species.scale(species.getAttack(), level)
+                + Species.scale(species.getDefence(), level) + Species.scale(species.getSpeed(), level)
+                + Species.scale(species.getSpecialAttack(), level) + Species.scale(species.getSpecialDefence(), level);
+    }
+
+    // ============ ESPECIES ============
+
+    /**
+     * Elige especies distintas con un Fisher-Yates parcial
+     * @param random Fuente de aleatoriedad (normalmente la de la batalla)
+     * @param out Arreglo donde se escriben los identificadores
+     * @param size Especies pedidas
+     * @return Especies escritas (menos que size si no hay tantas)
+     */
+    public int drawSpecies(RandomSource random, int[] out, int size) {
+        Shuffle shuffle = scratch.get();
+        int[] ids = shuffle.ids;
+        int count = Math.min(size, ids.length);
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(ids.length - i);
+            shuffle.swaps[i] = j;
+            int chosen = ids[j];
+            ids[j] = ids[i];
+            ids[i] = chosen;
+            out[i] = chosen;
+        }
+        // Deshacer los intercambios deja la reserva como estaba: el resultado solo depende de la semilla
+        for (int i = count - 1; i >= 0; i--) {
+            int j = shuffle.swaps[i];
+            ids[i] = ids[j];
+            ids[j] = out[i];
+        }
+        return count;
+    }
+
+    /**
+     * Elige un equipo cuya fuerza quede dentro de la banda alrededor del objetivo;
+     * si tras varios intentos ninguno entra, se queda con el más cercano
+     * @param random Fuente de aleatoriedad
+     * @param out Arreglo donde se escriben los identificadores
+     * @param size Especies pedidas
+     * @param targetStrength Fuerza objetivo (por ejemplo la del equipo rival)
+     * @param band Desviación relativa admitida (0.10 es ±10%)
+     * @return Especies escritas
+     */
+    public int drawBalancedSpecies(RandomSource random, int[] out, int size, double targetStrength, double band) {
+        int[] best = new int[size];
+        double bestDistance = Double.MAX_VALUE;
+        int count = 0;
+        for (int attempt = 0; attempt < MAX_BALANCE_ATTEMPTS; attempt++) {
+            count = drawSpecies(random, out, size);
+            double distance = Math.abs(strengthOf(out, count) - targetStrength);
+            if (distance <= band * targetStrength) {
+                return count;
+            }
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                System.arraycopy(out, 0, best, 0, count);
+            }
+        }
+        System.arraycopy(best, 0, out, 0, count);
+        return count;
+    }
+
+    /**
+     * @param species Identificadores de especie
+     * @param size Cuántos contar
+     * @return Suma de las fuerzas de esas especies
+     */
+    public double strengthOf(int[] species, int size) {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += strength[species[i]];
+        }
+        return total;
+    }
+
+    public double getStrength(int speciesId) {
+        return strength[speciesId];
+    }
+
+    // ============ MOVIMIENTOS ============
+
+    /**
+     * Elige hasta cuatro movimientos distintos entre los legales de la especie, cada
+     * uno con probabilidad proporcional a su peso entre los que aún no se eligieron
+     * (un repetido se vuelve a sortear)
+     * @param random Fuente de aleatoriedad
+     * @param speciesId Especie
+     * @param out Arreglo de al menos GameData.MOVES_PER_POKEMON posiciones
+     * @return Movimientos escritos
+     */
+    public int drawMoveset(RandomSource random, int speciesId, int[] out) {
+        int[] moves = candidates[speciesId];
+        if (moves.length <= GameData.MOVES_PER_POKEMON) {
+            System.arraycopy(moves, 0, out, 0, moves.length);
+            return moves.length;
+        }
+        double[] probability = aliasProbability[speciesId];
+        int[] alternative = alias[speciesId];
+        int count = 0;
+        for (int attempt = 0; attempt < MAX_MOVE_ATTEMPTS && count < GameData.MOVES_PER_POKEMON; attempt++) {
+            double value = random.nextDouble() * moves.length;
+            int slot = (int) value;
+            int move = moves[value - slot < probability[slot] ? slot : alternative[slot]];
+            if (!contains(out, count, move)) {
+                out[count++] = move;
+            }
+        }
+        // Si un peso domina tanto que se agotan los intentos, completar en orden
+        for (int i = 0; i < moves.length && count < GameData.MOVES_PER_POKEMON; i++) {
+            if (!contains(out, count, moves[i])) {
+                out[count++] = moves[i];
+            }
+        }
+        return count;
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ============ POKÉMON ============
+
+    /**
+     * Crea un Pokémon de la especie a su nivel de la lista con un moveset aleatorio
+     * @param random Fuente de aleatoriedad
+     * @param speciesId Especie
+     * @return Pokémon nuevo
+     */
+    public Pokemon createPokemon(RandomSource random, int speciesId) {
+        Pokemon pokemon = new Pokemon(data.getSpecies(speciesId), data.getLevel(speciesId));
+        int[] moves = new int[GameData.MOVES_PER_POKEMON];
+        int count = drawMoveset(random, speciesId, moves);
+        for (int i = 0; i < count; i++) {
+            pokemon.addMove(data.getMove(moves[i]));
+        }
+        return pokemon;
+    }
+
+    /**
+     * @param random Fuente de aleatoriedad
+     * @param species Identificadores de especie ya elegidos
+     * @param size Cuántos usar
+     * @return Equipo con un Pokémon por especie
+     */
+    public List<Pokemon> createTeam(RandomSource random, int[] species, int size) {
+        List<Pokemon> team = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            team.add(createPokemon(random, species[i]));
+        }
+        return team;
+    }
+
+    /**
+     * Copia de la reserva de un hilo y las posiciones intercambiadas en el último sorteo
+     */
+    private static final class Shuffle {
+        private final int[] ids;
+        private final int[] swaps;
+
+        private Shuffle(int[] pool) {
+            this.ids = pool.clone();
+            this.swaps = new int[pool.length];
+        }
+    }
+}
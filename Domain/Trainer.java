@@ -15,8 +15,8 @@ public class Trainer extends Character {
     public void makeDecision(Battle battle) {
         // Los entrenadores humanos no toman decisiones automáticas
         // Este método se usa cuando necesitamos IA temporal o acciones por defecto
-        System.out.println(name + " está pensando en su próximo movimiento...");
-        System.out.println("Esperando decisión del jugador humano.");
+        events.emit(BattleEventType.MESSAGE, this, "está pensando en su próximo movimiento...");
+        events.emit(BattleEventType.MESSAGE, null, "Esperando decisión del jugador humano.");
     }
 
     @Override
@@ -67,12 +67,11 @@ public class Trainer extends Character {
     }
     
     public void celebrateVictory() {
-        System.out.println("¡" + name + " ha ganado la batalla!");
-        System.out.println("¡Excelente estrategia!");
+        events.emit(BattleEventType.MESSAGE, this, "ha ganado la batalla. ¡Excelente estrategia!");
     }
     
     public void handleDefeat() {
-        System.out.println(name + " ha perdido la batalla.");
-        System.out.println("¡No te rindas, entrena más y vuelve más fuerte!");
+        events.emit(BattleEventType.MESSAGE, this, "ha perdido la batalla.");
+        events.emit(BattleEventType.MESSAGE, null, "¡No te rindas, entrena más y vuelve más fuerte!");
     }
 }
\ No newline at end of file
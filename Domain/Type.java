@@ -1,10 +1,197 @@
 package Domain;
 
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
 public enum Type {
 
     STELL, WATER, BUG, DRAGON, ELECTRIC, GOSHT, FIRE, FAIRY, ICE, FIGHT, NORMAL, GRASS, PSHYCHIC, ROCK, DARK, GROUND, POSION, FLYING;
 
+    /**
+     * Calcula el multiplicador de este tipo atacando a un tipo defensor
+     * @param defenderType Tipo defensor
+     * @return Multiplicador de efectividad (0.0, 0.5, 1.0 o 2.0)
+     */
     public double calculateMultiplier(Type defenderType){
+        if (defenderType == null) {
+            return 1.0;
+        }
+        return TypeChart.SINGLE[ordinal() * COUNT + defenderType.ordinal()];
+    }
+
+    /**
+     * Calcula el multiplicador de este tipo contra un defensor de uno o dos tipos
+     * en una sola lectura de la tabla precalculada
+     * @param primaryType Tipo primario del defensor
+     * @param secondaryType Tipo secundario del defensor (puede ser null)
+     * @return Producto de los multiplicadores contra ambos tipos
+     */
+    public double calculateMultiplier(Type primaryType, Type secondaryType) {
+        if (primaryType == null) {
+            return calculateMultiplier(secondaryType);
+        }
+        int secondary = secondaryType == null ? COUNT : secondaryType.ordinal();
+        return TypeChart.DUAL[(ordinal() * COUNT + primaryType.ordinal()) * (COUNT + 1) + secondary];
+    }
+
+    /**
+     * Calcula el multiplicador de este tipo contra un Pokémon
+     * @param defender Pokémon defensor
+     * @return Multiplicador combinado de sus tipos
+     */
+    public double calculateMultiplier(Pokemon defender) {
+        return calculateMultiplier(defender.getPrimaryType(), defender.getSecondaryType());
+    }
+
+    /**
+     * Busca un tipo por su nombre, aceptando el nombre legible ("steel", "Psychic")
+     * o el nombre de la constante ("STELL")
+     * @param name Nombre del tipo
+     * @return El tipo correspondiente o null si está vacío o no se reconoce
+     */
+    public static Type fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String trimmed = name.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        for (Type type : VALUES) {
+            if (type.getFormattedName().equalsIgnoreCase(trimmed) || type.name().equalsIgnoreCase(trimmed)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static final Type[] VALUES = values();
+    static final int COUNT = VALUES.length;
+
+    /**
+     * Tabla de efectividad inmutable indexada por ordinal. Se toma del paquete
+     * de datos si está al día, o se carga desde resources/typechart.txt para poder
+     * corregirla sin recompilar; si el archivo no existe o está mal formado se
+     * usa la tabla compilada.
+     */
+    private static final class TypeChart {
+        private static final String CHART_RESOURCE = "/resources/typechart.txt";
+        private static final String CHART_FILE = "resources/typechart.txt";
+
+        // [atacante * COUNT + defensor]
+        static final double[] SINGLE = load();
+        // [(atacante * COUNT + primario) * (COUNT + 1) + secundario], secundario == COUNT si no tiene
+        static final double[] DUAL = buildDual(SINGLE);
+
+        private static double[] load() {
+            double[] packed = GameDataPack.readDefaultTypeChart();
+            if (packed != null) {
+                return packed;
+            }
+            try (BufferedReader reader = open()) {
+                if (reader != null) {
+                    return parse(reader);
+                }
+                System.err.println("Tabla de tipos no encontrada, usando la tabla por defecto: " + CHART_FILE);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Error cargando la tabla de tipos, usando la tabla por defecto: " + e.getMessage());
+            }
+            return builtIn();
+        }
+
+        private static BufferedReader open() throws IOException {
+            URL resource = Type.class.getResource(CHART_RESOURCE);
+            if (resource != null) {
+                return new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8));
+            }
+            File file = new File(CHART_FILE);
+            if (file.exists()) {
+                return new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+            }
+            return null;
+        }
+
+        private static double[] parse(BufferedReader reader) throws IOException {
+            double[] chart = new double[COUNT * COUNT];
+            boolean[] seen = new boolean[COUNT];
+            Type[] columns = null;
+            String line;
+            int lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String[] cells = trimmed.split("\\s+");
+                if (columns == null) {
+                    columns = parseHeader(cells, lineNumber);
+                    continue;
+                }
+                Type attacker = fromName(cells[0]);
+                if (attacker == null || cells.length != COUNT + 1) {
+                    throw new IllegalArgumentException("fila inválida en la línea " + lineNumber);
+                }
+                for (int i = 0; i < COUNT; i++) {
+                    chart[attacker.ordinal() * COUNT + columns[i].ordinal()] = Double.parseDouble(cells[i + 1]);
+                }
+                seen[attacker.ordinal()] = true;
+            }
+
+            for (Type type : VALUES) {
+                if (!seen[type.ordinal()]) {
+                    throw new IllegalArgumentException("falta la fila de " + type.getFormattedName());
+                }
+            }
+            return chart;
+        }
+
+        private static Type[] parseHeader(String[] cells, int lineNumber) {
+            if (cells.length != COUNT) {
+                throw new IllegalArgumentException("encabezado inválido en la línea " + lineNumber);
+            }
+            Type[] columns = new Type[COUNT];
+            for (int i = 0; i < COUNT; i++) {
+                columns[i] = fromName(cells[i]);
+                if (columns[i] == null) {
+                    throw new IllegalArgumentException("tipo desconocido '" + cells[i] + "' en la línea " + lineNumber);
+                }
+            }
+            return columns;
+        }
+
+        private static double[] builtIn() {
+            double[] chart = new double[COUNT * COUNT];
+            for (Type attacker : VALUES) {
+                for (Type defender : VALUES) {
+                    chart[attacker.ordinal() * COUNT + defender.ordinal()] = attacker.builtInMultiplier(defender);
+                }
+            }
+            return chart;
+        }
+
+        private static double[] buildDual(double[] single) {
+            double[] dual = new double[COUNT * COUNT * (COUNT + 1)];
+            for (int attacker = 0; attacker < COUNT; attacker++) {
+                for (int primary = 0; primary < COUNT; primary++) {
+                    double first = single[attacker * COUNT + primary];
+                    int base = (attacker * COUNT + primary) * (COUNT + 1);
+                    for (int secondary = 0; secondary < COUNT; secondary++) {
+                        dual[base + secondary] = first * single[attacker * COUNT + secondary];
+                    }
+                    dual[base + COUNT] = first;
+                }
+            }
+            return dual;
+        }
+    }
+
+    /**
+     * Tabla de tipos compilada, usada solo si no se puede leer resources/typechart.txt
+     */
+    private double builtInMultiplier(Type defenderType){
         switch (this) {
             case STELL:
                 if(defenderType == FAIRY || defenderType == ICE || defenderType == ROCK) return 2.0;
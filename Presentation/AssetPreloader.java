@@ -0,0 +1,175 @@
+package Presentation;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.swing.SwingUtilities;
+
+/**
+ * Carga de recursos en segundo plano mientras se muestra la introducción.
+ * Las tareas se ejecutan en un grupo acotado de hilos, primero las de menor
+ * prioridad (lo que necesita la próxima pantalla) y, a igual prioridad, en el
+ * orden en que se pidieron. Todo lo cargado queda en ImageCache, así que los
+ * paneles lo encuentran sin tocar el disco.
+ *
+ * El progreso se avisa en el hilo de eventos de Swing.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class AssetPreloader {
+    // Prioridades, de la más urgente a la que puede esperar
+    public static final int NEXT_SCREEN = 0;    // Lo siguiente que se verá (segunda parte de la introducción)
+    public static final int MENU = 1;           // Menú principal
+    public static final int MENU_TARGETS = 2;   // Pantallas a las que se llega desde el menú
+    public static final int BACKGROUND = 3;     // Sprites y datos que se usan más adelante
+
+    private static final int MAX_THREADS = 4;
+
+    /**
+     * Aviso de progreso; se llama en el hilo de eventos de Swing
+     */
+    public interface Listener {
+        /**
+         * @param completed Tareas terminadas (con o sin éxito)
+         * @param total Tareas pedidas hasta ahora
+         */
+        void progress(int completed, int total);
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final Listener listener;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+
+    /**
+     * @param threads Hilos de carga (como mucho)
+     * @param listener Quién recibe el progreso (puede ser null)
+     */
+    public AssetPreloader(int threads, Listener listener) {
+        this.listener = listener;
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = work -> {
+            Thread thread = new Thread(work, "POOBkemon-assets-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1); // No competir con el hilo de eventos
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(threads, threads, 5, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(), factory);
+        this.executor.allowCoreThreadTimeOut(true); // Sin trabajo, los hilos terminan solos
+    }
+
+    /**
+     * @return Hilos adecuados para esta máquina: deja un procesador al hilo de eventos
+     */
+    public static int defaultThreads() {
+        return Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    // ============ TAREAS ============
+
+    /**
+     * Decodifica una imagen
+     */
+    public void image(int priority, String path) {
+        task(priority, () -> ImageCache.shared().getImage(path));
+    }
+
+    /**
+     * Decodifica una imagen y la deja escalada a un tamaño
+     */
+    public void scaled(int priority, String path, int width, int height, ImageScaler.Filter filter) {
+        task(priority, () -> ImageCache.shared().getScaled(path, width, height, filter));
+    }
+
+    /**
+     * Decodifica los cuadros de un GIF animado de fondo (GifBackground)
+     */
+    public void animation(int priority, String path) {
+        task(priority, () -> ImageCache.shared().getAnimation(path));
+    }
+
+    /**
+     * Decodifica un GIF en el atlas de cuadros de un sprite
+     */
+    public void sprite(int priority, String path) {
+        task(priority, () -> ImageCache.shared().getSprite(path));
+    }
+
+    /**
+     * Cualquier otro trabajo de carga (que no toque componentes de Swing)
+     */
+    public void task(int priority, Runnable work) {
+        total.incrementAndGet();
+        executor.execute(new Task(priority, sequence.getAndIncrement(), work));
+    }
+
+    // ============ ESTADO ============
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public int getTotal() {
+        return total.get();
+    }
+
+    public boolean isDone() {
+        return completed.get() == total.get();
+    }
+
+    /**
+     * Descarta lo que aún no empezó y deja terminar lo que está en curso
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void finished() {
+        completed.incrementAndGet();
+        if (listener != null) {
+            // Se leen los contadores al avisar: mientras el hilo de eventos sigue pidiendo tareas, no hay aviso de final
+            SwingUtilities.invokeLater(() -> listener.progress(completed.get(), total.get()));
+        }
+    }
+
+    /**
+     * Tarea ordenada por prioridad y, a igual prioridad, por orden de llegada
+     */
+    private final class Task implements Runnable, Comparable<Task> {
+        private final int priority;
+        private final long order;
+        private final Runnable work;
+
+        private Task(int priority, long order, Runnable work) {
+            this.priority = priority;
+            this.order = order;
+            this.work = work;
+        }
+
+        @Override
+        public void run() {
+            try {
+                work.run();
+            } catch (RuntimeException e) {
+                System.err.println("Error precargando recursos: " + e);
+            } finally {
+                finished();
+            }
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            if (priority != other.priority) {
+                return Integer.compare(priority, other.priority);
+            }
+            return Long.compare(order, other.order);
+        }
+    }
+}
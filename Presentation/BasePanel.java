@@ -2,15 +2,9 @@ package Presentation;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
-import javax.imageio.ImageIO;
-import javax.imageio.ImageReader;
-import javax.imageio.stream.ImageInputStream;
 import javax.swing.*;
 
 /**
@@ -20,6 +14,8 @@ import javax.swing.*;
 public abstract class BasePanel extends JPanel {
     
     protected Dimension currentSize;
+    private Dimension settledSize; // Último tamaño ajustado del todo (con imágenes reescaladas)
+    private boolean resizing;      // La ventana se está arrastrando: solo estiramientos baratos
     private static Font gameFont;
     private static final String FONT_PATH = "/Resources/TextResources/PressStart2P.ttf";
     private static final float DEFAULT_FONT_SIZE = 12f;
@@ -80,6 +76,24 @@ public abstract class BasePanel extends JPanel {
         return getGameFont(DEFAULT_FONT_SIZE);
     }
     
+    /**
+     * Dibuja los caracteres comunes con la fuente del juego a varios tamaños, para
+     * que el primer texto de cada pantalla no tenga que rasterizarlos
+     * @param sizes Tamaños que usan los paneles
+     */
+    static void warmGameFont(float... sizes) {
+        BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scratch.createGraphics();
+        try {
+            for (float size : sizes) {
+                g.setFont(getGameFont(size));
+                g.drawString("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789.,:!?%-/", 0, 0);
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+    
     /**
      * Configura la fuente del juego para un componente
      * @param component El componente al que se le aplicará la fuente
@@ -104,12 +118,40 @@ public abstract class BasePanel extends JPanel {
     protected abstract void initializeComponents();
     
     /**
-     * Método llamado cuando la ventana cambia de tamaño
+     * Método llamado cuando la ventana terminó de cambiar de tamaño: ajusta los
+     * componentes y reescala las imágenes desde el original una sola vez.
+     * Si el panel ya estaba ajustado a ese tamaño no hace nada.
      * @param newSize El nuevo tamaño de la ventana
      */
     public void onResize(Dimension newSize) {
+        if (!resizing && newSize.equals(settledSize) && newSize.equals(currentSize)) {
+            return;
+        }
+        this.resizing = false;
+        this.currentSize = newSize;
+        this.settledSize = new Dimension(newSize);
+        adjustComponentsToSize();
+        repaint();
+    }
+    
+    /**
+     * Método llamado mientras se arrastra el borde de la ventana. Recoloca los
+     * componentes, pero las subclases no deben reescalar imágenes: durante el
+     * arrastre se estiran las del último tamaño ajustado (ver isResizing)
+     * @param newSize El tamaño de la ventana en este momento
+     */
+    public void onResizing(Dimension newSize) {
+        this.resizing = true;
         this.currentSize = newSize;
         adjustComponentsToSize();
+        repaint();
+    }
+    
+    /**
+     * @return true mientras la ventana se arrastra y aún no se ha llamado a onResize
+     */
+    protected boolean isResizing() {
+        return resizing;
     }
     
     /**
@@ -120,50 +162,48 @@ public abstract class BasePanel extends JPanel {
     }
     
     /**
-     * Carga una imagen desde la ruta especificada
+     * Carga una imagen desde la ruta especificada; solo la primera vez se lee
+     * del disco, después sale de la caché compartida (no debe modificarse)
      * @param path La ruta de la imagen
      * @return La imagen cargada o null si hay error
      */
     protected Image loadImage(String path) {
-        try {
-            URL resource = getClass().getResource(path);
-            if (resource != null) {
-                return ImageIO.read(resource);
-            } else {
-                File file = new File(path);
-                if (file.exists()) {
-                    return ImageIO.read(file);
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error cargando imagen: " + path);
-            e.printStackTrace();
-        }
-        return null;
+        return ImageCache.shared().getImage(path);
     }
     
     /**
-     * Escala una imagen a las dimensiones especificadas
-     * @param image La imagen a escalar
+     * Escala una imagen a las dimensiones especificadas, en el formato de la pantalla
+     * @param image La imagen a escalar (ya cargada)
      * @param width El ancho deseado
      * @param height La altura deseada
      * @return La imagen escalada
      */
     protected Image scaleImage(Image image, int width, int height) {
         if (image == null) return null;
-        return image.getScaledInstance(width, height, Image.SCALE_SMOOTH);
+        return ImageScaler.scale(image, width, height, ImageScaler.Filter.SMOOTH);
     }
     
     /**
-     * Carga y escala una imagen en un solo paso
+     * Carga y escala una imagen en un solo paso; cada tamaño se escala una vez
+     * y queda en la caché compartida
      * @param path La ruta de la imagen
      * @param width El ancho deseado
      * @param height La altura deseada
      * @return La imagen cargada y escalada
      */
     protected Image loadAndScaleImage(String path, int width, int height) {
-        Image image = loadImage(path);
-        return scaleImage(image, width, height);
+        return ImageCache.shared().getScaled(path, width, height);
+    }
+    
+    /**
+     * Carga y escala un sprite de pixel art (vecino más cercano, sin difuminar)
+     * @param path La ruta del sprite
+     * @param width El ancho deseado
+     * @param height La altura deseada
+     * @return El sprite escalado
+     */
+    protected Image loadAndScaleSprite(String path, int width, int height) {
+        return ImageCache.shared().getScaled(path, width, height, ImageScaler.Filter.PIXEL_ART);
     }
     
     /**
@@ -197,64 +237,33 @@ public abstract class BasePanel extends JPanel {
      * @return El JLabel creado con el GIF
      */
     protected JLabel createGifLabel(String gifPath, int x, int y, int width, int height) {
-        JLabel label = new JLabel();
+        // El GIF se decodifica una vez en un atlas y lo anima el reloj compartido (SpriteClock)
+        SpriteLabel label = new SpriteLabel(gifPath);
         label.setBounds(x, y, width, height);
         
-        try {
-            URL resource = getClass().getResource(gifPath);
-            ImageIcon gifIcon;
-            
-            if (resource != null) {
-                gifIcon = new ImageIcon(resource);
-            } else {
-                gifIcon = new ImageIcon(gifPath);
-            }
-            
-            // Escalar el GIF si es necesario
-            if (gifIcon.getIconWidth() != width || gifIcon.getIconHeight() != height) {
-                Image scaledImage = gifIcon.getImage().getScaledInstance(width, height, Image.SCALE_DEFAULT);
-                gifIcon = new ImageIcon(scaledImage);
-            }
-            
-            label.setIcon(gifIcon);
-        } catch (Exception e) {
+        if (!label.hasSprite()) {
             System.err.println("Error cargando GIF: " + gifPath);
-            e.printStackTrace();
         }
         
         return label;
     }
     
     /**
-     * Carga todos los frames de un GIF como imágenes separadas
+     * Carga todos los frames de un GIF como imágenes separadas, ya compuestos
+     * (posición y método de eliminación de cada frame aplicados)
      * @param gifPath La ruta del GIF
-     * @return Lista de imágenes representando cada frame
+     * @return Lista de imágenes representando cada frame (no deben modificarse)
      */
     protected List<BufferedImage> loadGifFrames(String gifPath) {
         List<BufferedImage> frames = new ArrayList<>();
         
-        try {
-            ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
-            URL resource = getClass().getResource(gifPath);
-            ImageInputStream stream;
-            
-            if (resource != null) {
-                stream = ImageIO.createImageInputStream(resource.openStream());
-            } else {
-                stream = ImageIO.createImageInputStream(new File(gifPath));
-            }
-            
-            reader.setInput(stream);
-            
-            int numFrames = reader.getNumImages(true);
-            for (int i = 0; i < numFrames; i++) {
-                frames.add(reader.read(i));
-            }
-            
-            stream.close();
-        } catch (IOException e) {
+        GifSprite sprite = ImageCache.shared().getSprite(gifPath);
+        if (sprite == null) {
             System.err.println("Error cargando frames del GIF: " + gifPath);
-            e.printStackTrace();
+            return frames;
+        }
+        for (int i = 0; i < sprite.getFrameCount(); i++) {
+            frames.add(sprite.getFrame(i));
         }
         
         return frames;
@@ -269,9 +278,18 @@ public abstract class BasePanel extends JPanel {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                Image image = loadImage(imagePath);
-                if (image != null && currentSize != null) {
-                    g.drawImage(image, 0, 0, currentSize.width, currentSize.height, this);
+                if (resizing && settledSize != null) {
+                    // Durante el arrastre se estira la del último tamaño; escalar a cada tamaño intermedio llenaría la caché
+                    Image image = loadAndScaleImage(imagePath, settledSize.width, settledSize.height);
+                    if (image != null) {
+                        g.drawImage(image, 0, 0, getWidth(), getHeight(), this);
+                    }
+                } else if (currentSize != null) {
+                    // Ya escalada al tamaño del panel: repintar no lee el disco ni escala
+                    Image image = loadAndScaleImage(imagePath, currentSize.width, currentSize.height);
+                    if (image != null) {
+                        g.drawImage(image, 0, 0, this);
+                    }
                 }
             }
         };
@@ -14,6 +14,8 @@ public class CharacterSelection extends BasePanel {
     private static final String MALE_CHARACTER_PATH = "/Resources/Characters/maleTrainer.png";
     private static final String FEMALE_CHARACTER_PATH = "/Resources/Characters/femaleTrainer.png";
     private static final String SELECTION_ARROW_PATH = "/Resources/UI/selectionArrow.png";
+    private static final int PORTRAIT_WIDTH = 120;
+    private static final int PORTRAIT_HEIGHT = 160;
     
     private JLabel backgroundLabel;
     private JLabel titleLabel;
@@ -26,6 +28,18 @@ public class CharacterSelection extends BasePanel {
     
     private boolean isMaleSelected = true;
     
+    /**
+     * Pide a la precarga el fondo y los retratos, a los tamaños con que se usan
+     * @param preloader Precarga de la introducción
+     */
+    static void preloadAssets(AssetPreloader preloader) {
+        preloader.image(AssetPreloader.MENU_TARGETS, BACKGROUND_PATH);
+        preloader.scaled(AssetPreloader.MENU_TARGETS, MALE_CHARACTER_PATH, PORTRAIT_WIDTH, PORTRAIT_HEIGHT,
+            ImageScaler.Filter.PIXEL_ART);
+        preloader.scaled(AssetPreloader.MENU_TARGETS, FEMALE_CHARACTER_PATH, PORTRAIT_WIDTH, PORTRAIT_HEIGHT,
+            ImageScaler.Filter.PIXEL_ART);
+    }
+    
     /**
      * Constructor
      */
@@ -97,9 +111,8 @@ public class CharacterSelection extends BasePanel {
         // Personaje masculino
         maleCharacterLabel = new JLabel();
         try {
-            Image maleImage = loadImage(MALE_CHARACTER_PATH);
-            if (maleImage != null) {
-                Image scaled = maleImage.getScaledInstance(120, 160, Image.SCALE_SMOOTH);
+            Image scaled = loadAndScaleSprite(MALE_CHARACTER_PATH, PORTRAIT_WIDTH, PORTRAIT_HEIGHT);
+            if (scaled != null) {
                 maleCharacterLabel.setIcon(new ImageIcon(scaled));
             } else {
                 maleCharacterLabel.setText("MALE");
@@ -122,9 +135,8 @@ public class CharacterSelection extends BasePanel {
         // Personaje femenino
         femaleCharacterLabel = new JLabel();
         try {
-            Image femaleImage = loadImage(FEMALE_CHARACTER_PATH);
-            if (femaleImage != null) {
-                Image scaled = femaleImage.getScaledInstance(120, 160, Image.SCALE_SMOOTH);
+            Image scaled = loadAndScaleSprite(FEMALE_CHARACTER_PATH, PORTRAIT_WIDTH, PORTRAIT_HEIGHT);
+            if (scaled != null) {
                 femaleCharacterLabel.setIcon(new ImageIcon(scaled));
             } else {
                 femaleCharacterLabel.setText("FEMALE");
@@ -243,15 +255,19 @@ public class CharacterSelection extends BasePanel {
             return;
         }
         
-        // TODO: Guardar la selección del jugador y nombre
         System.out.println("Player selected: " + (isMaleSelected ? "Male" : "Female"));
         System.out.println("Player name: " + playerName);
         
+        // La partida queda en la ventana principal, que es la que guarda el menú File
+        boolean started = POOBKemonEmeraldGUI.getInstance().startNewGame(playerName);
+        
         // TODO: Navegar al juego principal
         // POOBKemonEmeraldGUI.getInstance().switchToPanel("GAME_WORLD");
         
         JOptionPane.showMessageDialog(this,
-            "Welcome " + playerName + "!\nGame will start soon...",
+            "Welcome " + playerName + "!\n" + (started
+                ? "Your survival battle is ready. Use File > Save Game to save it."
+                : "Game will start soon..."),
             "Welcome",
             JOptionPane.INFORMATION_MESSAGE);
     }
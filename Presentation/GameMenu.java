@@ -19,12 +19,39 @@ public class GameMenu extends BasePanel {
     private static final String RETURN_BUTTON_PATH = "/Resources/Buttoms/botonInicio.png";
     private static final String RETURN_BUTTON_HOVER_PATH = "/Resources/Buttoms/botonInicio.png";
     
-    private JLabel backgroundLabel;
+    private static final int TITLE_WIDTH = 700; // Ancho del logotipo; el alto mantiene la proporción
+    private static final int BUTTON_WIDTH = 250;
+    private static final int BUTTON_HEIGHT = 60;
+    
+    private GifBackground backgroundLabel;
     private JLabel titleLabel;
     private JButton startButton;
     private JButton optionsButton;
     private JButton returnButton;
     
+    /**
+     * Pide a la precarga los recursos del menú, a los tamaños con que se usan
+     * @param preloader Precarga de la introducción
+     */
+    static void preloadAssets(AssetPreloader preloader) {
+        preloader.animation(AssetPreloader.MENU, BACKGROUND_GIF_PATH);
+        preloader.task(AssetPreloader.MENU, () -> {
+            Image title = ImageCache.shared().getImage(TITLE_PNG_PATH);
+            if (title != null) {
+                ImageCache.shared().getScaled(TITLE_PNG_PATH, TITLE_WIDTH,
+                    titleHeight(title.getWidth(null), title.getHeight(null)));
+            }
+        });
+        for (String path : new String[] { START_BUTTON_PATH, START_BUTTON_HOVER_PATH, OPTIONS_BUTTON_PATH,
+                OPTIONS_BUTTON_HOVER_PATH, RETURN_BUTTON_PATH, RETURN_BUTTON_HOVER_PATH }) {
+            preloader.scaled(AssetPreloader.MENU, path, BUTTON_WIDTH, BUTTON_HEIGHT, ImageScaler.Filter.SMOOTH);
+        }
+    }
+    
+    private static int titleHeight(int originalWidth, int originalHeight) {
+        return (int) ((double) originalHeight / originalWidth * TITLE_WIDTH);
+    }
+    
     /**
      * Constructor de GameMenu
      */
@@ -64,13 +91,11 @@ public class GameMenu extends BasePanel {
      * Crea el fondo animado del menú
      */
     private void createBackground() {
-        backgroundLabel = new JLabel();
+        // Se estira al tamaño de la ventana; los cuadros salen de la caché
+        backgroundLabel = new GifBackground(BACKGROUND_GIF_PATH);
         
-        try {
-            ImageIcon backgroundGif = new ImageIcon(getClass().getResource(BACKGROUND_GIF_PATH));
-            backgroundLabel.setIcon(backgroundGif);
-        } catch (Exception e) {
-            System.err.println("Error loading background GIF: " + e.getMessage());
+        if (!backgroundLabel.hasAnimation()) {
+            System.err.println("Error loading background GIF: " + BACKGROUND_GIF_PATH);
             // Fondo sólido como fallback
             backgroundLabel.setOpaque(true);
             backgroundLabel.setBackground(new Color(30, 30, 40));
@@ -91,10 +116,10 @@ public class GameMenu extends BasePanel {
                 // Escalar la imagen manteniendo la proporción
                 int originalWidth = titleImage.getWidth(null);
                 int originalHeight = titleImage.getHeight(null);
-                int newWidth = 700; // Ancho deseado más grande
-                int newHeight = (int) ((double) originalHeight / originalWidth * newWidth);
+                int newWidth = TITLE_WIDTH; // Ancho deseado más grande
+                int newHeight = titleHeight(originalWidth, originalHeight);
                 
-                Image scaledImage = titleImage.getScaledInstance(newWidth, newHeight, Image.SCALE_SMOOTH);
+                Image scaledImage = loadAndScaleImage(TITLE_PNG_PATH, newWidth, newHeight);
                 titleLabel.setIcon(new ImageIcon(scaledImage));
                 System.out.println("Title image loaded successfully");
             } else {
@@ -175,11 +200,11 @@ public class GameMenu extends BasePanel {
             
             if (normalImage != null) {
                 // Tamaño estándar para los botones
-                int buttonWidth = 250;
-                int buttonHeight = 60;
+                int buttonWidth = BUTTON_WIDTH;
+                int buttonHeight = BUTTON_HEIGHT;
                 
                 // Escalar imágenes
-                Image scaledNormal = normalImage.getScaledInstance(buttonWidth, buttonHeight, Image.SCALE_SMOOTH);
+                Image scaledNormal = loadAndScaleImage(normalPath, buttonWidth, buttonHeight);
                 ImageIcon normalIcon = new ImageIcon(scaledNormal);
                 
                 button.setIcon(normalIcon);
@@ -193,7 +218,7 @@ public class GameMenu extends BasePanel {
                 
                 // Añadir efecto hover si existe la imagen hover
                 if (hoverImage != null && !normalPath.equals(hoverPath)) {
-                    Image scaledHover = hoverImage.getScaledInstance(buttonWidth, buttonHeight, Image.SCALE_SMOOTH);
+                    Image scaledHover = loadAndScaleImage(hoverPath, buttonWidth, buttonHeight);
                     ImageIcon hoverIcon = new ImageIcon(scaledHover);
                     
                     button.addMouseListener(new MouseAdapter() {
@@ -262,15 +287,8 @@ public class GameMenu extends BasePanel {
         
         // Ajustar fondo
         if (backgroundLabel != null) {
+            // El GIF se vuelve a escalar desde el original al pintarse al nuevo tamaño
             backgroundLabel.setBounds(0, 0, currentSize.width, currentSize.height);
-            
-            // Reescalar el GIF del fondo si es necesario
-            if (backgroundLabel.getIcon() instanceof ImageIcon) {
-                ImageIcon icon = (ImageIcon) backgroundLabel.getIcon();
-                Image img = icon.getImage();
-                Image scaledImg = img.getScaledInstance(currentSize.width, currentSize.height, Image.SCALE_DEFAULT);
-                backgroundLabel.setIcon(new ImageIcon(scaledImg));
-            }
         }
         
         // Ajustar título (centrado en la parte superior)
@@ -283,8 +301,8 @@ public class GameMenu extends BasePanel {
         }
         
         // Ajustar botones debajo del título
-        int buttonWidth = 250;
-        int buttonHeight = 60;
+        int buttonWidth = BUTTON_WIDTH;
+        int buttonHeight = BUTTON_HEIGHT;
         int buttonX = (currentSize.width - buttonWidth) / 2;
         int buttonSpacing = 80; // Espacio entre botones
         
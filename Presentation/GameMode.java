@@ -316,8 +316,8 @@ public class GameMode extends BasePanel {
      */
     private void selectBattleType(String battleType) {
         selectedBattleType = battleType;
+        POOBKemonEmeraldGUI.getInstance().setSelectedMode(selectedMode);
         
-        // TODO: Guardar la configuración de batalla
         System.out.println("Selected Mode: " + selectedMode);
         System.out.println("Selected Battle Type: " + battleType);
         
@@ -330,8 +330,8 @@ public class GameMode extends BasePanel {
      */
     private void startSurvivalMode() {
         selectedBattleType = "PVP"; // Supervivencia siempre es PVP
+        POOBKemonEmeraldGUI.getInstance().setSelectedMode(selectedMode);
         
-        // TODO: Guardar la configuración de batalla
         System.out.println("Selected Mode: " + selectedMode);
         System.out.println("Selected Battle Type: " + selectedBattleType);
         
@@ -13,11 +13,33 @@ public class GamePresentation extends BasePanel {
     private static final String FIRST_GIF_PATH = "/Resources/MainFonds/intro.gif";
     private static final String SECOND_GIF_PATH = "/Resources/MainFonds/introR.gif";
     
-    private JLabel gifLabel;
+    private GifBackground gifLabel;
+    private JLabel loadingLabel; // Progreso de la precarga, mientras dura
     private Timer transitionTimer;
     private boolean canSkip = false;
     private boolean isShowingSecondGif = false;
     
+    /**
+     * Pide a la precarga la segunda parte de la introducción (lo primero que se verá)
+     * @param preloader Precarga de la introducción
+     */
+    static void preloadAssets(AssetPreloader preloader) {
+        preloader.animation(AssetPreloader.NEXT_SCREEN, SECOND_GIF_PATH);
+    }
+    
+    /**
+     * Muestra el progreso de la precarga; al terminar, el indicador desaparece
+     * @param completed Tareas terminadas
+     * @param total Tareas pedidas
+     */
+    public void showLoadingProgress(int completed, int total) {
+        if (completed >= total) {
+            loadingLabel.setText(" ");
+        } else {
+            loadingLabel.setText("Loading " + (completed * 100 / Math.max(total, 1)) + "%");
+        }
+    }
+    
     /**
      * Constructor de GamePresentation
      */
@@ -34,7 +56,7 @@ public class GamePresentation extends BasePanel {
         setBackground(Color.BLACK);
         
         // Crear el label para los GIFs centrado
-        gifLabel = new JLabel();
+        gifLabel = new GifBackground();
         gifLabel.setHorizontalAlignment(JLabel.CENTER);
         gifLabel.setVerticalAlignment(JLabel.CENTER);
         
@@ -43,6 +65,14 @@ public class GamePresentation extends BasePanel {
         
         add(gifLabel, BorderLayout.CENTER);
         
+        // Progreso de la precarga de recursos, discreto debajo de la introducción
+        loadingLabel = new JLabel(" ");
+        loadingLabel.setHorizontalAlignment(JLabel.RIGHT);
+        loadingLabel.setForeground(Color.GRAY);
+        loadingLabel.setBorder(BorderFactory.createEmptyBorder(4, 4, 4, 12));
+        setGameFont(loadingLabel, 8f);
+        add(loadingLabel, BorderLayout.SOUTH);
+        
         // Iniciar el timer para la transición automática
         startTransitionTimer();
     }
@@ -52,9 +82,6 @@ public class GamePresentation extends BasePanel {
      */
     private void showFirstGif() {
         try {
-            // Obtener el tamaño de la ventana
-            Dimension windowSize = POOBKemonEmeraldGUI.getInstance().getWindowSize();
-            
             // Debug: verificar si el recurso existe
             java.net.URL resourceURL = getClass().getResource(FIRST_GIF_PATH);
             if (resourceURL == null) {
@@ -71,23 +98,16 @@ public class GamePresentation extends BasePanel {
                 }
             }
             
-            ImageIcon gifIcon;
-            if (resourceURL != null) {
-                System.out.println("Loading GIF from: " + resourceURL);
-                gifIcon = new ImageIcon(resourceURL);
-            } else {
+            if (resourceURL == null) {
                 throw new Exception("Could not find GIF resource");
             }
+            System.out.println("Loading GIF from: " + resourceURL);
             
-            // Escalar el GIF si es necesario
-            Image scaledImage = gifIcon.getImage().getScaledInstance(
-                windowSize.width, 
-                windowSize.height, 
-                Image.SCALE_DEFAULT
-            );
-            gifIcon = new ImageIcon(scaledImage);
-            
-            gifLabel.setIcon(gifIcon);
+            // Se estira al tamaño de la etiqueta; los cuadros salen de la caché
+            gifLabel.setAnimation(FIRST_GIF_PATH);
+            if (!gifLabel.hasAnimation()) {
+                throw new Exception("Could not load GIF resource");
+            }
             
         } catch (Exception e) {
             System.err.println("Error loading first GIF: " + e.getMessage());
@@ -107,21 +127,11 @@ public class GamePresentation extends BasePanel {
             isShowingSecondGif = true;
             canSkip = true; // Permitir skip cuando se muestra el segundo GIF
             
-            // Obtener el tamaño de la ventana
-            Dimension windowSize = POOBKemonEmeraldGUI.getInstance().getWindowSize();
-            
-            // Cargar el segundo GIF
-            ImageIcon gifIcon = new ImageIcon(getClass().getResource(SECOND_GIF_PATH));
-            
-            // Escalar el GIF si es necesario
-            Image scaledImage = gifIcon.getImage().getScaledInstance(
-                windowSize.width, 
-                windowSize.height, 
-                Image.SCALE_DEFAULT
-            );
-            gifIcon = new ImageIcon(scaledImage);
-            
-            gifLabel.setIcon(gifIcon);
+            // Cargar el segundo GIF (ya decodificado por la precarga)
+            gifLabel.setAnimation(SECOND_GIF_PATH);
+            if (!gifLabel.hasAnimation()) {
+                throw new Exception("Could not find GIF resource");
+            }
             
         } catch (Exception e) {
             System.err.println("Error loading second GIF: " + e.getMessage());
@@ -210,17 +220,4 @@ public class GamePresentation extends BasePanel {
             requestFocusInWindow();
         });
     }
-    
-    @Override
-    protected void adjustComponentsToSize() {
-        // Si necesitas ajustar algo cuando cambie el tamaño de la ventana
-        if (gifLabel != null && gifLabel.getIcon() != null) {
-            // Reescalar los GIFs si es necesario
-            if (isShowingSecondGif) {
-                showSecondGif();
-            } else {
-                showFirstGif();
-            }
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,313 @@
+package Presentation;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * GIF animado decodificado una sola vez, con los cuadros tal como vienen en el
+ * archivo: cada uno con su posición, su método de eliminación y su retardo,
+ * sin componer. Los cuadros quedan en el formato indexado del GIF (un byte por
+ * píxel) y a menudo solo cubren la zona que cambia, así que ocupa mucho menos
+ * que todos los cuadros ya compuestos. GifSprite los compone en un atlas; los
+ * fondos grandes (GifBackground) los componen de uno en uno con un Canvas.
+ *
+ * Es inmutable, así que puede compartirse y guardarse en ImageCache.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class GifAnimation {
+    private static final int DEFAULT_DELAY = 100; // ms; los navegadores usan esto para retardos de 0 o 10 ms
+    private static final int MIN_DELAY = 20;
+
+    // Métodos de eliminación de la especificación GIF89a
+    private static final int DISPOSE_NONE = 0;
+    private static final int DISPOSE_BACKGROUND = 1;
+    private static final int DISPOSE_PREVIOUS = 2;
+
+    private final BufferedImage[] frames;
+    private final int[] frameX;
+    private final int[] frameY;
+    private final int[] disposals;
+    private final int[] frameEnds; // Milisegundos desde el inicio del ciclo hasta el fin de cada cuadro
+    private final int width;
+    private final int height;
+
+    private GifAnimation(BufferedImage[] frames, int[] frameX, int[] frameY, int[] disposals, int[] frameEnds,
+            int width, int height) {
+        this.frames = frames;
+        this.frameX = frameX;
+        this.frameY = frameY;
+        this.disposals = disposals;
+        this.frameEnds = frameEnds;
+        this.width = width;
+        this.height = height;
+    }
+
+    // ============ DECODIFICACIÓN ============
+
+    /**
+     * Decodifica todos los cuadros de un GIF
+     * @param input Contenido del GIF (se lee completo, no se cierra)
+     * @return Animación con los cuadros y los tiempos
+     * @throws IOException Si no se puede leer o no es un GIF
+     */
+    public static GifAnimation decode(InputStream input) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
+        if (!readers.hasNext()) {
+            throw new IOException("No hay lector de GIF disponible");
+        }
+        ImageReader reader = readers.next();
+        try (ImageInputStream stream = ImageIO.createImageInputStream(input)) {
+            reader.setInput(stream, false);
+            List<BufferedImage> raw = new ArrayList<>();
+            List<int[]> frameInfo = new ArrayList<>(); // x, y, eliminación, retardo
+            int width = 0;
+            int height = 0;
+            IIOMetadataNode screen = child(reader.getStreamMetadata(), "javax_imageio_gif_stream_1.0",
+                    "LogicalScreenDescriptor");
+            if (screen != null) {
+                width = intAttribute(screen, "logicalScreenWidth");
+                height = intAttribute(screen, "logicalScreenHeight");
+            }
+            for (int i = 0; ; i++) {
+                BufferedImage frame;
+                try {
+                    frame = reader.read(i);
+                } catch (IndexOutOfBoundsException e) {
+                    break; // No hay más cuadros
+                }
+                String format = "javax_imageio_gif_image_1.0";
+                IIOMetadataNode descriptor = child(reader.getImageMetadata(i), format, "ImageDescriptor");
+                IIOMetadataNode control = child(reader.getImageMetadata(i), format, "GraphicControlExtension");
+                int x = descriptor != null ? intAttribute(descriptor, "imageLeftPosition") : 0;
+                int y = descriptor != null ? intAttribute(descriptor, "imageTopPosition") : 0;
+                int disposal = control != null ? disposalOf(control.getAttribute("disposalMethod")) : DISPOSE_NONE;
+                int delay = control != null ? intAttribute(control, "delayTime") * 10 : 0;
+                raw.add(frame);
+                frameInfo.add(new int[] { x, y, disposal, delay < MIN_DELAY ? DEFAULT_DELAY : delay });
+                // Algunos GIF declaran una pantalla menor que sus cuadros
+                width = Math.max(width, x + frame.getWidth());
+                height = Math.max(height, y + frame.getHeight());
+            }
+            if (raw.isEmpty()) {
+                throw new IOException("El GIF no tiene cuadros");
+            }
+
+            int count = raw.size();
+            int[] frameX = new int[count];
+            int[] frameY = new int[count];
+            int[] disposals = new int[count];
+            int[] frameEnds = new int[count];
+            int time = 0;
+            for (int i = 0; i < count; i++) {
+                int[] info = frameInfo.get(i);
+                frameX[i] = info[0];
+                frameY[i] = info[1];
+                disposals[i] = info[2];
+                time += info[3];
+                frameEnds[i] = time;
+            }
+            return new GifAnimation(raw.toArray(new BufferedImage[0]), frameX, frameY, disposals, frameEnds,
+                    width, height);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private static int disposalOf(String method) {
+        switch (method) {
+            case "restoreToBackgroundColor":
+                return DISPOSE_BACKGROUND;
+            case "restoreToPrevious":
+                return DISPOSE_PREVIOUS;
+            default:
+                return DISPOSE_NONE; // "none" y "doNotDispose" dejan el cuadro
+        }
+    }
+
+    private static IIOMetadataNode child(IIOMetadata metadata, String format, String name) {
+        if (metadata == null) {
+            return null;
+        }
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+        for (int i = 0; i < root.getLength(); i++) {
+            if (root.item(i).getNodeName().equals(name)) {
+                return (IIOMetadataNode) root.item(i);
+            }
+        }
+        return null;
+    }
+
+    private static int intAttribute(IIOMetadataNode node, String name) {
+        String value = node.getAttribute(name);
+        return value == null || value.isEmpty() ? 0 : Integer.parseInt(value);
+    }
+
+    // ============ TIEMPOS ============
+
+    /**
+     * @param elapsedMillis Tiempo desde que empezó la animación
+     * @return Cuadro que se ve en ese instante (la animación se repite)
+     */
+    public int frameAt(long elapsedMillis) {
+        return frameAt(frameEnds, elapsedMillis);
+    }
+
+    static int frameAt(int[] frameEnds, long elapsedMillis) {
+        int duration = frameEnds[frameEnds.length - 1];
+        int time = (int) Math.floorMod(elapsedMillis, (long) duration);
+        int index = Arrays.binarySearch(frameEnds, time);
+        return index >= 0 ? index + 1 : -index - 1; // Un cuadro dura hasta su fin, sin incluirlo
+    }
+
+    /**
+     * @return Fin de cada cuadro en milisegundos (no debe modificarse)
+     */
+    int[] frameEnds() {
+        return frameEnds;
+    }
+
+    // ============ GETTERS ============
+
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return Duración de un ciclo completo en milisegundos
+     */
+    public int getDuration() {
+        return frameEnds[frameEnds.length - 1];
+    }
+
+    /**
+     * @return Bytes de píxeles de los cuadros sin componer
+     */
+    public long getByteSize() {
+        long bytes = 0;
+        for (BufferedImage frame : frames) {
+            DataBuffer buffer = frame.getRaster().getDataBuffer();
+            bytes += (long) buffer.getSize() * DataBuffer.getDataTypeSize(buffer.getDataType()) / Byte.SIZE;
+        }
+        return bytes;
+    }
+
+    /**
+     * @return Lienzo nuevo, antes del primer cuadro
+     */
+    public Canvas newCanvas() {
+        return new Canvas();
+    }
+
+    // ============ COMPOSICIÓN ============
+
+    /**
+     * Lienzo donde se componen los cuadros en orden, como lo haría un navegador:
+     * cada cuadro se dibuja sobre lo que dejó el anterior después de aplicar su
+     * método de eliminación. Cada uno es de quien reproduce la animación; no se
+     * comparte entre hilos.
+     */
+    public final class Canvas {
+        private final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        private BufferedImage previous; // Copia para "restoreToPrevious"
+        private int frame = -1;
+
+        private Canvas() {
+        }
+
+        /**
+         * Compone hasta llegar a un cuadro; si es anterior al actual, vuelve a
+         * empezar el ciclo desde el primero
+         * @param target Cuadro que debe quedar en el lienzo
+         */
+        public void advanceTo(int target) {
+            if (target < frame) {
+                Graphics2D g = image.createGraphics();
+                try {
+                    g.setComposite(AlphaComposite.Clear);
+                    g.fillRect(0, 0, width, height);
+                } finally {
+                    g.dispose();
+                }
+                frame = -1;
+            }
+            if (frame >= target) {
+                return;
+            }
+            Graphics2D g = image.createGraphics();
+            try {
+                while (frame < target) {
+                    if (frame >= 0) {
+                        dispose(g, frame);
+                    }
+                    frame++;
+                    if (disposals[frame] == DISPOSE_PREVIOUS) {
+                        previous = copyOf(image, previous);
+                    }
+                    g.drawImage(frames[frame], frameX[frame], frameY[frame], null);
+                }
+            } finally {
+                g.dispose();
+            }
+        }
+
+        /**
+         * Deja el lienzo listo para el cuadro siguiente
+         */
+        private void dispose(Graphics2D g, int shown) {
+            if (disposals[shown] == DISPOSE_BACKGROUND) {
+                g.setComposite(AlphaComposite.Clear);
+                g.fillRect(frameX[shown], frameY[shown], frames[shown].getWidth(), frames[shown].getHeight());
+                g.setComposite(AlphaComposite.SrcOver);
+            } else if (disposals[shown] == DISPOSE_PREVIOUS) {
+                g.setComposite(AlphaComposite.Src);
+                g.drawImage(previous, 0, 0, null);
+                g.setComposite(AlphaComposite.SrcOver);
+            }
+        }
+
+        /**
+         * @return Imagen del cuadro compuesto (cambia al avanzar; no debe modificarse)
+         */
+        public BufferedImage getImage() {
+            return image;
+        }
+
+        /**
+         * @return Cuadro compuesto ahora, o -1 antes del primero
+         */
+        public int getFrame() {
+            return frame;
+        }
+    }
+
+    private static BufferedImage copyOf(BufferedImage source, BufferedImage reuse) {
+        BufferedImage copy = reuse != null ? reuse
+                : new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        source.copyData(copy.getRaster());
+        return copy;
+    }
+}
@@ -0,0 +1,142 @@
+package Presentation;
+
+import java.awt.Graphics;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import javax.swing.JLabel;
+import javax.swing.SwingUtilities;
+
+/**
+ * Etiqueta que muestra un GIF animado estirado a su tamaño, para fondos y
+ * pantallas completas. A ese tamaño un atlas con todos los cuadros (GifSprite)
+ * no cabría en memoria, así que los cuadros sin componer salen de ImageCache
+ * (GifAnimation), se componen en orden sobre un lienzo propio y, solo cuando
+ * cambia el cuadro o el tamaño, el lienzo se escala una vez a un buffer
+ * compatible con la pantalla. Repintar (por ejemplo al pasar el ratón por un
+ * botón encima) es una copia de ese buffer.
+ *
+ * Avanza con SpriteClock. Mientras la ventana se arrastra no se reescala: se
+ * estira el buffer del último tamaño.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public class GifBackground extends JLabel implements SpriteClock.Animated {
+    private static final long serialVersionUID = 1L;
+
+    private GifAnimation animation; // null si el GIF no existe
+    private GifAnimation.Canvas canvas; // Se crea al pintar por primera vez
+    private BufferedImage buffer; // Cuadro actual ya escalado
+    private boolean stale = true; // El buffer no muestra el cuadro actual
+    private int frame;
+    private long start; // Instante del reloj en que empezó la animación
+
+    /**
+     * Etiqueta sin GIF todavía (ver setAnimation)
+     */
+    public GifBackground() {
+    }
+
+    /**
+     * @param path Ruta del GIF
+     */
+    public GifBackground(String path) {
+        setAnimation(path);
+    }
+
+    /**
+     * Cambia el GIF que se muestra y lo empieza desde el primer cuadro
+     * @param path Ruta del GIF
+     */
+    public void setAnimation(String path) {
+        animation = ImageCache.shared().getAnimation(path);
+        canvas = null;
+        buffer = null;
+        stale = true;
+        frame = 0;
+        start = SpriteClock.shared().now();
+        repaint();
+    }
+
+    /**
+     * @return true si el GIF existe y se pudo decodificar
+     */
+    public boolean hasAnimation() {
+        return animation != null;
+    }
+
+    /**
+     * Llamado por el reloj: solo hay trabajo si cambió el cuadro
+     */
+    @Override
+    public void advance(long time) {
+        if (animation == null) {
+            return;
+        }
+        int next = animation.frameAt(time - start);
+        if (next != frame) {
+            frame = next;
+            stale = true;
+            repaint();
+        }
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        SpriteClock.shared().register(this);
+    }
+
+    @Override
+    public void removeNotify() {
+        SpriteClock.shared().unregister(this);
+        super.removeNotify();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int width = getWidth();
+        int height = getHeight();
+        if (animation == null || width <= 0 || height <= 0) {
+            super.paintComponent(g); // Texto o color de respaldo
+            return;
+        }
+        boolean resized = buffer == null || buffer.getWidth() != width || buffer.getHeight() != height;
+        if (resized && buffer != null && isWindowResizing()) {
+            // Durante el arrastre se sigue dibujando al tamaño anterior y se estira
+            width = buffer.getWidth();
+            height = buffer.getHeight();
+            resized = false;
+        }
+        if (resized || stale) {
+            render(width, height);
+        }
+        if (buffer.getWidth() == getWidth() && buffer.getHeight() == getHeight()) {
+            g.drawImage(buffer, 0, 0, null);
+        } else {
+            g.drawImage(buffer, 0, 0, getWidth(), getHeight(), null);
+        }
+    }
+
+    /**
+     * Compone el cuadro actual y lo escala al buffer
+     */
+    private void render(int width, int height) {
+        if (canvas == null) {
+            canvas = animation.newCanvas();
+        }
+        canvas.advanceTo(frame);
+        if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height) {
+            buffer = ImageScaler.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        // Vecino más cercano: el bilineal a pantalla completa tarda más que lo que dura un cuadro
+        ImageScaler.scaleInto(canvas.getImage(), buffer, ImageScaler.Filter.PIXEL_ART);
+        stale = false;
+    }
+
+    private boolean isWindowResizing() {
+        BasePanel panel = (BasePanel) SwingUtilities.getAncestorOfClass(BasePanel.class, this);
+        return panel != null && panel.isResizing();
+    }
+}
@@ -0,0 +1,149 @@
+package Presentation;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * GIF animado decodificado una sola vez en un atlas: todos sus cuadros ya
+ * compuestos (GifAnimation aplica la posición y el método de eliminación de
+ * cada uno) en una cuadrícula dentro de una única imagen compatible con la
+ * pantalla, junto con el instante en que termina cada cuadro. Dibujar un
+ * cuadro es copiar un rectángulo del atlas; qué cuadro toca lo decide SpriteClock.
+ *
+ * Es inmutable, así que puede compartirse entre etiquetas y guardarse en ImageCache.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class GifSprite {
+    private final BufferedImage atlas;
+    private final int frameWidth;
+    private final int frameHeight;
+    private final int columns;
+    private final int[] frameEnds; // Milisegundos desde el inicio del ciclo hasta el fin de cada cuadro
+
+    private GifSprite(BufferedImage atlas, int frameWidth, int frameHeight, int columns, int[] frameEnds) {
+        this.atlas = atlas;
+        this.frameWidth = frameWidth;
+        this.frameHeight = frameHeight;
+        this.columns = columns;
+        this.frameEnds = frameEnds;
+    }
+
+    // ============ DECODIFICACIÓN ============
+
+    /**
+     * Decodifica todos los cuadros de un GIF
+     * @param input Contenido del GIF (se lee completo, no se cierra)
+     * @return Sprite con el atlas y los tiempos
+     * @throws IOException Si no se puede leer o no es un GIF
+     */
+    public static GifSprite decode(InputStream input) throws IOException {
+        return compose(GifAnimation.decode(input));
+    }
+
+    /**
+     * Compone los cuadros en orden y copia cada resultado a su casilla del atlas
+     */
+    private static GifSprite compose(GifAnimation animation) {
+        int count = animation.getFrameCount();
+        int width = animation.getWidth();
+        int height = animation.getHeight();
+        int columns = (int) Math.ceil(Math.sqrt(count)); // Cuadrícula: un atlas en tira sería demasiado ancho
+        int rows = (count + columns - 1) / columns;
+        BufferedImage atlas = ImageScaler.createCompatibleImage(columns * width, rows * height, Transparency.TRANSLUCENT);
+        GifAnimation.Canvas canvas = animation.newCanvas();
+
+        Graphics2D atlasGraphics = atlas.createGraphics();
+        atlasGraphics.setComposite(AlphaComposite.Src);
+        try {
+            for (int i = 0; i < count; i++) {
+                canvas.advanceTo(i);
+                atlasGraphics.drawImage(canvas.getImage(), (i % columns) * width, (i / columns) * height, null);
+            }
+        } finally {
+            atlasGraphics.dispose();
+        }
+        return new GifSprite(atlas, width, height, columns, animation.frameEnds());
+    }
+
+    // ============ ESCALADO ============
+
+    /**
+     * Mismo sprite con cada cuadro escalado (vecino más cercano, como pixel art)
+     * @param width Ancho de cada cuadro
+     * @param height Alto de cada cuadro
+     * @return Sprite nuevo con los mismos tiempos
+     */
+    public GifSprite scaled(int width, int height) {
+        if (width == frameWidth && height == frameHeight) {
+            return this;
+        }
+        // Con vecino más cercano y casillas de tamaño entero, ningún cuadro toma píxeles del vecino
+        int rows = (frameEnds.length + columns - 1) / columns;
+        BufferedImage scaledAtlas = ImageScaler.scale(atlas, columns * width, rows * height,
+                ImageScaler.Filter.PIXEL_ART);
+        return new GifSprite(scaledAtlas, width, height, columns, frameEnds);
+    }
+
+    // ============ CUADROS ============
+
+    /**
+     * @param elapsedMillis Tiempo desde que empezó la animación
+     * @return Cuadro que se ve en ese instante (la animación se repite)
+     */
+    public int frameAt(long elapsedMillis) {
+        return GifAnimation.frameAt(frameEnds, elapsedMillis);
+    }
+
+    /**
+     * Dibuja un cuadro copiando su casilla del atlas
+     */
+    public void drawFrame(Graphics g, int frame, int x, int y) {
+        int sourceX = (frame % columns) * frameWidth;
+        int sourceY = (frame / columns) * frameHeight;
+        g.drawImage(atlas, x, y, x + frameWidth, y + frameHeight,
+                sourceX, sourceY, sourceX + frameWidth, sourceY + frameHeight, null);
+    }
+
+    /**
+     * @param frame Índice del cuadro
+     * @return Vista del cuadro dentro del atlas (no debe modificarse)
+     */
+    public BufferedImage getFrame(int frame) {
+        return atlas.getSubimage((frame % columns) * frameWidth, (frame / columns) * frameHeight,
+                frameWidth, frameHeight);
+    }
+
+    public int getFrameCount() {
+        return frameEnds.length;
+    }
+
+    public int getWidth() {
+        return frameWidth;
+    }
+
+    public int getHeight() {
+        return frameHeight;
+    }
+
+    /**
+     * @return Duración de un ciclo completo en milisegundos
+     */
+    public int getDuration() {
+        return frameEnds[frameEnds.length - 1];
+    }
+
+    /**
+     * @return Bytes de píxeles del atlas
+     */
+    public long getByteSize() {
+        return (long) atlas.getWidth() * atlas.getHeight() * Integer.BYTES;
+    }
+}
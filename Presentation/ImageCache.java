@@ -0,0 +1,427 @@
+package Presentation;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import javax.imageio.ImageIO;
+
+/**
+ * Caché de imágenes compartida por todos los paneles.
+ * Guarda las imágenes decodificadas por ruta y sus versiones escaladas por
+ * (ruta, ancho, alto), así que repintar o volver a un tamaño ya usado no lee
+ * el disco ni vuelve a escalar. Cuando las imágenes superan el presupuesto de
+ * bytes se descartan las usadas hace más tiempo. Las imágenes fijas se guardan
+ * ya en el formato de la pantalla (ImageScaler), así que dibujarlas es una copia.
+ * Los sprites animados (GifSprite) y los cuadros de los fondos animados
+ * (GifAnimation) comparten el mismo presupuesto.
+ *
+ * Cada imagen se decodifica una sola vez aunque la pidan varios hilos a la vez
+ * (por ejemplo AssetPreloader y el hilo de eventos): el primero la decodifica y
+ * los demás esperan su resultado en lugar de repetir el trabajo.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class ImageCache {
+    public static final long DEFAULT_BUDGET = 64L * 1024 * 1024; // 64 MB de píxeles
+
+    private static final ImageCache SHARED = new ImageCache(DEFAULT_BUDGET);
+
+    // Clases de entrada: la imagen tal cual, escalada (suave o pixel art), un GIF sin componer o un sprite en atlas
+    private static final int SOURCE = 0;
+    private static final int SCALED = 1;
+    private static final int PIXEL_SCALED = 2;
+    private static final int ANIMATION = 3;
+    private static final int SPRITE = 4;
+    private static final int SPRITE_SCALED = 5;
+
+    private final long budget;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true); // Orden de uso
+    private final Set<String> missing = new HashSet<>(); // Rutas que no existen, para no buscarlas otra vez
+    private final Map<Key, FutureTask<Object>> pending = new HashMap<>(); // Decodificaciones en curso
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param budget Bytes máximos de píxeles que se conservan
+     */
+    public ImageCache(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * @return Caché compartida por toda la interfaz
+     */
+    public static ImageCache shared() {
+        return SHARED;
+    }
+
+    // ============ CONSULTAS ============
+
+    /**
+     * Imagen decodificada en el formato de la pantalla, leída del disco solo la
+     * primera vez. No debe modificarse.
+     * @param path Ruta del recurso (o del archivo)
+     * @return La imagen, o null si no existe o no se puede leer
+     */
+    public BufferedImage getImage(String path) {
+        if (isMissing(path)) {
+            return null;
+        }
+        Key key = new Key(SOURCE, path, -1, -1);
+        return (BufferedImage) load(key, () -> {
+            BufferedImage image = decode(path);
+            if (image == null) {
+                markMissing(path);
+                return null;
+            }
+            image = ImageScaler.toCompatible(image);
+            return store(key, image, sizeOf(image.getWidth(), image.getHeight()));
+        });
+    }
+
+    /**
+     * Imagen escalada con filtro suave; cada tamaño se escala una sola vez
+     * @param path Ruta del recurso
+     * @param width Ancho deseado
+     * @param height Alto deseado
+     * @return La imagen escalada, o null si no existe
+     */
+    public BufferedImage getScaled(String path, int width, int height) {
+        return getScaled(path, width, height, ImageScaler.Filter.SMOOTH);
+    }
+
+    /**
+     * Imagen escalada a un tamaño; cada tamaño y filtro se escala una sola vez
+     * @param path Ruta del recurso
+     * @param width Ancho deseado
+     * @param height Alto deseado
+     * @param filter SMOOTH o PIXEL_ART (sprites)
+     * @return La imagen escalada, o null si no existe
+     */
+    public BufferedImage getScaled(String path, int width, int height, ImageScaler.Filter filter) {
+        Key key = new Key(filter == ImageScaler.Filter.PIXEL_ART ? PIXEL_SCALED : SCALED, path, width, height);
+        return (BufferedImage) load(key, () -> {
+            BufferedImage source = getImage(path);
+            if (source == null) {
+                return null;
+            }
+            if (source.getWidth() == width && source.getHeight() == height) {
+                return store(key, source, 0); // Misma imagen: no ocupa más
+            }
+            BufferedImage scaled = ImageScaler.scale(source, width, height, filter);
+            return store(key, scaled, sizeOf(width, height));
+        });
+    }
+
+    /**
+     * GIF animado con sus cuadros sin componer (para GifBackground), decodificado
+     * una sola vez
+     * @param path Ruta del GIF
+     * @return La animación, o null si no existe o no se puede leer
+     */
+    public GifAnimation getAnimation(String path) {
+        if (isMissing(path)) {
+            return null;
+        }
+        Key key = new Key(ANIMATION, path, -1, -1);
+        return (GifAnimation) load(key, () -> {
+            GifAnimation animation = decodeAnimation(path);
+            if (animation == null) {
+                markMissing(path);
+                return null;
+            }
+            return store(key, animation, animation.getByteSize());
+        });
+    }
+
+    /**
+     * Sprite animado con todos sus cuadros, decodificado una sola vez
+     * @param path Ruta del GIF
+     * @return El sprite, o null si no existe o no se puede leer
+     */
+    public GifSprite getSprite(String path) {
+        if (isMissing(path)) {
+            return null;
+        }
+        Key key = new Key(SPRITE, path, -1, -1);
+        return (GifSprite) load(key, () -> {
+            GifSprite sprite = decodeSprite(path);
+            if (sprite == null) {
+                markMissing(path);
+                return null;
+            }
+            return store(key, sprite, sprite.getByteSize());
+        });
+    }
+
+    /**
+     * Sprite animado con cada cuadro escalado a un tamaño
+     * @param path Ruta del GIF
+     * @param width Ancho de cada cuadro
+     * @param height Alto de cada cuadro
+     * @return El sprite escalado, o null si no existe
+     */
+    public GifSprite getSprite(String path, int width, int height) {
+        Key key = new Key(SPRITE_SCALED, path, width, height);
+        return (GifSprite) load(key, () -> {
+            GifSprite source = getSprite(path);
+            if (source == null) {
+                return null;
+            }
+            GifSprite scaled = source.scaled(width, height);
+            return store(key, scaled, scaled == source ? 0 : scaled.getByteSize());
+        });
+    }
+
+    /**
+     * Descarta todo lo guardado (por ejemplo si los recursos cambian en disco)
+     */
+    public synchronized void clear() {
+        entries.clear();
+        missing.clear();
+        bytes = 0;
+    }
+
+    // ============ ESTADÍSTICAS ============
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return Bytes de píxeles guardados ahora mismo
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ImageCache[" + entries.size() + " images, " + bytes / 1024 + "/" + budget / 1024 + " KB, "
+                + hits + " hits, " + misses + " misses, " + evictions + " evictions]";
+    }
+
+    // ============ INTERNOS ============
+
+    /**
+     * Devuelve lo guardado para una clave o lo carga. Si otro hilo ya la está
+     * cargando, espera a que termine y comparte su resultado.
+     * @param loader Decodifica o escala, guarda con store y devuelve lo guardado (o null)
+     */
+    private Object load(Key key, Callable<Object> loader) {
+        FutureTask<Object> task;
+        boolean owner = false;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits++;
+                return entry.value;
+            }
+            task = pending.get(key);
+            if (task == null) {
+                misses++;
+                task = new FutureTask<>(loader);
+                pending.put(key, task);
+                owner = true;
+            } else {
+                hits++; // Llega mientras otro hilo la decodifica: no se decodifica otra vez
+            }
+        }
+        if (owner) {
+            try {
+                task.run(); // Fuera del cerrojo: los demás hilos siguen usando la caché
+            } finally {
+                synchronized (this) {
+                    pending.remove(key);
+                }
+            }
+        }
+        return await(task);
+    }
+
+    /**
+     * Espera el resultado de una carga sin dejarse interrumpir (el hilo de eventos
+     * no puede quedarse sin la imagen) y conserva el aviso de interrupción
+     */
+    private static Object await(FutureTask<Object> task) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new IllegalStateException(cause);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Guarda una imagen y descarta las menos usadas hasta volver al presupuesto.
+     * Si otro hilo la guardó mientras se decodificaba, se queda la suya.
+     */
+    private synchronized Object store(Key key, Object value, long size) {
+        Entry existing = entries.get(key);
+        if (existing != null) {
+            return existing.value;
+        }
+        entries.put(key, new Entry(value, size));
+        bytes += size;
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while (bytes > budget && eldest.hasNext()) {
+            Map.Entry<Key, Entry> candidate = eldest.next();
+            if (candidate.getKey().equals(key)) {
+                break; // La recién guardada es la más reciente; no queda nada más viejo
+            }
+            bytes -= candidate.getValue().size;
+            eldest.remove();
+            evictions++;
+        }
+        return value;
+    }
+
+    private synchronized boolean isMissing(String path) {
+        return missing.contains(path);
+    }
+
+    private synchronized void markMissing(String path) {
+        missing.add(path);
+    }
+
+    private static long sizeOf(int width, int height) {
+        return (long) Math.max(width, 1) * Math.max(height, 1) * Integer.BYTES; // Píxeles ARGB
+    }
+
+    private static BufferedImage decode(String path) {
+        try {
+            URL resource = ImageCache.class.getResource(path);
+            if (resource != null) {
+                return ImageIO.read(resource);
+            }
+            File file = new File(path);
+            if (file.exists()) {
+                return ImageIO.read(file);
+            }
+        } catch (IOException e) {
+            System.err.println("Error cargando imagen: " + path);
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    private static GifSprite decodeSprite(String path) {
+        try (InputStream input = open(path)) {
+            if (input != null) {
+                return GifSprite.decode(input);
+            }
+        } catch (IOException e) {
+            System.err.println("Error cargando sprite: " + path);
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    private static GifAnimation decodeAnimation(String path) {
+        try (InputStream input = open(path)) {
+            if (input != null) {
+                return GifAnimation.decode(input);
+            }
+        } catch (IOException e) {
+            System.err.println("Error cargando GIF: " + path);
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * @return El recurso (o, si no hay, el archivo) abierto, o null si no existe
+     */
+    private static InputStream open(String path) throws IOException {
+        URL resource = ImageCache.class.getResource(path);
+        if (resource != null) {
+            return resource.openStream();
+        }
+        File file = new File(path);
+        return file.exists() ? new FileInputStream(file) : null;
+    }
+
+    private static final class Key {
+        private final int kind;
+        private final String path;
+        private final int width;
+        private final int height;
+
+        private Key(int kind, String path, int width, int height) {
+            this.kind = kind;
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return kind == key.kind && width == key.width && height == key.height && path.equals(key.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, path, width, height);
+        }
+    }
+
+    private static final class Entry {
+        private final Object value; // Image, GifAnimation o GifSprite
+        private final long size;
+
+        private Entry(Object value, long size) {
+            this.value = value;
+            this.size = size;
+        }
+    }
+}
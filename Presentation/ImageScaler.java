@@ -0,0 +1,149 @@
+package Presentation;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Escalado de imágenes a buffers compatibles con la pantalla.
+ * El resultado ya está en el formato de píxel nativo, así que dibujarlo es una
+ * copia directa. Las imágenes normales se reducen a la mitad con bilineal
+ * paso a paso hasta acercarse al tamaño pedido (un solo paso bilineal pierde
+ * detalle al reducir mucho); los sprites de pixel art se escalan con vecino
+ * más cercano para que no se vean borrosos.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class ImageScaler {
+
+    /**
+     * Cómo se interpolan los píxeles
+     */
+    public enum Filter {
+        SMOOTH,     // Fondos, logotipos, botones
+        PIXEL_ART   // Sprites: vecino más cercano
+    }
+
+    private static volatile GraphicsConfiguration configuration;
+
+    private ImageScaler() {
+    }
+
+    /**
+     * Escala una imagen ya cargada
+     * @param source Imagen de origen (completamente cargada, por ejemplo de ImageCache)
+     * @param width Ancho deseado
+     * @param height Alto deseado
+     * @param filter SMOOTH o PIXEL_ART
+     * @return Imagen nueva compatible con la pantalla, del tamaño pedido
+     */
+    public static BufferedImage scale(Image source, int width, int height, Filter filter) {
+        width = Math.max(width, 1);
+        height = Math.max(height, 1);
+        int transparency = transparencyOf(source);
+        if (filter == Filter.PIXEL_ART) {
+            return draw(source, width, height, transparency, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        }
+
+        // Reducir a la mitad mientras el paso siguiente no quede por debajo del tamaño pedido
+        Image current = source;
+        int currentWidth = source.getWidth(null);
+        int currentHeight = source.getHeight(null);
+        while (currentWidth / 2 >= width || currentHeight / 2 >= height) {
+            currentWidth = Math.max(currentWidth / 2, width);
+            currentHeight = Math.max(currentHeight / 2, height);
+            current = draw(current, currentWidth, currentHeight, transparency,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        if (currentWidth == width && currentHeight == height && current != source) {
+            return (BufferedImage) current;
+        }
+        return draw(current, width, height, transparency, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    }
+
+    /**
+     * Escala una imagen dentro de un buffer ya creado, en una sola pasada y sin
+     * imágenes intermedias (para redibujar cada cuadro de una animación)
+     * @param source Imagen de origen
+     * @param target Buffer de destino; se cubre entero
+     * @param filter SMOOTH o PIXEL_ART
+     */
+    public static void scaleInto(Image source, BufferedImage target, Filter filter) {
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, filter == Filter.PIXEL_ART
+                    ? RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR : RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, target.getWidth(), target.getHeight(), null);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Copia una imagen al formato de la pantalla sin cambiar su tamaño
+     * @param source Imagen de origen
+     * @return La misma imagen si ya era compatible, o una copia compatible
+     */
+    public static BufferedImage toCompatible(BufferedImage source) {
+        GraphicsConfiguration config = getConfiguration();
+        if (config != null && source.getColorModel().equals(config.getColorModel(source.getTransparency()))) {
+            return source;
+        }
+        return draw(source, source.getWidth(), source.getHeight(), source.getTransparency(),
+                RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+    }
+
+    /**
+     * Buffer vacío en el formato de la pantalla (o ARGB si no hay pantalla)
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        GraphicsConfiguration config = getConfiguration();
+        if (config != null) {
+            return config.createCompatibleImage(width, height, transparency);
+        }
+        return new BufferedImage(width, height,
+                transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static BufferedImage draw(Image source, int width, int height, int transparency, Object interpolation) {
+        BufferedImage target = createCompatibleImage(width, height, transparency);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src); // Copiar la transparencia tal cual
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static int transparencyOf(Image image) {
+        if (image instanceof Transparency) {
+            return ((Transparency) image).getTransparency();
+        }
+        return Transparency.TRANSLUCENT;
+    }
+
+    /**
+     * Configuración de la pantalla principal, o null si no hay pantalla
+     */
+    private static GraphicsConfiguration getConfiguration() {
+        GraphicsConfiguration config = configuration;
+        if (config == null && !GraphicsEnvironment.isHeadless()) {
+            config = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDefaultConfiguration();
+            configuration = config;
+        }
+        return config;
+    }
+}
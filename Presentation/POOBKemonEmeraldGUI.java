@@ -7,8 +7,17 @@ import java.awt.event.ComponentEvent;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
+import Domain.GameData;
+import Domain.GameSaveWriter;
+import Domain.POOBkemonEmerald;
+import Domain.Trainer;
 
 /**
  * Clase principal de la GUI del juego POOBKemon Emerald.
@@ -21,17 +30,40 @@ public class POOBKemonEmeraldGUI extends JFrame {
     private CardLayout cardLayout;
     private JPanel mainContainer;
     private Map<String, BasePanel> panels; // Registro de todos los paneles
+    private Map<String, Supplier<BasePanel>> panelFactories; // Paneles que se crean al necesitarlos
+    private AssetPreloader preloader; // Carga de recursos durante la introducción
+    private Timer resizeTimer; // Espera a que el arrastre del borde se detenga
     private JMenuBar menuBar;
     private JMenu fileMenu;
     private JMenuItem saveItem;
     private JMenuItem openItem;
     private JMenuItem exitItem;
+    private JLabel saveStatusLabel; // Indicador de guardado en la barra de menú
+    private POOBkemonEmerald game; // Partida en curso (null hasta que se cree o se abra una)
+    private String selectedMode; // Modo elegido en GameMode ("NORMAL" o "SURVIVAL"); null si aún no hay
+    private final GameSaveWriter saveWriter; // Escribe las partidas fuera del hilo de la interfaz
+    
+    private static final long EXIT_SAVE_TIMEOUT = 5000; // Espera máxima por los guardados pendientes al salir (ms)
+    private static final String SPRITE_FOLDER = "/Resources/Pokemons/";
+    private static final int PRELOADED_SPRITES = 12; // Sprites de las primeras especies de la lista
+    private static final int RESIZE_SETTLE_DELAY = 150; // ms sin cambios de tamaño para dar el arrastre por terminado
     
     /**
      * Constructor privado para implementar el patrón Singleton
      */
     private POOBKemonEmeraldGUI() {
         panels = new HashMap<>();
+        panelFactories = new LinkedHashMap<>();
+        saveWriter = new GameSaveWriter((file, error) ->
+            SwingUtilities.invokeLater(() -> saveFinished(file, error)));
+        // Al salir (menú o cerrar la ventana) no perder un guardado que aún se está escribiendo
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                saveWriter.flush(EXIT_SAVE_TIMEOUT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
         initializeFrame();
     }
     
@@ -72,13 +104,21 @@ public class POOBKemonEmeraldGUI extends JFrame {
         
         add(mainContainer);
         
-        // Listener para manejar cambios de tamaño
+        // Listener para manejar cambios de tamaño: mientras se arrastra solo se
+        // recoloca; el reescalado se hace una vez cuando el tamaño se estabiliza
+        resizeTimer = new Timer(RESIZE_SETTLE_DELAY, e -> {
+            if (currentPanel != null) {
+                currentPanel.onResize(getSize());
+            }
+        });
+        resizeTimer.setRepeats(false);
         addComponentListener(new ComponentAdapter() {
             @Override
             public void componentResized(ComponentEvent e) {
                 if (currentPanel != null) {
-                    currentPanel.onResize(getSize());
+                    currentPanel.onResizing(getSize());
                 }
+                resizeTimer.restart();
             }
         });
     }
@@ -142,6 +182,13 @@ public class POOBKemonEmeraldGUI extends JFrame {
         // Añadir menú a la barra
         menuBar.add(fileMenu);
         
+        // Indicador de guardado, a la derecha de la barra
+        saveStatusLabel = new JLabel(" ");
+        saveStatusLabel.setFont(menuFont);
+        saveStatusLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 0, 10));
+        menuBar.add(Box.createHorizontalGlue());
+        menuBar.add(saveStatusLabel);
+        
         // Establecer la barra de menú en el JFrame
         setJMenuBar(menuBar);
     }
@@ -173,11 +220,44 @@ public class POOBKemonEmeraldGUI extends JFrame {
                 selectedFile = new File(selectedFile.getAbsolutePath() + ".pkmn");
             }
             
-            // TODO: Implementar la lógica real de guardado aquí
-            JOptionPane.showMessageDialog(this, 
-                "Game saved successfully to:\n" + selectedFile.getAbsolutePath(),
-                "Save Successful", 
-                JOptionPane.INFORMATION_MESSAGE);
+            if (game == null) {
+                JOptionPane.showMessageDialog(this,
+                    "There is no game in progress to save.",
+                    "Save Failed",
+                    JOptionPane.WARNING_MESSAGE);
+                return;
+            }
+            
+            // Se copia la partida aquí y se escribe en segundo plano; el resultado llega a saveFinished
+            try {
+                saveWriter.submit(game, selectedFile.toPath());
+                saveStatusLabel.setText("Saving...");
+                saveStatusLabel.setToolTipText(selectedFile.getAbsolutePath());
+            } catch (IOException e) {
+                JOptionPane.showMessageDialog(this,
+                    "Could not save the game:\n" + e.getMessage(),
+                    "Save Failed",
+                    JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+    
+    /**
+     * Actualiza el indicador cuando el escritor termina un guardado
+     * @param file Archivo escrito
+     * @param error null si se guardó, o el motivo del fallo
+     */
+    private void saveFinished(Path file, IOException error) {
+        if (error != null) {
+            saveStatusLabel.setText("Save failed");
+            saveStatusLabel.setToolTipText(error.getMessage());
+            JOptionPane.showMessageDialog(this,
+                "Could not save the game:\n" + error.getMessage(),
+                "Save Failed",
+                JOptionPane.ERROR_MESSAGE);
+        } else if (!saveWriter.isBusy()) {
+            saveStatusLabel.setText("Saved");
+            saveStatusLabel.setToolTipText(file.toAbsolutePath().toString());
         }
     }
     
@@ -202,12 +282,37 @@ public class POOBKemonEmeraldGUI extends JFrame {
         int result = fileChooser.showOpenDialog(this);
         if (result == JFileChooser.APPROVE_OPTION) {
             File selectedFile = fileChooser.getSelectedFile();
+            Path file = selectedFile.toPath();
             
-            // TODO: Implementar la lógica real de carga aquí
-            JOptionPane.showMessageDialog(this, 
-                "Game loaded successfully from:\n" + selectedFile.getAbsolutePath(),
-                "Load Successful", 
-                JOptionPane.INFORMATION_MESSAGE);
+            // Suelta el diario de la partida actual antes de abrir otra (puede ser el mismo archivo)
+            POOBkemonEmerald previous = game;
+            if (previous != null) {
+                previous.disableAutosave();
+            }
+            try {
+                POOBkemonEmerald opened;
+                if (POOBkemonEmerald.hasJournal(file)) {
+                    // Autoguardado: la instantánea más las acciones del diario; sigue autoguardando ahí
+                    opened = POOBkemonEmerald.recover(POOBkemonEmerald.autosaveBaseOf(file));
+                } else {
+                    opened = POOBkemonEmerald.load(file);
+                    startAutosave(opened);
+                }
+                setGame(opened);
+                JOptionPane.showMessageDialog(this, 
+                    "Game loaded successfully from:\n" + selectedFile.getAbsolutePath(),
+                    "Load Successful", 
+                    JOptionPane.INFORMATION_MESSAGE);
+            } catch (IOException e) {
+                if (previous != null) {
+                    startAutosave(previous);
+                }
+                JOptionPane.showMessageDialog(this,
+                    "Could not load the game:\n" + e.getMessage(),
+                    "Load Failed",
+                    JOptionPane.ERROR_MESSAGE);
+                return;
+            }
             
             // Por ejemplo, podrías cambiar al panel del juego
             // switchToPanel("GAME_PANEL");
@@ -235,8 +340,17 @@ public class POOBKemonEmeraldGUI extends JFrame {
      */
     public void switchToPanel(String panelName) {
         BasePanel panel = panels.get(panelName);
+        if (panel == null) {
+            panel = createRegisteredPanel(panelName);
+        }
         if (panel != null) {
             currentPanel = panel;
+            // Los paneles ocultos no reciben cambios de tamaño; ponerlo al día si quedó atrás
+            if (resizeTimer.isRunning()) {
+                panel.onResizing(getSize());
+            } else {
+                panel.onResize(getSize());
+            }
             cardLayout.show(mainContainer, panelName);
         } else {
             System.err.println("Panel not found: " + panelName);
@@ -254,6 +368,67 @@ public class POOBKemonEmeraldGUI extends JFrame {
         panel.onResize(getSize());
     }
     
+    /**
+     * Registra un panel que se creará la primera vez que se muestre (o cuando
+     * termine la precarga, lo que ocurra antes)
+     * @param name El nombre identificador del panel
+     * @param factory Crea el panel; se llama una sola vez, en el hilo de eventos
+     */
+    public void registerPanel(String name, Supplier<BasePanel> factory) {
+        panelFactories.put(name, factory);
+    }
+    
+    private BasePanel createRegisteredPanel(String name) {
+        Supplier<BasePanel> factory = panelFactories.remove(name);
+        if (factory == null) {
+            return null;
+        }
+        BasePanel panel = factory.get();
+        addPanel(panel, name);
+        return panel;
+    }
+    
+    /**
+     * Crea los paneles registrados que faltan, uno por evento para no detener la
+     * introducción; con los recursos ya en caché cada uno tarda poco
+     */
+    private void buildPendingPanels() {
+        Iterator<String> names = panelFactories.keySet().iterator();
+        if (names.hasNext()) {
+            createRegisteredPanel(names.next());
+            SwingUtilities.invokeLater(this::buildPendingPanels);
+        }
+    }
+    
+    /**
+     * Empieza a cargar en paralelo, mientras se ve la introducción, lo que
+     * necesitarán las pantallas siguientes, en el orden en que se verán
+     * @param presentation Panel de la introducción, que muestra el progreso
+     */
+    private void startPreloading(GamePresentation presentation) {
+        preloader = new AssetPreloader(AssetPreloader.defaultThreads(), (completed, total) -> {
+            presentation.showLoadingProgress(completed, total);
+            if (completed >= total) {
+                buildPendingPanels();
+            }
+        });
+        GamePresentation.preloadAssets(preloader);
+        GameMenu.preloadAssets(preloader);
+        preloader.task(AssetPreloader.MENU, () -> BasePanel.warmGameFont(8f, 10f, 12f, 14f, 16f, 18f, 24f, 32f));
+        CharacterSelection.preloadAssets(preloader);
+        preloader.task(AssetPreloader.BACKGROUND, () -> {
+            // Datos del juego y sprites de las primeras especies
+            try {
+                GameData data = GameData.shared();
+                for (int id = 0; id < Math.min(PRELOADED_SPRITES, data.speciesCount()); id++) {
+                    preloader.sprite(AssetPreloader.BACKGROUND, SPRITE_FOLDER + data.getSpecies(id).getName() + ".gif");
+                }
+            } catch (IOException e) {
+                System.err.println("Error cargando datos del juego: " + e.getMessage());
+            }
+        });
+    }
+    
     /**
      * Remueve un panel del contenedor principal
      * @param name El nombre del panel a remover
@@ -265,6 +440,67 @@ public class POOBKemonEmeraldGUI extends JFrame {
         }
     }
     
+    /**
+     * @return Partida en curso, o null si todavía no hay ninguna
+     */
+    public POOBkemonEmerald getGame() {
+        return game;
+    }
+    
+    /**
+     * Establece la partida en curso (la que guarda el menú File). La anterior deja
+     * de autoguardarse
+     * @param game Partida creada por la interfaz
+     */
+    public void setGame(POOBkemonEmerald game) {
+        if (this.game != null && this.game != game) {
+            this.game.disableAutosave();
+        }
+        this.game = game;
+    }
+    
+    /**
+     * Autoguarda una partida en la ranura de autoguardado (saves/autosave.pkmn y
+     * su diario); si no se puede, la partida sigue sin autoguardado
+     */
+    private void startAutosave(POOBkemonEmerald session) {
+        try {
+            session.enableAutosave(POOBkemonEmerald.getAutosaveBase());
+        } catch (IOException e) {
+            System.err.println("No se pudo activar el autoguardado: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Recuerda el modo elegido en GameMode para crear la partida al confirmar el personaje
+     * @param mode "NORMAL" o "SURVIVAL"
+     */
+    public void setSelectedMode(String mode) {
+        this.selectedMode = mode;
+    }
+    
+    /**
+     * Crea la partida del jugador y la deja como partida en curso. Por ahora solo
+     * el modo supervivencia puede empezar desde la interfaz, porque genera sus
+     * propios equipos; el modo normal aún no tiene pantalla de selección de equipo.
+     * @param playerName Nombre del jugador 1
+     * @return true si se creó la partida
+     */
+    public boolean startNewGame(String playerName) {
+        if (!"SURVIVAL".equals(selectedMode)) {
+            return false;
+        }
+        POOBkemonEmerald created = new POOBkemonEmerald(new Trainer(playerName, null, "Player 1"),
+            new Trainer("Player 2", null, "Player 2"));
+        created.createSurvivalBattle();
+        if (created.getCurrentBattle() == null) {
+            return false; // Sin datos del juego no hay equipos que generar
+        }
+        setGame(created);
+        startAutosave(created);
+        return true;
+    }
+    
     /**
      * Obtiene las dimensiones actuales de la ventana
      * @return Las dimensiones de la ventana
@@ -282,18 +518,19 @@ public class POOBKemonEmeraldGUI extends JFrame {
             
             POOBKemonEmeraldGUI gui = POOBKemonEmeraldGUI.getInstance();
             
-            // Añadir los paneles iniciales
+            // Añadir la presentación; los demás paneles se crean con sus recursos ya precargados
             System.out.println("Adding GamePresentation panel...");
-            gui.addPanel(new GamePresentation(), "GAME_PRESENTATION");
-            
-            System.out.println("Adding GameMenu panel...");
-            gui.addPanel(new GameMenu(), "GAME_MENU");
+            GamePresentation presentation = new GamePresentation();
+            gui.addPanel(presentation, "GAME_PRESENTATION");
             
-            System.out.println("Adding CharacterSelection panel...");
-            gui.addPanel(new CharacterSelection(), "CHARACTER_SELECTION");
+            System.out.println("Registering GameMenu, GameMode, CharacterSelection and Options panels...");
+            gui.registerPanel("GAME_MENU", GameMenu::new);
+            gui.registerPanel("GAME_MODE", GameMode::new);
+            gui.registerPanel("CHARACTER_SELECTION", CharacterSelection::new);
+            gui.registerPanel("OPTIONS", Options::new);
             
-            System.out.println("Adding Options panel...");
-            gui.addPanel(new Options(), "OPTIONS");
+            System.out.println("Preloading assets during the intro...");
+            gui.startPreloading(presentation);
             
             // Iniciar con la presentación
             System.out.println("Switching to GAME_PRESENTATION...");
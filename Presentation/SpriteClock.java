@@ -0,0 +1,99 @@
+package Presentation;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.Timer;
+
+/**
+ * Reloj único de animación de la interfaz. Un solo Timer de Swing avanza todas
+ * las etiquetas de sprite y los fondos animados que están en pantalla; cada
+ * uno solo se repinta si le toca cambiar de cuadro, y los que no se ven (en
+ * otro panel del CardLayout o fuera de la ventana) no hacen nada. Sin nada
+ * registrado el Timer se detiene.
+ *
+ * Todos sus métodos se llaman desde el hilo de eventos de Swing.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public final class SpriteClock {
+    public static final int TICK_MILLIS = 10; // Resolución de los retardos GIF (centésimas de segundo)
+
+    private static final SpriteClock SHARED = new SpriteClock();
+
+    /**
+     * Componente animado por el reloj (SpriteLabel, GifBackground)
+     */
+    interface Animated {
+        /**
+         * Pasa al cuadro que toca en ese instante
+         * @param time Milisegundos del reloj (now)
+         */
+        void advance(long time);
+
+        boolean isShowing();
+    }
+
+    private final List<Animated> labels = new ArrayList<>();
+    private final Timer timer;
+    private final long origin = System.nanoTime();
+
+    private SpriteClock() {
+        timer = new Timer(TICK_MILLIS, e -> tick());
+        timer.setCoalesce(true); // Si el hilo de eventos se retrasa, no acumular ticks
+    }
+
+    /**
+     * @return Reloj compartido por toda la interfaz
+     */
+    public static SpriteClock shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return Milisegundos desde que se creó el reloj; todas las animaciones usan esta base
+     */
+    public long now() {
+        return (System.nanoTime() - origin) / 1_000_000L;
+    }
+
+    /**
+     * Empieza a avanzar una etiqueta (al añadirla a la ventana)
+     */
+    void register(Animated label) {
+        if (!labels.contains(label)) {
+            labels.add(label);
+            if (!timer.isRunning()) {
+                timer.start();
+            }
+        }
+    }
+
+    /**
+     * Deja de avanzar una etiqueta (al quitarla de la ventana)
+     */
+    void unregister(Animated label) {
+        labels.remove(label);
+        if (labels.isEmpty()) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * @return Etiquetas registradas (visibles o no)
+     */
+    public int getRegisteredCount() {
+        return labels.size();
+    }
+
+    private void tick() {
+        long time = now();
+        for (int i = 0; i < labels.size(); i++) {
+            Animated label = labels.get(i);
+            if (label.isShowing()) {
+                label.advance(time);
+            }
+        }
+    }
+}
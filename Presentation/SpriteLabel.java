@@ -0,0 +1,110 @@
+package Presentation;
+
+import java.awt.Dimension;
+import java.awt.Graphics;
+import javax.swing.JLabel;
+
+/**
+ * Etiqueta que muestra un GIF animado como sprite. Los cuadros salen del atlas
+ * compartido en ImageCache, ya escalados al tamaño de la etiqueta, y avanzan
+ * con SpriteClock en lugar de con un animador propio por imagen.
+ *
+ * @author Corso Diego
+ * @author Duran Roger
+ * @version 1.0
+ */
+public class SpriteLabel extends JLabel implements SpriteClock.Animated {
+    private static final long serialVersionUID = 1L;
+
+    private final String path;
+    private GifSprite sprite; // Escalado al tamaño actual; null hasta el primer pintado
+    private int frame = -1;
+    private long start; // Instante del reloj en que empezó la animación
+
+    /**
+     * @param path Ruta del GIF
+     */
+    public SpriteLabel(String path) {
+        this.path = path;
+        GifSprite source = ImageCache.shared().getSprite(path);
+        if (source != null) {
+            setPreferredSize(new Dimension(source.getWidth(), source.getHeight()));
+        }
+    }
+
+    /**
+     * @return true si el GIF existe y se pudo decodificar
+     */
+    public boolean hasSprite() {
+        return ImageCache.shared().getSprite(path) != null;
+    }
+
+    /**
+     * Vuelve a empezar la animación desde el primer cuadro
+     */
+    public void restart() {
+        start = SpriteClock.shared().now();
+        frame = 0;
+        repaint();
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Llamado por el reloj: repinta solo si cambió el cuadro
+     */
+    @Override
+    public void advance(long time) {
+        GifSprite current = currentSprite();
+        if (current == null) {
+            return;
+        }
+        int next = current.frameAt(time - start);
+        if (next != frame) {
+            frame = next;
+            repaint();
+        }
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (frame < 0) {
+            start = SpriteClock.shared().now();
+            frame = 0;
+        }
+        SpriteClock.shared().register(this);
+    }
+
+    @Override
+    public void removeNotify() {
+        SpriteClock.shared().unregister(this);
+        super.removeNotify();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        GifSprite current = currentSprite();
+        if (current != null) {
+            current.drawFrame(g, Math.max(frame, 0) % current.getFrameCount(), 0, 0);
+        }
+    }
+
+    /**
+     * Sprite al tamaño actual de la etiqueta; solo se busca de nuevo si el tamaño cambió
+     */
+    private GifSprite currentSprite() {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+        if (sprite == null || sprite.getWidth() != width || sprite.getHeight() != height) {
+            sprite = ImageCache.shared().getSprite(path, width, height);
+        }
+        return sprite;
+    }
+}